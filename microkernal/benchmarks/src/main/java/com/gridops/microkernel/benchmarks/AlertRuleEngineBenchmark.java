@@ -0,0 +1,90 @@
+package com.gridops.microkernel.benchmarks;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.FieldKey;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AlertRuleEngine#evaluate} with 1/10/100 registered plugins. Plugins are synthetic
+ * price thresholds spread so that roughly one in ten fires on the "spike" event, which keeps
+ * the cost dominated by dispatch rather than alert construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlertRuleEngineBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int pluginCount;
+
+    private AlertRuleEngine engine;
+    private GridOpsEvent spike;
+    private GridOpsEvent quiet;
+
+    @Setup
+    public void setUp() {
+        engine = new AlertRuleEngine();
+        for (int i = 0; i < pluginCount; i++) {
+            engine.registerPlugin(new ThresholdPlugin("bench-threshold-" + i, 100.0 + (i % 10) * 20.0));
+        }
+        spike = BenchmarkEvents.priceSpike();
+        quiet = BenchmarkEvents.priceQuiet();
+    }
+
+    @Benchmark
+    public AlertRuleEngine.EngineResult evaluateSpike() {
+        return engine.evaluate(spike);
+    }
+
+    @Benchmark
+    public AlertRuleEngine.EngineResult evaluateQuiet() {
+        return engine.evaluate(quiet);
+    }
+
+    /** Minimal v2 plugin equivalent to PriceSpikeRulePlugin with a configurable id. */
+    static final class ThresholdPlugin implements RulePlugin {
+        private static final FieldKey PRICE = FieldKey.of("price");
+        private static final Set<String> PAYLOAD_KEYS = Set.of(PRICE.name());
+
+        private final String id;
+        private final double threshold;
+
+        ThresholdPlugin(String id, double threshold) {
+            this.id = id;
+            this.threshold = threshold;
+        }
+
+        @Override public String id() { return id; }
+        @Override public String name() { return id; }
+        @Override public String contractVersion() { return CONTRACT_VERSION_V2; }
+        @Override public Set<String> payloadKeys() { return PAYLOAD_KEYS; }
+
+        @Override
+        public List<Alert> evaluate(GridOpsEvent event) {
+            double price = event.getDouble(PRICE);
+            if (Double.isNaN(price) || price < threshold) return List.of();
+            return List.of(new Alert(id, "threshold", "HIGH", "Price " + price + " >= " + threshold, Instant.now()));
+        }
+    }
+}
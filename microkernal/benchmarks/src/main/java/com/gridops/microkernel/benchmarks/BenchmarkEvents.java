@@ -0,0 +1,52 @@
+package com.gridops.microkernel.benchmarks;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared event fixtures. Payload maps mirror what Jackson produces for a REST body
+ * (LinkedHashMap with Integer/Double/String values).
+ */
+final class BenchmarkEvents {
+
+    static final Instant TIMESTAMP = Instant.parse("2025-02-21T12:00:00Z");
+
+    private BenchmarkEvents() {}
+
+    static Map<String, Object> jsonLikePayload() {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("price", 182.5);
+        payload.put("zone", "NORTH");
+        payload.put("nodeId", "N-1042");
+        payload.put("loadMw", 12500);
+        payload.put("reserveMarginPct", 17.2);
+        return payload;
+    }
+
+    static GridOpsEvent priceSpike() {
+        return new GridOpsEvent("bench-price", "price", TIMESTAMP, Map.of("price", 200.0, "zone", "NORTH"));
+    }
+
+    static GridOpsEvent priceQuiet() {
+        return new GridOpsEvent("bench-price-quiet", "price", TIMESTAMP, Map.of("price", 40.0, "zone", "NORTH"));
+    }
+
+    static GridOpsEvent forecastRamp() {
+        return new GridOpsEvent("bench-ramp", "forecast-ramp", TIMESTAMP, Map.of("rampMw", 650.0, "zone", "NORTH"));
+    }
+
+    static GridOpsEvent forecastQuiet() {
+        return new GridOpsEvent("bench-ramp-quiet", "forecast-ramp", TIMESTAMP, Map.of("rampMw", 120.0, "zone", "NORTH"));
+    }
+
+    static GridOpsEvent outageRisk() {
+        return new GridOpsEvent("bench-outage", "outage-risk", TIMESTAMP, Map.of("reserveMarginPct", 9.5, "zone", "NORTH"));
+    }
+
+    static GridOpsEvent outageQuiet() {
+        return new GridOpsEvent("bench-outage-quiet", "outage-risk", TIMESTAMP, Map.of("reserveMarginPct", 22.0, "zone", "NORTH"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.gridops.microkernel.benchmarks;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.EventBatch;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.plugin.outagerisk.OutageCapacityRiskRulePlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A threshold plugin over a batch of events: per-event {@code evaluate} versus the columnar
+ * {@code evaluateBatch(EventBatch)} scan (column gather included). One event in 16 fires.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBatchBenchmark {
+
+    @Param({"1024"})
+    public int batchSize;
+
+    private OutageCapacityRiskRulePlugin plugin;
+    private List<GridOpsEvent> events;
+
+    @Setup
+    public void setUp() {
+        plugin = new OutageCapacityRiskRulePlugin();
+        events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add(i % 16 == 0 ? BenchmarkEvents.outageRisk() : BenchmarkEvents.outageQuiet());
+        }
+    }
+
+    @Benchmark
+    public List<List<Alert>> perEvent() {
+        List<List<Alert>> results = new ArrayList<>(events.size());
+        for (GridOpsEvent event : events) {
+            results.add(plugin.evaluate(event));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<List<Alert>> columnar() {
+        return plugin.evaluateBatch(new EventBatch(events));
+    }
+}
@@ -0,0 +1,60 @@
+package com.gridops.microkernel.benchmarks;
+
+import com.gridops.microkernel.core.event.BinaryEventCodec;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.plugin.forecastramp.ForecastRampRulePlugin;
+import com.gridops.microkernel.plugin.outagerisk.OutageCapacityRiskRulePlugin;
+import com.gridops.microkernel.plugin.pricespike.PriceSpikeRulePlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GridOpsEvent} construction from a JSON-like payload map, as done once per
+ * request by the REST layer (map copy plus typed slot resolution), and decoding the same
+ * event from the binary format, which builds no intermediate map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GridOpsEventBenchmark {
+
+    private Map<String, Object> payload;
+    private ByteBuffer binary;
+
+    @Setup
+    public void setUp() {
+        // Load the plugins so their FieldKeys are declared, as they are in host-app.
+        new PriceSpikeRulePlugin();
+        new ForecastRampRulePlugin();
+        new OutageCapacityRiskRulePlugin();
+        payload = BenchmarkEvents.jsonLikePayload();
+        binary = ByteBuffer.allocate(1024);
+        BinaryEventCodec.encode(new GridOpsEvent("bench-evt", "price", BenchmarkEvents.TIMESTAMP, payload), binary);
+        binary.flip();
+    }
+
+    @Benchmark
+    public GridOpsEvent constructFromJsonLikeMap() {
+        return new GridOpsEvent("bench-evt", "price", BenchmarkEvents.TIMESTAMP, payload);
+    }
+
+    @Benchmark
+    public GridOpsEvent decodeBinary() {
+        return BinaryEventCodec.decode(binary.duplicate(), "bench-evt");
+    }
+}
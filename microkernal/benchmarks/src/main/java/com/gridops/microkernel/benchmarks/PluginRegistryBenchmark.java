@@ -0,0 +1,42 @@
+package com.gridops.microkernel.benchmarks;
+
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.host.PluginRegistry;
+import com.gridops.microkernel.plugin.pricespike.PriceSpikeRulePlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PluginRegistry#createPlugin}: the cost of instantiating a plugin for
+ * {@code POST /api/plugins}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PluginRegistryBenchmark {
+
+    private PluginRegistry registry;
+
+    @Setup
+    public void setUp() {
+        registry = new PluginRegistry();
+    }
+
+    @Benchmark
+    public RulePlugin createPlugin() {
+        return registry.createPlugin(PriceSpikeRulePlugin.ID);
+    }
+}
@@ -0,0 +1,76 @@
+package com.gridops.microkernel.benchmarks;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.PluginStateStore;
+import com.gridops.microkernel.plugin.forecastramp.ForecastRampRulePlugin;
+import com.gridops.microkernel.plugin.outagerisk.OutageCapacityRiskRulePlugin;
+import com.gridops.microkernel.plugin.pricespike.PriceSpikeRulePlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Each shipped plugin called directly (no engine), once with an event that fires
+ * and once with an event of the same type that does not.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RulePluginBenchmark {
+
+    @Param({PriceSpikeRulePlugin.ID, ForecastRampRulePlugin.ID, OutageCapacityRiskRulePlugin.ID})
+    public String pluginId;
+
+    private RulePlugin plugin;
+    private GridOpsEvent firing;
+    private GridOpsEvent quiet;
+
+    @Setup
+    public void setUp() {
+        switch (pluginId) {
+            case PriceSpikeRulePlugin.ID -> {
+                plugin = new PriceSpikeRulePlugin();
+                firing = BenchmarkEvents.priceSpike();
+                quiet = BenchmarkEvents.priceQuiet();
+            }
+            case ForecastRampRulePlugin.ID -> {
+                plugin = new ForecastRampRulePlugin();
+                firing = BenchmarkEvents.forecastRamp();
+                quiet = BenchmarkEvents.forecastQuiet();
+            }
+            case OutageCapacityRiskRulePlugin.ID -> {
+                plugin = new OutageCapacityRiskRulePlugin();
+                firing = BenchmarkEvents.outageRisk();
+                quiet = BenchmarkEvents.outageQuiet();
+            }
+            default -> throw new IllegalArgumentException("Unknown plugin id: " + pluginId);
+        }
+        plugin.onLoad(new PluginStateStore());
+    }
+
+    @Benchmark
+    public List<Alert> evaluateFiring() {
+        return plugin.evaluate(firing);
+    }
+
+    @Benchmark
+    public List<Alert> evaluateQuiet() {
+        return plugin.evaluate(quiet);
+    }
+}
@@ -4,26 +4,86 @@ import java.time.Instant;
 
 /**
  * Single alert produced by a rule plugin. Immutable.
+ *
+ * The message can be given as a template with {@code {}} placeholders plus arguments
+ * ({@link #templated}); it is rendered on the first {@link #getMessage()} call, so alerts
+ * that are filtered or never serialized do not pay for string building.
+ *
+ * {@link #getSuppressedCount()} is set by the engine's deduplication stage: the number of
+ * identical alerts collapsed into this one since the previous emission.
  */
 public final class Alert {
 
+    private static final Object[] NO_ARGS = new Object[0];
+
     private final String pluginId;
     private final String ruleId;
     private final String severity;
-    private final String message;
+    private final String template;
+    private final Object[] args;
     private final Instant raisedAt;
+    private final int suppressedCount;
+    // Rendered lazily; a racy double render yields the same String, so no synchronization.
+    private String message;
 
     public Alert(String pluginId, String ruleId, String severity, String message, Instant raisedAt) {
+        this(pluginId, ruleId, severity, message, NO_ARGS, message, raisedAt, 0);
+    }
+
+    private Alert(String pluginId, String ruleId, String severity, String template, Object[] args,
+                  String message, Instant raisedAt, int suppressedCount) {
         this.pluginId = pluginId;
         this.ruleId = ruleId;
         this.severity = severity;
+        this.template = template;
+        this.args = args;
         this.message = message;
         this.raisedAt = raisedAt != null ? raisedAt : Instant.now();
+        this.suppressedCount = suppressedCount;
+    }
+
+    /**
+     * Alert whose message is {@code template} with each {@code {}} replaced by the next argument
+     * ({@link String#valueOf(Object)}), rendered on first access.
+     */
+    public static Alert templated(String pluginId, String ruleId, String severity, Instant raisedAt,
+                                  String template, Object... args) {
+        return new Alert(pluginId, ruleId, severity, template, args != null ? args : NO_ARGS, null, raisedAt, 0);
+    }
+
+    /** Copy of this alert carrying the given suppressed-duplicate count. */
+    public Alert withSuppressedCount(int suppressedCount) {
+        if (suppressedCount == this.suppressedCount) return this;
+        return new Alert(pluginId, ruleId, severity, template, args, message, raisedAt, suppressedCount);
     }
 
     public String getPluginId() { return pluginId; }
     public String getRuleId() { return ruleId; }
     public String getSeverity() { return severity; }
-    public String getMessage() { return message; }
     public Instant getRaisedAt() { return raisedAt; }
+    public int getSuppressedCount() { return suppressedCount; }
+
+    public String getMessage() {
+        String m = message;
+        if (m == null) {
+            m = render(template, args);
+            message = m;
+        }
+        return m;
+    }
+
+    private static String render(String template, Object[] args) {
+        if (template == null) return null;
+        StringBuilder sb = new StringBuilder(template.length() + 16 * args.length);
+        int next = 0;
+        int from = 0;
+        int at;
+        while ((at = template.indexOf("{}", from)) >= 0) {
+            sb.append(template, from, at);
+            sb.append(next < args.length ? String.valueOf(args[next++]) : "{}");
+            from = at + 2;
+        }
+        sb.append(template, from, template.length());
+        return sb.toString();
+    }
 }
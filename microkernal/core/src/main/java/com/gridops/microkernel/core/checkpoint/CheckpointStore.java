@@ -0,0 +1,185 @@
+package com.gridops.microkernel.core.checkpoint;
+
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.state.PluginStateStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+/**
+ * One checkpoint file per plugin ({@code <dir>/<pluginId>.ckpt}) holding its {@link PluginStateStore}
+ * and whatever {@link RulePlugin#snapshot} writes. Layout (big-endian): magic, format version, plugin
+ * id, save time (epoch ms), payload length, payload, CRC32C of the payload. The payload is the state
+ * store followed by the length-prefixed plugin section.
+ *
+ * Saves are incremental per plugin: the payload is encoded in memory and the file is only rewritten
+ * when its checksum differs from the last one saved. Files are written to a temporary name and moved
+ * into place, so a crash leaves the previous checkpoint intact. Checkpoints older than {@code maxAge}
+ * are not restored, since windows that stale would mislead the rules more than empty ones.
+ */
+public final class CheckpointStore {
+
+    static final int MAGIC = 0x47434B50; // "GCKP"
+    static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".ckpt";
+
+    private final Path dir;
+    private final long maxAgeMillis;
+    private final Clock clock;
+    private final Map<String, Integer> savedChecksums = new ConcurrentHashMap<>();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong unchanged = new AtomicLong();
+    private final AtomicLong restored = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile String lastError;
+
+    public CheckpointStore(Path dir, Duration maxAge) {
+        this(dir, maxAge, Clock.systemUTC());
+    }
+
+    public CheckpointStore(Path dir, Duration maxAge, Clock clock) {
+        if (dir == null) throw new IllegalArgumentException("dir is required");
+        if (maxAge == null || maxAge.isNegative() || maxAge.isZero()) throw new IllegalArgumentException("maxAge must be positive");
+        if (clock == null) throw new IllegalArgumentException("clock is required");
+        this.dir = dir;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Checkpoints one plugin.
+     * @return true if the file was written, false if the state is unchanged since the last save
+     */
+    public boolean save(RulePlugin plugin, PluginStateStore state) throws IOException {
+        try {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream(4096);
+            DataOutputStream out = new DataOutputStream(payload);
+            state.writeTo(out);
+            ByteArrayOutputStream own = new ByteArrayOutputStream();
+            plugin.snapshot(new DataOutputStream(own));
+            out.writeInt(own.size());
+            own.writeTo(out);
+            out.flush();
+
+            byte[] bytes = payload.toByteArray();
+            int checksum = checksum(bytes);
+            Integer previous = savedChecksums.get(plugin.id());
+            if (previous != null && previous == checksum) {
+                unchanged.incrementAndGet();
+                return false;
+            }
+            write(plugin.id(), bytes, checksum);
+            savedChecksums.put(plugin.id(), checksum);
+            written.incrementAndGet();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            lastError = plugin.id() + ": " + e;
+            throw e;
+        }
+    }
+
+    /**
+     * Restores a plugin's checkpoint into its state store (already populated by {@code onLoad}) and then
+     * into the plugin. A missing or expired checkpoint leaves both untouched; a corrupt one throws.
+     * @return true if a checkpoint was restored
+     */
+    public boolean restore(RulePlugin plugin, PluginStateStore state) throws IOException {
+        try {
+            byte[] payload = read(plugin.id());
+            if (payload == null) return false;
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+            state.readFrom(in);
+            byte[] own = new byte[in.readInt()];
+            in.readFully(own);
+            if (own.length > 0) plugin.restore(new DataInputStream(new ByteArrayInputStream(own)));
+            // The restored state is what is on disk, so an idle plugin is not rewritten
+            savedChecksums.put(plugin.id(), checksum(payload));
+            restored.incrementAndGet();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            failed.incrementAndGet();
+            lastError = plugin.id() + ": " + e;
+            throw e;
+        }
+    }
+
+    public Path file(String pluginId) {
+        return dir.resolve(pluginId.replaceAll("[^A-Za-z0-9._-]", "_") + SUFFIX);
+    }
+
+    public Path dir() { return dir; }
+    /** Checkpoint files written. */
+    public long writtenCount() { return written.get(); }
+    /** Saves skipped because the state had not changed. */
+    public long unchangedCount() { return unchanged.get(); }
+    public long restoredCount() { return restored.get(); }
+    /** Saves and restores that threw. */
+    public long failedCount() { return failed.get(); }
+    public String lastError() { return lastError; }
+
+    private void write(String pluginId, byte[] payload, int checksum) throws IOException {
+        Files.createDirectories(dir);
+        Path target = file(pluginId);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(tmp))) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(pluginId);
+            out.writeLong(clock.millis());
+            out.writeInt(payload.length);
+            out.write(payload);
+            out.writeInt(checksum);
+        }
+        try {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /** @return the verified payload, or null if there is no checkpoint or it is older than maxAge */
+    private byte[] read(String pluginId) throws IOException {
+        Path path = file(pluginId);
+        byte[] file;
+        try {
+            file = Files.readAllBytes(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(file));
+        if (in.readInt() != MAGIC) throw new IOException("Not a checkpoint: " + path);
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported checkpoint format " + version + ": " + path);
+        String id = in.readUTF();
+        if (!id.equals(pluginId)) throw new IOException("Checkpoint " + path + " belongs to plugin " + id);
+        long savedAt = in.readLong();
+        int length = in.readInt();
+        if (length < 0 || length > in.available() - 4) throw new IOException("Truncated checkpoint: " + path);
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        if (in.readInt() != checksum(payload)) throw new IOException("Checksum mismatch: " + path);
+        if (clock.millis() - savedAt > maxAgeMillis) return null;
+        return payload;
+    }
+
+    private static int checksum(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+}
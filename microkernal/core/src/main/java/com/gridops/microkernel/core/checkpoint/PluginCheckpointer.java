@@ -0,0 +1,45 @@
+package com.gridops.microkernel.core.checkpoint;
+
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@link AlertRuleEngine#checkpoint()} every {@code interval} on a background thread, and once
+ * more on {@link #close}, so a graceful shutdown (e.g. a rolling deploy) hands the next instance
+ * state that is current to the last event rather than to the last interval.
+ */
+public final class PluginCheckpointer implements AutoCloseable {
+
+    private final AlertRuleEngine engine;
+    private final ScheduledExecutorService scheduler;
+
+    public PluginCheckpointer(AlertRuleEngine engine, Duration interval) {
+        if (engine == null) throw new IllegalArgumentException("engine is required");
+        if (engine.getCheckpointStore() == null) throw new IllegalArgumentException("engine has no checkpoint store");
+        if (interval == null || interval.isNegative() || interval.isZero()) throw new IllegalArgumentException("interval must be positive");
+        this.engine = engine;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "gridops-checkpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(engine::checkpoint, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops the schedule and writes a final checkpoint. */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        engine.checkpoint();
+    }
+}
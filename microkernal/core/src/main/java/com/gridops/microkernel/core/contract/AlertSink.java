@@ -0,0 +1,29 @@
+package com.gridops.microkernel.core.contract;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Callback through which a plugin emits alerts ({@link RulePlugin#evaluate(GridOpsEvent, AlertSink)}).
+ * The engine passes a reusable sink, so a plugin that emits nothing allocates nothing.
+ * A sink is only valid for the duration of the call it was passed to.
+ */
+@FunctionalInterface
+public interface AlertSink {
+
+    void accept(Alert alert);
+
+    /**
+     * Adapts a sink-based evaluation to the list-returning v1 {@link RulePlugin#evaluate(GridOpsEvent)}:
+     * {@code return AlertSink.collect(event, this::evaluate);}
+     */
+    static List<Alert> collect(GridOpsEvent event, BiConsumer<GridOpsEvent, AlertSink> evaluation) {
+        List<Alert> alerts = new ArrayList<>(1);
+        evaluation.accept(event, alerts::add);
+        return alerts.isEmpty() ? List.of() : alerts;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gridops.microkernel.core.contract;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link RulePlugin} for the build-time plugin index. With the {@code plugin-processor}
+ * annotation processor on the compile classpath, javac generates {@code <Class>Factory}, a
+ * {@link RulePluginFactory} calling the public no-arg constructor directly, and registers it as a
+ * service. The class must be public, top-level, concrete and have a public no-arg constructor.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface AutoPluginFactory {
+
+    /** Plugin id; must match what {@link RulePlugin#id()} returns. */
+    String id();
+}
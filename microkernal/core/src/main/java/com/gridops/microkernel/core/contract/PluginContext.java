@@ -0,0 +1,32 @@
+package com.gridops.microkernel.core.contract;
+
+import com.gridops.microkernel.core.state.DoubleRingBuffer;
+import com.gridops.microkernel.core.state.KeyedWindows;
+import com.gridops.microkernel.core.state.LongRingBuffer;
+import com.gridops.microkernel.core.state.SustainedConditions;
+
+import java.time.Duration;
+
+/**
+ * Engine services handed to a plugin in {@link RulePlugin#onLoad(PluginContext)}.
+ * State requested here belongs to the plugin instance and is dropped when it is unregistered.
+ */
+public interface PluginContext {
+
+    /**
+     * Per-entity windows of the last {@code capacity} doubles. Requesting the same name again
+     * returns the same instance.
+     * @throws IllegalArgumentException if the name was already requested with another type or capacity
+     */
+    KeyedWindows<DoubleRingBuffer> doubleWindows(String name, int capacity);
+
+    /** Long variant of {@link #doubleWindows(String, int)}. */
+    KeyedWindows<LongRingBuffer> longWindows(String name, int capacity);
+
+    /**
+     * Per-entity conditions that must hold for {@code holdFor} before they are confirmed, tracked on a
+     * timing wheel driven by event time. Requesting the same name again returns the same instance.
+     * @throws IllegalArgumentException if the name was already requested with another type or duration
+     */
+    SustainedConditions sustained(String name, Duration holdFor);
+}
@@ -1,19 +1,40 @@
 package com.gridops.microkernel.core.contract;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.EventBatch;
 import com.gridops.microkernel.core.event.GridOpsEvent;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Versioned plugin contract (v1). All rule strategy plugins implement this.
+ * Versioned plugin contract. All rule strategy plugins implement this.
  * The microkernel discovers and invokes plugins without knowing their domain logic.
+ *
+ * v1: id, name, evaluate, lifecycle.
+ * v2: adds subscriptions ({@link #eventTypes()}, {@link #payloadKeys()}) so the engine
+ * only dispatches events the plugin can act on. v1 plugins keep working unchanged:
+ * empty subscriptions mean "every event".
+ * Optional hooks with defaults: {@link #evaluate(GridOpsEvent, AlertSink)} (allocation-free
+ * emission), {@link #evaluateBatch(List)} and the columnar {@link #evaluateBatch(EventBatch)}.
+ * Checkpoint hooks {@link #snapshot}/{@link #restore} carry state kept outside the {@link PluginContext}
+ * across restarts.
  */
 public interface RulePlugin {
 
     /** Contract version for compatibility checks. */
     String CONTRACT_VERSION = "1";
 
+    /** Contract version for plugins that declare subscriptions. */
+    String CONTRACT_VERSION_V2 = "2";
+
+    /** Contract versions the engine accepts. */
+    Set<String> SUPPORTED_CONTRACT_VERSIONS = Set.of(CONTRACT_VERSION, CONTRACT_VERSION_V2);
+
     /** Unique plugin identifier (e.g. "price-spike", "forecast-ramp"). */
     String id();
 
@@ -25,15 +46,89 @@ public interface RulePlugin {
         return CONTRACT_VERSION;
     }
 
+    /**
+     * v2: event types this plugin handles (matched against {@link GridOpsEvent#getEventType()}).
+     * Empty set (default) subscribes to all event types.
+     */
+    default Set<String> eventTypes() {
+        return Set.of();
+    }
+
+    /**
+     * v2: payload keys this plugin needs; the event is dispatched only if its payload contains
+     * at least one of them. Empty set (default) means no payload filter.
+     */
+    default Set<String> payloadKeys() {
+        return Set.of();
+    }
+
     /**
      * Evaluate the event and return zero or more alerts.
      * Must not throw; return empty list on no match or error.
      */
     List<Alert> evaluate(GridOpsEvent event);
 
+    /**
+     * Allocation-free variant: emit alerts into {@code sink} instead of returning a list.
+     * The engine calls this on its sequential path with a reused sink. Default adapts
+     * {@link #evaluate(GridOpsEvent)}; plugins on the hot path override this one and implement
+     * the list variant with {@link AlertSink#collect}.
+     */
+    default void evaluate(GridOpsEvent event, AlertSink sink) {
+        List<Alert> alerts = evaluate(event);
+        if (alerts == null) return;
+        for (Alert alert : alerts) {
+            sink.accept(alert);
+        }
+    }
+
+    /**
+     * Evaluate several events in one call; element i of the result holds the alerts for
+     * {@code events.get(i)} and the result has the same size as the input.
+     * Default calls {@link #evaluate(GridOpsEvent)} per event; override with a vectorized
+     * implementation when the rule can process many events at once.
+     */
+    default List<List<Alert>> evaluateBatch(List<GridOpsEvent> events) {
+        List<List<Alert>> results = new ArrayList<>(events.size());
+        for (GridOpsEvent event : events) {
+            results.add(evaluate(event));
+        }
+        return results;
+    }
+
+    /**
+     * Columnar batch entry point; the engine's batch path calls this one. Same result shape as
+     * {@link #evaluateBatch(List)}, which the default delegates to. Threshold rules override it to
+     * scan {@link EventBatch#doubles} columns with a {@link com.gridops.microkernel.core.event.RowMask}.
+     */
+    default List<List<Alert>> evaluateBatch(EventBatch batch) {
+        return evaluateBatch(batch.events());
+    }
+
     /** Lifecycle: called when plugin is registered. Default no-op. */
     default void onLoad() {}
 
+    /**
+     * Lifecycle: called by the engine when the plugin is registered, with access to engine-provided
+     * keyed state (e.g. per-node ring buffers for windowed rules). Default calls {@link #onLoad()}.
+     */
+    default void onLoad(PluginContext context) {
+        onLoad();
+    }
+
+    /**
+     * Checkpoint: write state this plugin keeps outside its {@link PluginContext}. State requested from
+     * the context (windows, sustained conditions) is checkpointed by the engine and needs nothing here.
+     * May run concurrently with evaluation. Default writes nothing.
+     */
+    default void snapshot(DataOutput out) throws IOException {}
+
+    /**
+     * Restore what {@link #snapshot} wrote, after {@link #onLoad(PluginContext)} and before the plugin
+     * receives events. Not called when there is no checkpoint. Default ignores the data.
+     */
+    default void restore(DataInput in) throws IOException {}
+
     /** Lifecycle: called when plugin is unregistered. Default no-op. */
     default void onUnload() {}
 }
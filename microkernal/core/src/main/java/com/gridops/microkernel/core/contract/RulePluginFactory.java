@@ -0,0 +1,19 @@
+package com.gridops.microkernel.core.contract;
+
+/**
+ * Creates instances of one plugin type without reflection. Factories for classes annotated with
+ * {@link AutoPluginFactory} are generated at build time and listed in
+ * {@code META-INF/services/com.gridops.microkernel.core.contract.RulePluginFactory}, so the
+ * host knows every plugin id without instantiating anything.
+ */
+public interface RulePluginFactory {
+
+    /** Id of the plugins this factory creates; equals {@link RulePlugin#id()} of each instance. */
+    String id();
+
+    /** Plugin implementation class. */
+    Class<? extends RulePlugin> type();
+
+    /** New, not yet loaded plugin instance. */
+    RulePlugin create();
+}
@@ -1,10 +1,13 @@
 package com.gridops.microkernel.core.discovery;
 
 import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.contract.RulePluginFactory;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.Set;
 
 /**
  * Discovers RulePlugin implementations via Java ServiceLoader (META-INF/services).
@@ -17,17 +20,54 @@ import java.util.ServiceLoader;
  *   full control over which plugins run, easier testing and version gating. No
  *   META-INF needed; plugins can be Spring beans or constructed from config.
  *
+ * Plugins built with {@link com.gridops.microkernel.core.contract.AutoPluginFactory} ship a
+ * generated {@link RulePluginFactory}; {@link #discoverFactories()} reads those and only falls
+ * back to instantiating plugins for jars that list just {@code RulePlugin}.
+ *
  * This class supports ServiceLoader-based discovery; host-app can also use
  * explicit registration (e.g. inject plugin beans into the engine).
  */
 public final class PluginDiscovery {
 
+    /** One new instance per discovered plugin type. */
     public static List<RulePlugin> discoverFromServiceLoader() {
         List<RulePlugin> found = new ArrayList<>();
-        ServiceLoader<RulePlugin> loader = ServiceLoader.load(RulePlugin.class);
-        for (RulePlugin plugin : loader) {
-            found.add(plugin);
+        for (RulePluginFactory factory : discoverFactories()) {
+            found.add(factory.create());
         }
         return found;
     }
+
+    /**
+     * Factories for every plugin type on the classpath, in classpath order: generated factories
+     * first, then a reflective factory for each {@code RulePlugin} service without one (created
+     * once to learn its id). Provider classes are inspected without instantiating them.
+     */
+    public static List<RulePluginFactory> discoverFactories() {
+        List<RulePluginFactory> factories = new ArrayList<>();
+        Set<Class<?>> covered = new HashSet<>();
+        for (RulePluginFactory factory : ServiceLoader.load(RulePluginFactory.class)) {
+            factories.add(factory);
+            covered.add(factory.type());
+        }
+        ServiceLoader.load(RulePlugin.class).stream()
+            .filter(provider -> !covered.contains(provider.type()))
+            .forEach(provider -> factories.add(new ServiceLoaderFactory(provider)));
+        return factories;
+    }
+
+    /** Factory for a plugin registered only as a {@code RulePlugin} service. */
+    private static final class ServiceLoaderFactory implements RulePluginFactory {
+        private final ServiceLoader.Provider<RulePlugin> provider;
+        private final String id;
+
+        ServiceLoaderFactory(ServiceLoader.Provider<RulePlugin> provider) {
+            this.provider = provider;
+            this.id = provider.get().id();
+        }
+
+        @Override public String id() { return id; }
+        @Override public Class<? extends RulePlugin> type() { return provider.type(); }
+        @Override public RulePlugin create() { return provider.get(); }
+    }
 }
@@ -0,0 +1,52 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+
+import java.util.ArrayList;
+
+/**
+ * Per-thread {@link AlertSink} reused by the sequential evaluation path. Cleared after every
+ * event; the engine copies its contents into the immutable {@link AlertRuleEngine.EngineResult}.
+ */
+final class AlertCollector implements AlertSink {
+
+    private static final ThreadLocal<AlertCollector> CURRENT = ThreadLocal.withInitial(AlertCollector::new);
+
+    final ArrayList<Alert> alerts = new ArrayList<>();
+    final ArrayList<String> pluginsFired = new ArrayList<>();
+    private boolean inUse;
+
+    /** The calling thread's collector, or a fresh one if it is already in use (re-entrant evaluate). */
+    static AlertCollector acquire() {
+        AlertCollector collector = CURRENT.get();
+        if (collector.inUse) return new AlertCollector();
+        collector.inUse = true;
+        return collector;
+    }
+
+    void release() {
+        alerts.clear();
+        pluginsFired.clear();
+        inUse = false;
+    }
+
+    int size() {
+        return alerts.size();
+    }
+
+    /** Drop alerts emitted after {@code size} (a plugin that emitted some, then threw). */
+    void truncate(int size) {
+        alerts.subList(size, alerts.size()).clear();
+    }
+
+    @Override
+    public void accept(Alert alert) {
+        if (alert != null) alerts.add(alert);
+    }
+
+    /** EngineResult copies the lists; {@code List.copyOf} of an empty list returns the shared empty list. */
+    AlertRuleEngine.EngineResult toResult(String eventId) {
+        return new AlertRuleEngine.EngineResult(eventId, alerts, pluginsFired);
+    }
+}
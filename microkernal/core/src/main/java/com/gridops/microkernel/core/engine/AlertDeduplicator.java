@@ -0,0 +1,112 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Collapses repeated alerts. Alerts are keyed by pluginId, ruleId and an entity key built from
+ * configured payload fields of the triggering event (e.g. {@code nodeId}, {@code zone}). The first
+ * alert for a key is passed through and opens a window; identical alerts inside the window are
+ * dropped and counted. The first alert after the window closes is passed through carrying that
+ * count ({@link Alert#getSuppressedCount()}) and opens the next window.
+ *
+ * The cache is bounded: when full, the oldest window is evicted, and a closed window's count
+ * is dropped if no alert for its key arrives within one further window length. Thread-safe.
+ */
+public final class AlertDeduplicator {
+
+    private final long windowMillis;
+    private final int maxEntries;
+    private final EntityKey entityKey;
+    private final Clock clock;
+    // Insertion order == window start order, so expired entries are always at the head
+    private final LinkedHashMap<String, Window> windows = new LinkedHashMap<>();
+
+    public AlertDeduplicator(Duration window, int maxEntries, List<String> entityKeys) {
+        this(window, maxEntries, entityKeys, Clock.systemUTC());
+    }
+
+    public AlertDeduplicator(Duration window, int maxEntries, List<String> entityKeys, Clock clock) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be positive");
+        if (clock == null) throw new IllegalArgumentException("clock is required");
+        this.windowMillis = window.toMillis();
+        this.maxEntries = maxEntries;
+        this.entityKey = new EntityKey(entityKeys);
+        this.clock = clock;
+    }
+
+    /**
+     * Remove suppressed alerts from {@code alerts} in place and stamp suppressed counts on the
+     * alerts that are kept. Callers pass a mutable list.
+     */
+    public void filter(GridOpsEvent event, List<Alert> alerts) {
+        if (alerts.isEmpty()) return;
+        String entity = entityKey.of(event);
+        long now = clock.millis();
+        synchronized (this) {
+            evictExpired(now);
+            ListIterator<Alert> it = alerts.listIterator();
+            while (it.hasNext()) {
+                Alert alert = it.next();
+                String key = alert.getPluginId() + '\u0000' + alert.getRuleId() + '\u0000' + entity;
+                Window w = windows.get(key);
+                if (w != null && now - w.startedAt < windowMillis) {
+                    w.suppressed++;
+                    it.remove();
+                    continue;
+                }
+                int carried = 0;
+                if (w != null) {
+                    carried = w.suppressed;
+                    windows.remove(key);
+                }
+                if (windows.size() >= maxEntries) evictEldest();
+                windows.put(key, new Window(now));
+                if (carried > 0) it.set(alert.withSuppressedCount(carried));
+            }
+        }
+    }
+
+    /** @return number of alert keys currently tracked */
+    public synchronized int size() {
+        return windows.size();
+    }
+
+    /**
+     * Drop windows that closed more than one window length ago. A closed window's pending count
+     * is kept for that extra window so the next alert for its key can carry it; after that the
+     * count is dropped. Windows are in start order, so this stops at the first live entry.
+     */
+    private void evictExpired(long now) {
+        Iterator<Window> it = windows.values().iterator();
+        while (it.hasNext()) {
+            if (now - it.next().startedAt < 2 * windowMillis) break;
+            it.remove();
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<Window> it = windows.values().iterator();
+        it.next();
+        it.remove();
+    }
+
+    private static final class Window {
+        final long startedAt;
+        int suppressed;
+
+        Window(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -1,85 +1,649 @@
 package com.gridops.microkernel.core.engine;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.checkpoint.CheckpointStore;
 import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.EventBatch;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.PluginStateStore;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Microkernel: orchestrates plugin discovery, lifecycle, and execution.
  * Aggregates alerts from all registered plugins.
+ *
+ * Registered plugins, their id index and routing live in one immutable snapshot that admin
+ * operations replace atomically (see {@link #getVersion()}); evaluation never takes a lock.
+ * Dispatch goes through the snapshot's {@link RoutingTable}: a plugin that declares
+ * event types or payload keys (contract v2) only sees matching events. The sequential
+ * path calls {@link RulePlugin#evaluate(GridOpsEvent, com.gridops.microkernel.core.contract.AlertSink)}
+ * with a per-thread collector, so an event that raises no alerts allocates no lists.
+ *
+ * Execution modes:
+ * - Sequential (default): plugins run one after another on the caller thread.
+ * - Parallel: the event is fanned out to plugins on the supplied executor and the
+ *   results are merged in registration order. Each plugin gets the same timeout,
+ *   measured from submission; a plugin that misses it is cancelled and reported as
+ *   an ERROR alert so one slow plugin cannot stall the whole event.
+ *
+ * Every plugin call is reported to the installed {@link PluginInstrumentation}
+ * (latency, alerts emitted, exceptions caught).
+ *
+ * With a {@link CircuitBreakerPolicy} installed, each plugin's recent error rate and latency
+ * are tracked; a plugin that crosses the thresholds is quarantined (skipped) and reported
+ * once with an ERROR alert instead of producing one error per event, then probed again
+ * after the open duration.
+ *
+ * An optional {@link AlertDeduplicator} collapses repeated alerts for the same plugin, rule
+ * and entity before results are returned. {@link EvaluationListener}s see every final result.
+ *
+ * With a {@link CheckpointStore} installed, {@link #checkpoint()} saves each plugin's state and a
+ * plugin registered later (e.g. after a restart) is restored from its checkpoint before it sees
+ * any event; {@link #registerPlugins} loads and restores several plugins in parallel.
  */
 public final class AlertRuleEngine {
 
-    private final List<RulePlugin> plugins = new CopyOnWriteArrayList<>();
+    private static final EvaluationListener[] NO_LISTENERS = new EvaluationListener[0];
 
-    public void registerPlugin(RulePlugin plugin) {
-        if (plugin == null) return;
-        plugins.add(plugin);
-        plugin.onLoad();
+    // Admin changes build a new snapshot under the engine lock; evaluation reads it lock-free
+    private volatile PluginSnapshot snapshot = PluginSnapshot.EMPTY;
+    private volatile PluginInstrumentation instrumentation = PluginInstrumentation.NOOP;
+    private volatile CircuitBreakerPolicy circuitPolicy;
+    private volatile AlertDeduplicator deduplicator;
+    private volatile EvaluationListener[] listeners = NO_LISTENERS;
+    private final LongAdder listenerFailures = new LongAdder();
+    private volatile CheckpointStore checkpoints;
+    private final ExecutorService executor;
+    private final long pluginTimeoutNanos;
+
+    /** Sequential engine: plugins run on the caller thread. */
+    public AlertRuleEngine() {
+        this.executor = null;
+        this.pluginTimeoutNanos = 0L;
+    }
+
+    /**
+     * Parallel engine: plugins run on the given executor (e.g. virtual threads or a
+     * bounded ForkJoinPool). The engine does not own the executor and never shuts it down.
+     *
+     * @param executor      executor used to run plugin evaluations
+     * @param pluginTimeout maximum time to wait for each plugin
+     */
+    public AlertRuleEngine(ExecutorService executor, Duration pluginTimeout) {
+        if (executor == null) throw new IllegalArgumentException("executor is required");
+        if (pluginTimeout == null || pluginTimeout.isNegative() || pluginTimeout.isZero()) {
+            throw new IllegalArgumentException("pluginTimeout must be positive");
+        }
+        this.executor = executor;
+        this.pluginTimeoutNanos = pluginTimeout.toNanos();
+    }
+
+    /** @return true if plugins are evaluated concurrently on an executor */
+    public boolean isParallel() {
+        return executor != null;
+    }
+
+    /** Install the per-plugin instrumentation hook; null restores {@link PluginInstrumentation#NOOP}. */
+    public void setInstrumentation(PluginInstrumentation instrumentation) {
+        this.instrumentation = instrumentation != null ? instrumentation : PluginInstrumentation.NOOP;
+    }
+
+    public PluginInstrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    /**
+     * Enable per-plugin circuit breaking with this policy; null disables it. Replacing the
+     * policy resets every plugin's breaker to CLOSED.
+     */
+    public synchronized void setCircuitBreakerPolicy(CircuitBreakerPolicy policy) {
+        this.circuitPolicy = policy;
+        snapshot = snapshot.withPolicy(policy);
+    }
+
+    public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return circuitPolicy;
+    }
+
+    /** Install the alert deduplication stage; null disables deduplication. */
+    public void setDeduplicator(AlertDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+    }
+
+    public AlertDeduplicator getDeduplicator() {
+        return deduplicator;
+    }
+
+    /** Install the checkpoint store used by {@link #checkpoint()} and on registration; null disables both. */
+    public synchronized void setCheckpointStore(CheckpointStore checkpoints) {
+        this.checkpoints = checkpoints;
+    }
+
+    public CheckpointStore getCheckpointStore() {
+        return checkpoints;
+    }
+
+    /** Register a listener called with every evaluated event and its result. */
+    public synchronized void addEvaluationListener(EvaluationListener listener) {
+        if (listener == null) throw new IllegalArgumentException("listener is required");
+        EvaluationListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
+    }
+
+    /** Listener calls that threw since start; the failure is counted and the remaining listeners still run. */
+    public long getListenerFailureCount() {
+        return listenerFailures.sum();
+    }
+
+    /** @return true if the listener was registered */
+    public synchronized boolean removeEvaluationListener(EvaluationListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] != listener) continue;
+            EvaluationListener[] next = new EvaluationListener[listeners.length - 1];
+            System.arraycopy(listeners, 0, next, 0, i);
+            System.arraycopy(listeners, i + 1, next, i, next.length - i);
+            listeners = next;
+            return true;
+        }
+        return false;
+    }
+
+    /** @return the plugin's breaker state; CLOSED when circuit breaking is off or the id is unknown */
+    public CircuitState getCircuitState(String pluginId) {
+        PluginSnapshot current = snapshot;
+        int i = current.indexOf(pluginId);
+        PluginCircuitBreaker breaker = i >= 0 ? current.breakers[i] : null;
+        return breaker != null ? breaker.state() : CircuitState.CLOSED;
+    }
+
+    /**
+     * Register a plugin. Plugin ids are unique: a plugin whose id is already registered is
+     * rejected and not loaded. The plugin is loaded, and restored from its checkpoint if a
+     * {@link CheckpointStore} is installed, before it is visible to evaluation.
+     * @return true if the plugin was registered, false if it is null or its id is taken
+     * @throws IllegalArgumentException if the plugin's contract version is not supported
+     */
+    public synchronized boolean registerPlugin(RulePlugin plugin) {
+        if (plugin == null) return false;
+        requireSupported(plugin);
+        if (snapshot.indexOf(plugin.id()) >= 0) return false;
+        PluginStateStore state = load(plugin);
+        publish(plugin, state);
+        return true;
+    }
+
+    /**
+     * Register several plugins at once (e.g. at startup): their {@code onLoad} and checkpoint
+     * restore run in parallel, then all are published in list order in one admin change.
+     * Nulls and ids already registered (or repeated in the list) are skipped. If any load fails,
+     * the plugins that did load are unloaded again and none is registered.
+     * @return number of plugins registered
+     * @throws IllegalArgumentException if any plugin's contract version is not supported; none is registered then
+     */
+    public synchronized int registerPlugins(List<RulePlugin> plugins) {
+        List<RulePlugin> accepted = new ArrayList<>(plugins.size());
+        Set<String> ids = new HashSet<>();
+        for (RulePlugin plugin : plugins) {
+            if (plugin == null) continue;
+            requireSupported(plugin);
+            if (snapshot.indexOf(plugin.id()) < 0 && ids.add(plugin.id())) accepted.add(plugin);
+        }
+        if (accepted.isEmpty()) return 0;
+        List<Future<PluginStateStore>> loads = new ArrayList<>(accepted.size());
+        // close() waits for every load, so each future below is done
+        try (ExecutorService loader = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (RulePlugin plugin : accepted) loads.add(loader.submit(() -> load(plugin)));
+        }
+        RulePlugin[] added = accepted.toArray(new RulePlugin[0]);
+        PluginStateStore[] states = new PluginStateStore[added.length];
+        Throwable failure = null;
+        for (int i = 0; i < added.length; i++) {
+            Future<PluginStateStore> load = loads.get(i);
+            if (load.state() == Future.State.SUCCESS) {
+                states[i] = load.resultNow();
+                continue;
+            }
+            Throwable error = load.state() == Future.State.FAILED ? load.exceptionNow()
+                : new IllegalStateException("Loading plugin " + added[i].id() + " did not complete");
+            if (failure == null) failure = error;
+            else failure.addSuppressed(error);
+        }
+        if (failure != null) {
+            for (int i = 0; i < added.length; i++) {
+                if (states[i] == null) continue;
+                try {
+                    added[i].onUnload();
+                } catch (RuntimeException e) {
+                    failure.addSuppressed(e);
+                }
+            }
+            if (failure instanceof RuntimeException re) throw re;
+            if (failure instanceof Error err) throw err;
+            throw new IllegalStateException(failure);
+        }
+        CircuitBreakerPolicy policy = circuitPolicy;
+        PluginCircuitBreaker[] breakers = new PluginCircuitBreaker[added.length];
+        if (policy != null) {
+            for (int i = 0; i < breakers.length; i++) breakers[i] = new PluginCircuitBreaker(policy);
+        }
+        snapshot = snapshot.with(added, breakers, states);
+        return added.length;
+    }
+
+    /**
+     * Checkpoint every registered plugin whose state changed since its last checkpoint. A plugin
+     * that fails to save does not stop the others; the store counts the failure.
+     * @return number of checkpoints written (0 without a {@link CheckpointStore})
+     */
+    public int checkpoint() {
+        CheckpointStore store = checkpoints;
+        if (store == null) return 0;
+        PluginSnapshot current = snapshot;
+        int written = 0;
+        for (int i = 0; i < current.plugins.length; i++) {
+            try {
+                if (store.save(current.plugins[i], current.states[i])) written++;
+            } catch (IOException | RuntimeException e) {
+                // Counted by the store; the previous checkpoint stays in place
+            }
+        }
+        return written;
+    }
+
+    private static void requireSupported(RulePlugin plugin) {
+        if (!RulePlugin.SUPPORTED_CONTRACT_VERSIONS.contains(plugin.contractVersion())) {
+            throw new IllegalArgumentException("Unsupported contract version '" + plugin.contractVersion()
+                + "' for plugin " + plugin.id() + ". Supported: " + RulePlugin.SUPPORTED_CONTRACT_VERSIONS);
+        }
+    }
+
+    /**
+     * onLoad with a fresh state store, then restore. A checkpoint that cannot be read means a cold
+     * start: the restore may have applied part of it, so the plugin is unloaded and loaded again
+     * with another fresh store rather than running half-restored.
+     */
+    private PluginStateStore load(RulePlugin plugin) {
+        PluginStateStore state = new PluginStateStore();
+        plugin.onLoad(state);
+        CheckpointStore store = checkpoints;
+        if (store != null) {
+            try {
+                store.restore(plugin, state);
+            } catch (IOException | RuntimeException e) {
+                // Counted by the store
+                plugin.onUnload();
+                state = new PluginStateStore();
+                plugin.onLoad(state);
+            }
+        }
+        return state;
+    }
+
+    private void publish(RulePlugin plugin, PluginStateStore state) {
+        CircuitBreakerPolicy policy = circuitPolicy;
+        snapshot = snapshot.with(plugin, policy != null ? new PluginCircuitBreaker(policy) : null, state);
     }
 
-    public void unregisterPlugin(RulePlugin plugin) {
+    /** Unregister this plugin instance, if it is the one registered under its id. */
+    public synchronized void unregisterPlugin(RulePlugin plugin) {
         if (plugin == null) return;
-        plugins.remove(plugin);
+        PluginSnapshot current = snapshot;
+        int i = current.indexOf(plugin.id());
+        if (i < 0 || current.plugins[i] != plugin) return;
+        snapshot = current.without(i);
         plugin.onUnload();
+        instrumentation.onUnregistered(plugin.id());
     }
 
     /**
      * Unregister the plugin with the given id, if present.
      * @return true if a plugin was found and unregistered, false otherwise
      */
-    public boolean unregisterPluginById(String pluginId) {
+    public synchronized boolean unregisterPluginById(String pluginId) {
         if (pluginId == null || pluginId.isBlank()) return false;
-        RulePlugin found = plugins.stream()
-            .filter(p -> pluginId.equals(p.id()))
-            .findFirst()
-            .orElse(null);
-        if (found != null) {
-            unregisterPlugin(found);
-            return true;
-        }
-        return false;
+        PluginSnapshot current = snapshot;
+        int i = current.indexOf(pluginId);
+        if (i < 0) return false;
+        RulePlugin plugin = current.plugins[i];
+        snapshot = current.without(i);
+        plugin.onUnload();
+        instrumentation.onUnregistered(pluginId);
+        return true;
     }
 
     /** @return true if a plugin with this id is currently registered */
     public boolean isRegistered(String pluginId) {
         if (pluginId == null || pluginId.isBlank()) return false;
-        return plugins.stream().anyMatch(p -> pluginId.equals(p.id()));
+        return snapshot.indexOf(pluginId) >= 0;
     }
 
+    /** @return the registered plugins in registration order (immutable) */
     public List<RulePlugin> getPlugins() {
-        return List.copyOf(plugins);
+        return snapshot.pluginList();
+    }
+
+    /** @return counter incremented on every register, unregister or policy change */
+    public long getVersion() {
+        return snapshot.version;
     }
 
     /**
-     * Evaluate event against all registered plugins and aggregate alerts.
+     * Evaluate event against the registered plugins subscribed to it and aggregate alerts.
      */
     public EngineResult evaluate(GridOpsEvent event) {
+        return executor == null ? evaluateSequential(event) : evaluateParallel(event);
+    }
+
+    private EngineResult evaluateSequential(GridOpsEvent event) {
+        PluginInstrumentation instr = instrumentation;
+        boolean instrumented = instr != PluginInstrumentation.NOOP;
+        AlertCollector collector = AlertCollector.acquire();
+        try {
+            for (RoutingTable.Route route : snapshot.routing.routesFor(event.getEventType())) {
+                if (!route.accepts(event)) continue;
+                RulePlugin plugin = route.plugin;
+                PluginCircuitBreaker breaker = route.breaker;
+                if (breaker != null && !breaker.tryAcquire(System.nanoTime())) continue;
+                boolean timed = instrumented || breaker != null;
+                int before = collector.size();
+                long start = timed ? System.nanoTime() : 0L;
+                try {
+                    plugin.evaluate(event, collector);
+                    long duration = timed ? System.nanoTime() - start : 0L;
+                    int count = collector.size() - before;
+                    if (instrumented) instr.onEvaluated(plugin.id(), 1, duration, count);
+                    Alert quarantine = recordOutcome(breaker, plugin, false, duration);
+                    if (quarantine != null) {
+                        collector.accept(quarantine);
+                        count++;
+                    }
+                    if (count > 0) collector.pluginsFired.add(plugin.id());
+                } catch (Throwable e) {
+                    // Isolate plugin failure: drop partial output, report it to instrumentation and as an ERROR alert
+                    long duration = timed ? System.nanoTime() - start : 0L;
+                    if (instrumented) instr.onError(plugin.id(), 1, duration, e);
+                    collector.truncate(before);
+                    collector.accept(errorAlert(plugin, failureMessage(e)));
+                    Alert quarantine = recordOutcome(breaker, plugin, true, duration);
+                    if (quarantine != null) collector.accept(quarantine);
+                    collector.pluginsFired.add(plugin.id());
+                }
+            }
+            AlertDeduplicator dedup = deduplicator;
+            if (dedup != null) dedup.filter(event, collector.alerts);
+            return notifyListeners(event, collector.toResult(event.getEventId()));
+        } finally {
+            collector.release();
+        }
+    }
+
+    private EngineResult evaluateParallel(GridOpsEvent event) {
+        List<RoutingTable.Route> targets = new ArrayList<>();
+        List<Callable<List<Alert>>> calls = new ArrayList<>();
+        for (RoutingTable.Route route : snapshot.routing.routesFor(event.getEventType())) {
+            if (!route.accepts(event)) continue;
+            RulePlugin plugin = route.plugin;
+            if (route.breaker != null && !route.breaker.tryAcquire(System.nanoTime())) continue;
+            targets.add(route);
+            calls.add(() -> plugin.evaluate(event));
+        }
+
         List<Alert> allAlerts = new ArrayList<>();
         List<String> pluginsFired = new ArrayList<>();
-
-        for (RulePlugin plugin : plugins) {
-            try {
-                List<Alert> alerts = plugin.evaluate(event);
-                if (alerts != null && !alerts.isEmpty()) {
-                    allAlerts.addAll(alerts);
-                    pluginsFired.add(plugin.id());
+        PluginInstrumentation instr = instrumentation;
+        invokeAll(targets, calls, new Outcome<>() {
+            @Override
+            public void success(int target, List<Alert> alerts, long durationNanos) {
+                RoutingTable.Route route = targets.get(target);
+                RulePlugin plugin = route.plugin;
+                int count = alerts != null ? alerts.size() : 0;
+                instr.onEvaluated(plugin.id(), 1, durationNanos, count);
+                if (count > 0) allAlerts.addAll(alerts);
+                Alert quarantine = recordOutcome(route.breaker, plugin, false, durationNanos);
+                if (quarantine != null) {
+                    allAlerts.add(quarantine);
+                    count++;
                 }
-            } catch (Exception e) {
-                // Isolate plugin failure; could log and optionally add a system alert
-                allAlerts.add(new com.gridops.microkernel.core.alert.Alert(
-                    plugin.id(), "engine", "ERROR",
-                    "Plugin evaluation failed: " + e.getMessage(),
-                    java.time.Instant.now()));
+                if (count > 0) pluginsFired.add(plugin.id());
+            }
+
+            @Override
+            public void failure(int target, Throwable error, long durationNanos) {
+                RoutingTable.Route route = targets.get(target);
+                RulePlugin plugin = route.plugin;
+                instr.onError(plugin.id(), 1, durationNanos, error);
+                allAlerts.add(errorAlert(plugin, failureMessage(error)));
+                Alert quarantine = recordOutcome(route.breaker, plugin, true, durationNanos);
+                if (quarantine != null) allAlerts.add(quarantine);
                 pluginsFired.add(plugin.id());
             }
+        });
+        AlertDeduplicator dedup = deduplicator;
+        if (dedup != null) dedup.filter(event, allAlerts);
+        return notifyListeners(event, new EngineResult(event.getEventId(), allAlerts, pluginsFired));
+    }
+
+    /**
+     * Evaluate a batch of events. Each plugin is called once through
+     * {@link RulePlugin#evaluateBatch(EventBatch)} with the events routed to it, which amortizes
+     * dispatch overhead across the batch. Plugins that receive every event share one batch, so
+     * each column is gathered once. In parallel mode plugins run concurrently, each
+     * bounded by the plugin timeout. Results are returned per event, in input order.
+     */
+    public List<EngineResult> evaluateBatch(List<GridOpsEvent> events) {
+        if (events == null || events.isEmpty()) return List.of();
+        int size = events.size();
+        List<RoutingTable.Route> targets = new ArrayList<>();
+        List<int[]> targetRows = new ArrayList<>();
+        List<Callable<List<List<Alert>>>> calls = new ArrayList<>();
+        EventBatch all = new EventBatch(events);
+
+        for (RoutingTable.Route route : snapshot.routing.all()) {
+            int[] rows = new int[size];
+            int matched = 0;
+            for (int i = 0; i < size; i++) {
+                if (route.matches(events.get(i))) rows[matched++] = i;
+            }
+            if (matched == 0) continue;
+            if (route.breaker != null && !route.breaker.tryAcquire(System.nanoTime())) continue;
+            EventBatch input;
+            if (matched == size) {
+                input = all;
+            } else {
+                List<GridOpsEvent> routed = new ArrayList<>(matched);
+                for (int j = 0; j < matched; j++) routed.add(events.get(rows[j]));
+                input = new EventBatch(routed);
+            }
+            RulePlugin plugin = route.plugin;
+            targets.add(route);
+            targetRows.add(Arrays.copyOf(rows, matched));
+            calls.add(() -> plugin.evaluateBatch(input));
+        }
+
+        List<List<Alert>> alertsPerEvent = new ArrayList<>(size);
+        List<List<String>> firedPerEvent = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            alertsPerEvent.add(new ArrayList<>());
+            firedPerEvent.add(new ArrayList<>());
         }
 
-        return new EngineResult(event.getEventId(), allAlerts, pluginsFired);
+        PluginInstrumentation instr = instrumentation;
+        invokeAll(targets, calls, new Outcome<>() {
+            @Override
+            public void success(int target, List<List<Alert>> results, long durationNanos) {
+                int[] rows = targetRows.get(target);
+                if (results == null || results.size() != rows.length) {
+                    failure(target, new IllegalStateException("Plugin batch evaluation returned "
+                        + (results == null ? "null" : results.size() + " results") + " for " + rows.length + " events"),
+                        durationNanos);
+                    return;
+                }
+                RoutingTable.Route route = targets.get(target);
+                RulePlugin plugin = route.plugin;
+                String pluginId = plugin.id();
+                int count = 0;
+                for (int j = 0; j < rows.length; j++) {
+                    List<Alert> alerts = results.get(j);
+                    if (alerts != null && !alerts.isEmpty()) {
+                        count += alerts.size();
+                        alertsPerEvent.get(rows[j]).addAll(alerts);
+                        firedPerEvent.get(rows[j]).add(pluginId);
+                    }
+                }
+                instr.onEvaluated(pluginId, rows.length, durationNanos, count);
+                // Slow-call detection compares per-event latency for batch calls
+                Alert quarantine = recordOutcome(route.breaker, plugin, false, durationNanos / rows.length);
+                if (quarantine != null) {
+                    int row = rows[rows.length - 1];
+                    alertsPerEvent.get(row).add(quarantine);
+                    if (!firedPerEvent.get(row).contains(pluginId)) firedPerEvent.get(row).add(pluginId);
+                }
+            }
+
+            @Override
+            public void failure(int target, Throwable error, long durationNanos) {
+                RoutingTable.Route route = targets.get(target);
+                RulePlugin plugin = route.plugin;
+                int[] rows = targetRows.get(target);
+                instr.onError(plugin.id(), rows.length, durationNanos, error);
+                String message = failureMessage(error);
+                for (int row : rows) {
+                    alertsPerEvent.get(row).add(errorAlert(plugin, message));
+                    firedPerEvent.get(row).add(plugin.id());
+                }
+                Alert quarantine = recordOutcome(route.breaker, plugin, true, durationNanos / rows.length);
+                if (quarantine != null) alertsPerEvent.get(rows[rows.length - 1]).add(quarantine);
+            }
+        });
+
+        AlertDeduplicator dedup = deduplicator;
+        List<EngineResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (dedup != null) dedup.filter(events.get(i), alertsPerEvent.get(i));
+            results.add(notifyListeners(events.get(i),
+                new EngineResult(events.get(i).getEventId(), alertsPerEvent.get(i), firedPerEvent.get(i))));
+        }
+        return results;
+    }
+
+    /**
+     * Run one call per target plugin, on the caller thread (sequential mode) or on the
+     * executor with the per-plugin timeout (parallel mode). Outcomes are reported in
+     * target order so merged results stay deterministic.
+     */
+    private <T> void invokeAll(List<?> targets, List<Callable<T>> calls, Outcome<T> outcome) {
+        if (executor == null) {
+            for (int i = 0; i < targets.size(); i++) {
+                long start = System.nanoTime();
+                T value;
+                try {
+                    value = calls.get(i).call();
+                } catch (Throwable e) {
+                    outcome.failure(i, e, System.nanoTime() - start);
+                    continue;
+                }
+                outcome.success(i, value, System.nanoTime() - start);
+            }
+            return;
+        }
+
+        long submitted = System.nanoTime();
+        List<Future<Timed<T>>> futures = new ArrayList<>(calls.size());
+        for (Callable<T> call : calls) {
+            futures.add(executor.submit(() -> {
+                long start = System.nanoTime();
+                T value = call.call();
+                return new Timed<>(value, System.nanoTime() - start);
+            }));
+        }
+        long deadline = submitted + pluginTimeoutNanos;
+
+        for (int i = 0; i < targets.size(); i++) {
+            Future<Timed<T>> future = futures.get(i);
+            Timed<T> timed;
+            try {
+                timed = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                outcome.failure(i, new TimeoutException("Plugin evaluation timed out after "
+                    + TimeUnit.NANOSECONDS.toMillis(pluginTimeoutNanos) + " ms"), System.nanoTime() - submitted);
+                continue;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                outcome.failure(i, cause, System.nanoTime() - submitted);
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.subList(i, futures.size()).forEach(f -> f.cancel(true));
+                // Every remaining call was admitted by its breaker, so each one still gets an outcome
+                for (int j = i; j < targets.size(); j++) outcome.failure(j, e, System.nanoTime() - submitted);
+                break;
+            }
+            outcome.success(i, timed.value, timed.durationNanos);
+        }
+    }
+
+    /** Receives the result of the call for target index {@code target} from {@link #invokeAll}. */
+    private interface Outcome<T> {
+        void success(int target, T value, long durationNanos);
+        void failure(int target, Throwable error, long durationNanos);
+    }
+
+    /** Value produced on an executor thread plus the time the plugin took to produce it. */
+    private static final class Timed<T> {
+        final T value;
+        final long durationNanos;
+
+        Timed(T value, long durationNanos) {
+            this.value = value;
+            this.durationNanos = durationNanos;
+        }
+    }
+
+    private EngineResult notifyListeners(GridOpsEvent event, EngineResult result) {
+        for (EvaluationListener listener : listeners) {
+            try {
+                listener.onEvaluated(event, result);
+            } catch (RuntimeException e) {
+                // The plugins already ran: a failing listener must not lose the result or skip the others
+                listenerFailures.increment();
+            }
+        }
+        return result;
+    }
+
+    /** Feed a call outcome to the breaker; returns the quarantine alert if this call opened it, else null. */
+    private static Alert recordOutcome(PluginCircuitBreaker breaker, RulePlugin plugin, boolean failed, long durationNanos) {
+        if (breaker == null || !breaker.onResult(failed, durationNanos, System.nanoTime())) return null;
+        return new Alert(plugin.id(), "engine-quarantine", "ERROR",
+            "Plugin quarantined: " + breaker.tripReason(), Instant.now());
+    }
+
+    private static String failureMessage(Throwable error) {
+        if (error instanceof TimeoutException) return error.getMessage();
+        if (error instanceof InterruptedException) return "Plugin evaluation interrupted";
+        return "Plugin evaluation failed: " + error.getMessage();
+    }
+
+    private static Alert errorAlert(RulePlugin plugin, String message) {
+        return new Alert(plugin.id(), "engine", "ERROR", message, Instant.now());
     }
 
     public static final class EngineResult {
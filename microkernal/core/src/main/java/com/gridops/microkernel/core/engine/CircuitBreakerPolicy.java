@@ -0,0 +1,68 @@
+package com.gridops.microkernel.core.engine;
+
+import java.time.Duration;
+
+/**
+ * Thresholds for quarantining a misbehaving plugin. Each plugin gets its own breaker that
+ * tracks the outcome of its last {@code windowSize} calls. Once at least {@code minimumCalls}
+ * are recorded and the share of failed calls (exceptions, timeouts) reaches
+ * {@code failureRateThreshold}, or the share of calls slower than {@code slowCallDuration}
+ * reaches {@code slowCallRateThreshold}, the breaker opens and the engine stops calling the
+ * plugin. After {@code openDuration} it lets {@code halfOpenProbes} calls through; if all of
+ * them succeed in time the breaker closes, otherwise it opens again.
+ */
+public final class CircuitBreakerPolicy {
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    public CircuitBreakerPolicy(int windowSize, int minimumCalls, double failureRateThreshold,
+                                Duration slowCallDuration, double slowCallRateThreshold,
+                                Duration openDuration, int halfOpenProbes) {
+        if (windowSize < 1) throw new IllegalArgumentException("windowSize must be positive");
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and windowSize");
+        }
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1]");
+        }
+        if (!(slowCallRateThreshold > 0 && slowCallRateThreshold <= 1)) {
+            throw new IllegalArgumentException("slowCallRateThreshold must be in (0, 1]");
+        }
+        if (slowCallDuration == null || slowCallDuration.isNegative() || slowCallDuration.isZero()) {
+            throw new IllegalArgumentException("slowCallDuration must be positive");
+        }
+        if (openDuration == null || openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("openDuration must be positive");
+        }
+        if (halfOpenProbes < 1) throw new IllegalArgumentException("halfOpenProbes must be positive");
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /** 20-call window, open at 50% failures or 80% calls over 250 ms, retry after 30 s with 3 probes. */
+    public static CircuitBreakerPolicy defaults() {
+        return new CircuitBreakerPolicy(20, 10, 0.5, Duration.ofMillis(250), 0.8, Duration.ofSeconds(30), 3);
+    }
+
+    public int getWindowSize() { return windowSize; }
+    public int getMinimumCalls() { return minimumCalls; }
+    public double getFailureRateThreshold() { return failureRateThreshold; }
+    public Duration getSlowCallDuration() { return Duration.ofNanos(slowCallNanos); }
+    public double getSlowCallRateThreshold() { return slowCallRateThreshold; }
+    public Duration getOpenDuration() { return Duration.ofNanos(openNanos); }
+    public int getHalfOpenProbes() { return halfOpenProbes; }
+
+    long slowCallNanos() { return slowCallNanos; }
+    long openNanos() { return openNanos; }
+}
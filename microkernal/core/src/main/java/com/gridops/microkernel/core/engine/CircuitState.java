@@ -0,0 +1,11 @@
+package com.gridops.microkernel.core.engine;
+
+/** Per-plugin circuit breaker state, see {@link CircuitBreakerPolicy}. */
+public enum CircuitState {
+    /** Plugin is evaluated normally. */
+    CLOSED,
+    /** Plugin is quarantined: the engine skips it until the open duration has elapsed. */
+    OPEN,
+    /** A limited number of probe calls are let through to decide whether to close again. */
+    HALF_OPEN
+}
@@ -0,0 +1,32 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity an event is about: the values of the configured payload fields (e.g. {@code nodeId},
+ * {@code zone}) joined with {@code '|'}, a missing field contributing an empty value. With no
+ * fields configured every event maps to the same entity.
+ */
+final class EntityKey {
+
+    private final String[] fields;
+
+    EntityKey(List<String> fields) {
+        this.fields = fields != null ? fields.toArray(new String[0]) : new String[0];
+    }
+
+    String of(GridOpsEvent event) {
+        if (fields.length == 0) return "";
+        Map<String, Object> payload = event.getPayload();
+        StringBuilder sb = new StringBuilder();
+        for (String field : fields) {
+            Object value = payload.get(field);
+            if (sb.length() > 0) sb.append('|');
+            if (value != null) sb.append(value);
+        }
+        return sb.toString();
+    }
+}
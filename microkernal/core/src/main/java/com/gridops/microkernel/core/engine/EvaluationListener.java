@@ -0,0 +1,16 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+/**
+ * Receives every event the {@link AlertRuleEngine} evaluated together with its final result
+ * (after deduplication), e.g. to journal or forward alerts. Called on the evaluating thread
+ * before {@code evaluate}/{@code evaluateBatch} returns, so it adds directly to evaluation
+ * latency. An exception is counted ({@link AlertRuleEngine#getListenerFailureCount()}) and does
+ * not reach the caller or the other listeners. Must be thread-safe.
+ */
+@FunctionalInterface
+public interface EvaluationListener {
+
+    void onEvaluated(GridOpsEvent event, AlertRuleEngine.EngineResult result);
+}
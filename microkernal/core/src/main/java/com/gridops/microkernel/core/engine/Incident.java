@@ -0,0 +1,55 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Alerts from any plugins about one entity (e.g. a node or zone) that arrived within the
+ * correlation window of each other. Immutable snapshot taken by {@link IncidentCorrelator}.
+ */
+public final class Incident {
+
+    private final String id;
+    private final String entityKey;
+    private final boolean open;
+    private final Instant openedAt;
+    private final Instant updatedAt;
+    private final int eventCount;
+    private final int alertCount;
+    private final List<String> pluginIds;
+    private final List<String> ruleIds;
+    private final List<Alert> alerts;
+
+    public Incident(String id, String entityKey, boolean open, Instant openedAt, Instant updatedAt,
+                    int eventCount, int alertCount, List<String> pluginIds, List<String> ruleIds, List<Alert> alerts) {
+        this.id = id;
+        this.entityKey = entityKey;
+        this.open = open;
+        this.openedAt = openedAt;
+        this.updatedAt = updatedAt;
+        this.eventCount = eventCount;
+        this.alertCount = alertCount;
+        this.pluginIds = List.copyOf(pluginIds);
+        this.ruleIds = List.copyOf(ruleIds);
+        this.alerts = List.copyOf(alerts);
+    }
+
+    public String getId() { return id; }
+    /** Values of the correlator's entity keys, joined with {@code |}. */
+    public String getEntityKey() { return entityKey; }
+    /** False once the window passed without a new alert, or the incident was evicted. */
+    public boolean isOpen() { return open; }
+    public Instant getOpenedAt() { return openedAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    /** Events that contributed at least one alert. */
+    public int getEventCount() { return eventCount; }
+    public int getAlertCount() { return alertCount; }
+    /** Plugins that raised alerts, in first-seen order. */
+    public List<String> getPluginIds() { return pluginIds; }
+    /** Rules that fired, in first-seen order. */
+    public List<String> getRuleIds() { return ruleIds; }
+    /** The first alerts of the incident (at most {@link IncidentCorrelator#MAX_ALERTS_PER_INCIDENT}). */
+    public List<Alert> getAlerts() { return alerts; }
+}
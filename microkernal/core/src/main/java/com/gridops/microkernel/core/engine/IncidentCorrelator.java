@@ -0,0 +1,162 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Groups alerts into {@link Incident}s. Registered as an {@link EvaluationListener}, it sees each
+ * evaluated event's final alerts; alerts for the same entity (values of the configured payload keys,
+ * e.g. {@code nodeId}, {@code zone}) join the entity's open incident while each arrives within
+ * {@code window} of the previous one, whichever plugin raised them. Engine {@code ERROR} alerts
+ * (plugin failures, quarantine) describe plugins, not the grid, and are ignored.
+ *
+ * Time is event time: the correlator's clock is the latest {@link GridOpsEvent#getTimestamp()} seen,
+ * so replays group exactly like the live run and an out-of-order event never moves it backwards.
+ * Incidents therefore only expire as newer alerts arrive.
+ *
+ * Open incidents are indexed by entity in last-update order, so expiry only looks at the head and
+ * each alert costs O(1) regardless of history. Closed incidents are kept in a bounded history; at
+ * most {@code maxOpen} incidents are open, the least recently updated being closed first. Thread-safe.
+ */
+public final class IncidentCorrelator implements EvaluationListener {
+
+    /** Alerts retained per incident; later alerts are only counted. */
+    public static final int MAX_ALERTS_PER_INCIDENT = 32;
+
+    private final long windowMillis;
+    private final int maxOpen;
+    private final int historySize;
+    private final EntityKey entityKey;
+    // Access order == last-update order, so expired incidents are always at the head
+    private final LinkedHashMap<String, Tracker> open = new LinkedHashMap<>(16, 0.75f, true);
+    private final ArrayDeque<Incident> closed = new ArrayDeque<>();
+    // Latest event time seen, in epoch millis
+    private long watermark = Long.MIN_VALUE;
+    private long opened;
+    private long correlatedAlerts;
+
+    public IncidentCorrelator(Duration window, int maxOpen, int historySize, List<String> entityKeys) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("window must be positive");
+        }
+        if (maxOpen < 1) throw new IllegalArgumentException("maxOpen must be positive");
+        if (historySize < 0) throw new IllegalArgumentException("historySize must not be negative");
+        this.windowMillis = window.toMillis();
+        this.maxOpen = maxOpen;
+        this.historySize = historySize;
+        this.entityKey = new EntityKey(entityKeys);
+    }
+
+    @Override
+    public void onEvaluated(GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        List<Alert> alerts = result.getAlerts();
+        if (alerts.isEmpty()) return;
+        String entity = null;
+        long eventTime = event.getTimestamp().toEpochMilli();
+        synchronized (this) {
+            if (eventTime > watermark) watermark = eventTime;
+            expire();
+            Tracker tracker = null;
+            for (Alert alert : alerts) {
+                if ("ERROR".equals(alert.getSeverity())) continue;
+                if (tracker == null) {
+                    if (entity == null) entity = entityKey.of(event);
+                    tracker = open.get(entity);
+                    if (tracker == null) {
+                        if (open.size() >= maxOpen) closeEldest();
+                        tracker = new Tracker("inc-" + (++opened), entity, watermark);
+                        open.put(entity, tracker);
+                    }
+                    tracker.updatedAt = watermark;
+                    tracker.events++;
+                }
+                tracker.add(alert);
+                correlatedAlerts++;
+            }
+        }
+    }
+
+    /** Open incidents, least recently updated first. */
+    public synchronized List<Incident> openIncidents() {
+        List<Incident> snapshot = new ArrayList<>(open.size());
+        for (Tracker tracker : open.values()) snapshot.add(tracker.snapshot(true));
+        return snapshot;
+    }
+
+    /** Up to {@code historySize} most recently closed incidents, newest first. */
+    public synchronized List<Incident> closedIncidents() {
+        return new ArrayList<>(closed);
+    }
+
+    /** Incidents opened since start. */
+    public synchronized long openedCount() { return opened; }
+
+    /** Alerts grouped into incidents since start. */
+    public synchronized long correlatedAlertCount() { return correlatedAlerts; }
+
+    public Duration window() { return Duration.ofMillis(windowMillis); }
+
+    /** Close incidents whose window passed; they are in update order, so stop at the first live one. */
+    private void expire() {
+        Iterator<Tracker> it = open.values().iterator();
+        while (it.hasNext()) {
+            Tracker tracker = it.next();
+            if (watermark - tracker.updatedAt < windowMillis) break;
+            it.remove();
+            archive(tracker);
+        }
+    }
+
+    private void closeEldest() {
+        Iterator<Tracker> it = open.values().iterator();
+        Tracker eldest = it.next();
+        it.remove();
+        archive(eldest);
+    }
+
+    private void archive(Tracker tracker) {
+        if (historySize == 0) return;
+        if (closed.size() >= historySize) closed.removeLast();
+        closed.addFirst(tracker.snapshot(false));
+    }
+
+    private static final class Tracker {
+        final String id;
+        final String entity;
+        final long openedAt;
+        long updatedAt;
+        int events;
+        int alertCount;
+        final LinkedHashSet<String> pluginIds = new LinkedHashSet<>();
+        final LinkedHashSet<String> ruleIds = new LinkedHashSet<>();
+        final List<Alert> alerts = new ArrayList<>();
+
+        Tracker(String id, String entity, long openedAt) {
+            this.id = id;
+            this.entity = entity;
+            this.openedAt = openedAt;
+            this.updatedAt = openedAt;
+        }
+
+        void add(Alert alert) {
+            alertCount++;
+            pluginIds.add(alert.getPluginId());
+            ruleIds.add(alert.getRuleId());
+            if (alerts.size() < MAX_ALERTS_PER_INCIDENT) alerts.add(alert);
+        }
+
+        Incident snapshot(boolean isOpen) {
+            return new Incident(id, entity, isOpen, Instant.ofEpochMilli(openedAt), Instant.ofEpochMilli(updatedAt),
+                events, alertCount, List.copyOf(pluginIds), List.copyOf(ruleIds), alerts);
+        }
+    }
+}
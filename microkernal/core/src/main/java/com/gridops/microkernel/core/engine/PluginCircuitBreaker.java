@@ -0,0 +1,131 @@
+package com.gridops.microkernel.core.engine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker for one plugin: a count-based rolling window of call outcomes plus the
+ * CLOSED / OPEN / HALF_OPEN state machine described on {@link CircuitBreakerPolicy}.
+ * Times are {@link System#nanoTime()} values passed in by the caller. Thread-safe:
+ * {@link #tryAcquire} is a single volatile read while CLOSED, and every state change
+ * (including recording an outcome) happens under the breaker's monitor.
+ */
+final class PluginCircuitBreaker {
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final CircuitBreakerPolicy policy;
+    private final byte[] window;
+    private int next;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    private volatile CircuitState state = CircuitState.CLOSED;
+    private long openUntil;
+    private int probesIssued;
+    private int probesSucceeded;
+    private String tripReason;
+
+    PluginCircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.window = new byte[policy.getWindowSize()];
+    }
+
+    /** @return true if the plugin may be called now; moves OPEN to HALF_OPEN once the open duration has elapsed */
+    boolean tryAcquire(long now) {
+        return state == CircuitState.CLOSED || acquireProbe(now);
+    }
+
+    private synchronized boolean acquireProbe(long now) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (now - openUntil < 0) return false;
+                state = CircuitState.HALF_OPEN;
+                probesIssued = 0;
+                probesSucceeded = 0;
+                break;
+            case HALF_OPEN:
+            default:
+                break;
+        }
+        if (probesIssued >= policy.getHalfOpenProbes()) return false;
+        probesIssued++;
+        return true;
+    }
+
+    /**
+     * Record the outcome of a call admitted by {@link #tryAcquire}.
+     * @return true if this outcome opened the breaker (the caller reports the quarantine once)
+     */
+    synchronized boolean onResult(boolean failed, long durationNanos, long now) {
+        boolean slow = durationNanos >= policy.slowCallNanos();
+        switch (state) {
+            case CLOSED:
+                record(failed, slow);
+                if (calls < policy.getMinimumCalls()) return false;
+                if (failures >= policy.getFailureRateThreshold() * calls) {
+                    trip(now, failures + " of " + calls + " recent calls failed");
+                    return true;
+                }
+                if (slowCalls >= policy.getSlowCallRateThreshold() * calls) {
+                    trip(now, slowCalls + " of " + calls + " recent calls took longer than "
+                        + TimeUnit.NANOSECONDS.toMillis(policy.slowCallNanos()) + " ms");
+                    return true;
+                }
+                return false;
+            case HALF_OPEN:
+                if (failed || slow) {
+                    trip(now, failed ? "half-open probe failed" : "half-open probe took longer than "
+                        + TimeUnit.NANOSECONDS.toMillis(policy.slowCallNanos()) + " ms");
+                    return true;
+                }
+                if (++probesSucceeded >= policy.getHalfOpenProbes()) close();
+                return false;
+            case OPEN:
+            default:
+                // Late result of a call that started before the breaker opened
+                return false;
+        }
+    }
+
+    CircuitState state() {
+        return state;
+    }
+
+    /** Why the breaker last opened, or null if it never did. */
+    synchronized String tripReason() {
+        return tripReason;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (calls == window.length) {
+            byte old = window[next];
+            if ((old & FAILED) != 0) failures--;
+            if ((old & SLOW) != 0) slowCalls--;
+        } else {
+            calls++;
+        }
+        byte outcome = (byte) ((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        window[next] = outcome;
+        next = next + 1 == window.length ? 0 : next + 1;
+        if (failed) failures++;
+        if (slow) slowCalls++;
+    }
+
+    private void trip(long now, String reason) {
+        state = CircuitState.OPEN;
+        openUntil = now + policy.openNanos();
+        tripReason = reason;
+    }
+
+    private void close() {
+        state = CircuitState.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+    }
+}
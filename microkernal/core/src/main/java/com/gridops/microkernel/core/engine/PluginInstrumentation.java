@@ -0,0 +1,42 @@
+package com.gridops.microkernel.core.engine;
+
+/**
+ * Instrumentation hook called by {@link AlertRuleEngine} after every plugin call and when a
+ * plugin is unregistered.
+ * Implementations record per-plugin latency, alerts emitted and exceptions caught
+ * (e.g. export them to a metrics registry). Called on the evaluating thread, so
+ * implementations must be thread-safe and cheap. The core ships no metrics library.
+ */
+public interface PluginInstrumentation {
+
+    /** Default: records nothing; the engine skips timing entirely when this is installed. */
+    PluginInstrumentation NOOP = new PluginInstrumentation() {};
+
+    /**
+     * A plugin call completed.
+     *
+     * @param pluginId      plugin id
+     * @param events        events passed in the call (1 for evaluate, batch size for evaluateBatch)
+     * @param durationNanos wall time of the call
+     * @param alerts        alerts returned across all events
+     */
+    default void onEvaluated(String pluginId, int events, long durationNanos, int alerts) {}
+
+    /**
+     * A plugin call threw, timed out or was interrupted; the engine reports it as an ERROR alert.
+     *
+     * @param pluginId      plugin id
+     * @param events        events passed in the call
+     * @param durationNanos wall time until the failure was observed
+     * @param error         the exception (a {@link java.util.concurrent.TimeoutException} for timeouts)
+     */
+    default void onError(String pluginId, int events, long durationNanos, Throwable error) {}
+
+    /**
+     * The plugin was unregistered; release anything recorded for it (e.g. remove its meters).
+     * A call that was already in flight may still report afterwards.
+     *
+     * @param pluginId plugin id
+     */
+    default void onUnregistered(String pluginId) {}
+}
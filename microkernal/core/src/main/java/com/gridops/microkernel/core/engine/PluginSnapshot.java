@@ -0,0 +1,91 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.state.PluginStateStore;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the registered plugins: plugins in registration order, their circuit
+ * breakers and state stores, an id index and the routing table built from them. The engine publishes a new
+ * snapshot on every admin change; evaluation threads read one snapshot and never lock.
+ */
+final class PluginSnapshot {
+
+    static final PluginSnapshot EMPTY =
+        new PluginSnapshot(new RulePlugin[0], new PluginCircuitBreaker[0], new PluginStateStore[0], 0L);
+
+    final RulePlugin[] plugins;
+    /** Parallel to {@link #plugins}; entries are null when circuit breaking is off. */
+    final PluginCircuitBreaker[] breakers;
+    /** Parallel to {@link #plugins}: the context each plugin was loaded with. */
+    final PluginStateStore[] states;
+    final RoutingTable routing;
+    final long version;
+    private final Map<String, Integer> indexById;
+    private final List<RulePlugin> pluginList;
+
+    private PluginSnapshot(RulePlugin[] plugins, PluginCircuitBreaker[] breakers, PluginStateStore[] states, long version) {
+        this.plugins = plugins;
+        this.breakers = breakers;
+        this.states = states;
+        this.version = version;
+        Map<String, Integer> index = new HashMap<>(plugins.length * 2);
+        for (int i = 0; i < plugins.length; i++) index.put(plugins[i].id(), i);
+        this.indexById = Map.copyOf(index);
+        this.pluginList = List.of(plugins);
+        this.routing = RoutingTable.build(plugins, breakers);
+    }
+
+    /** @return position of the plugin with this id, or -1 */
+    int indexOf(String pluginId) {
+        Integer i = pluginId != null ? indexById.get(pluginId) : null;
+        return i != null ? i : -1;
+    }
+
+    List<RulePlugin> pluginList() {
+        return pluginList;
+    }
+
+    PluginSnapshot with(RulePlugin plugin, PluginCircuitBreaker breaker, PluginStateStore state) {
+        return with(new RulePlugin[] {plugin}, new PluginCircuitBreaker[] {breaker}, new PluginStateStore[] {state});
+    }
+
+    /** Appends several plugins (parallel arrays) as one change. */
+    PluginSnapshot with(RulePlugin[] added, PluginCircuitBreaker[] addedBreakers, PluginStateStore[] addedStates) {
+        int n = plugins.length;
+        RulePlugin[] p = Arrays.copyOf(plugins, n + added.length);
+        PluginCircuitBreaker[] b = Arrays.copyOf(breakers, n + added.length);
+        PluginStateStore[] s = Arrays.copyOf(states, n + added.length);
+        System.arraycopy(added, 0, p, n, added.length);
+        System.arraycopy(addedBreakers, 0, b, n, added.length);
+        System.arraycopy(addedStates, 0, s, n, added.length);
+        return new PluginSnapshot(p, b, s, version + 1);
+    }
+
+    PluginSnapshot without(int index) {
+        int n = plugins.length;
+        RulePlugin[] p = new RulePlugin[n - 1];
+        PluginCircuitBreaker[] b = new PluginCircuitBreaker[n - 1];
+        System.arraycopy(plugins, 0, p, 0, index);
+        System.arraycopy(plugins, index + 1, p, index, n - index - 1);
+        System.arraycopy(breakers, 0, b, 0, index);
+        System.arraycopy(breakers, index + 1, b, index, n - index - 1);
+        PluginStateStore[] s = new PluginStateStore[n - 1];
+        System.arraycopy(states, 0, s, 0, index);
+        System.arraycopy(states, index + 1, s, index, n - index - 1);
+        return new PluginSnapshot(p, b, s, version + 1);
+    }
+
+    /** Same plugins with fresh breakers for {@code policy} (null = no breakers). */
+    PluginSnapshot withPolicy(CircuitBreakerPolicy policy) {
+        PluginCircuitBreaker[] b = new PluginCircuitBreaker[plugins.length];
+        if (policy != null) {
+            for (int i = 0; i < b.length; i++) b[i] = new PluginCircuitBreaker(policy);
+        }
+        return new PluginSnapshot(plugins, b, states, version + 1);
+    }
+}
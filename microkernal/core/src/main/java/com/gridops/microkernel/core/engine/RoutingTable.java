@@ -0,0 +1,96 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index from event type to the plugins subscribed to it (contract v2).
+ * Plugins without declared event types are wildcard subscribers and appear in every route.
+ * Each route keeps plugin registration order so results stay deterministic.
+ * Part of the engine's {@link PluginSnapshot}; read without locking on the evaluation path.
+ */
+final class RoutingTable {
+
+    private final Route[] all;
+    private final Map<String, Route[]> byEventType;
+    private final Route[] wildcardOnly;
+
+    private RoutingTable(Route[] all, Map<String, Route[]> byEventType, Route[] wildcardOnly) {
+        this.all = all;
+        this.byEventType = byEventType;
+        this.wildcardOnly = wildcardOnly;
+    }
+
+    /** @param breakers parallel to {@code plugins}; null entries mean no circuit breaker */
+    static RoutingTable build(RulePlugin[] plugins, PluginCircuitBreaker[] breakers) {
+        List<Route> all = new ArrayList<>(plugins.length);
+        List<Route> wildcard = new ArrayList<>();
+        Set<String> eventTypes = new LinkedHashSet<>();
+        for (int i = 0; i < plugins.length; i++) {
+            Route route = new Route(plugins[i], breakers[i]);
+            all.add(route);
+            if (route.eventTypes.isEmpty()) wildcard.add(route);
+            eventTypes.addAll(route.eventTypes);
+        }
+        Map<String, Route[]> byEventType = new HashMap<>();
+        for (String eventType : eventTypes) {
+            List<Route> routes = new ArrayList<>();
+            for (Route route : all) {
+                if (route.eventTypes.isEmpty() || route.eventTypes.contains(eventType)) routes.add(route);
+            }
+            byEventType.put(eventType, routes.toArray(new Route[0]));
+        }
+        return new RoutingTable(all.toArray(new Route[0]), Map.copyOf(byEventType), wildcard.toArray(new Route[0]));
+    }
+
+    /** Every route in registration order; callers check {@link Route#matches(GridOpsEvent)}. */
+    Route[] all() {
+        return all;
+    }
+
+    /** Routes for the event's type; callers must still check {@link Route#accepts(GridOpsEvent)} (payload keys). */
+    Route[] routesFor(String eventType) {
+        if (eventType == null) return wildcardOnly;
+        Route[] routes = byEventType.get(eventType);
+        return routes != null ? routes : wildcardOnly;
+    }
+
+    /** A plugin plus its subscriptions (empty = accept all) and circuit breaker (null = none). */
+    static final class Route {
+        final RulePlugin plugin;
+        final PluginCircuitBreaker breaker;
+        private final Set<String> eventTypes;
+        private final String[] payloadKeys;
+
+        Route(RulePlugin plugin, PluginCircuitBreaker breaker) {
+            this.plugin = plugin;
+            this.breaker = breaker;
+            this.eventTypes = Set.copyOf(plugin.eventTypes());
+            this.payloadKeys = plugin.payloadKeys().toArray(new String[0]);
+        }
+
+        /** Full subscription check, for callers that did not look the route up by event type. */
+        boolean matches(GridOpsEvent event) {
+            if (!eventTypes.isEmpty() && (event.getEventType() == null || !eventTypes.contains(event.getEventType()))) {
+                return false;
+            }
+            return accepts(event);
+        }
+
+        boolean accepts(GridOpsEvent event) {
+            if (payloadKeys.length == 0) return true;
+            Map<String, Object> payload = event.getPayload();
+            for (String key : payloadKeys) {
+                if (payload.containsKey(key)) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Partitioned, single-writer execution: each event is hashed by a partition key onto one of N
+ * shards. Every shard is one thread fed by a bounded queue, so all events for a key are evaluated
+ * in submission order by the same thread, and per-entity plugin state needs no locking. Throughput
+ * scales with the number of shards as long as keys are spread.
+ *
+ * The partition key is the value of the first configured payload field present (e.g.
+ * {@code nodeId}, then {@code zone}); events without any of them share one shard.
+ * Requires a sequential engine: a parallel engine would fan plugin calls out to other threads.
+ */
+public final class ShardedEvaluator implements AutoCloseable {
+
+    private static final Task STOP = new Task(null, null);
+
+    private final AlertRuleEngine engine;
+    private final String[] partitionKeys;
+    private final List<BlockingQueue<Task>> queues;
+    private final List<Thread> workers;
+    private final AtomicLongArray processed;
+    private final int queueCapacity;
+    // Submitters hold the read lock from the closed check to the enqueue; close() takes the write
+    // lock to flip the flag, so no task can land behind a shard's STOP marker
+    private final ReentrantReadWriteLock admission = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    /**
+     * @param engine        sequential engine evaluated on the shard threads
+     * @param shards        number of shard threads
+     * @param queueCapacity bound of each shard's queue; {@link #submit} blocks when it is full
+     * @param partitionKeys payload fields used as partition key, in priority order
+     */
+    public ShardedEvaluator(AlertRuleEngine engine, int shards, int queueCapacity, List<String> partitionKeys) {
+        if (engine == null) throw new IllegalArgumentException("engine is required");
+        if (engine.isParallel()) throw new IllegalArgumentException("sharded evaluation requires a sequential engine");
+        if (shards < 1) throw new IllegalArgumentException("shards must be positive");
+        if (queueCapacity < 1) throw new IllegalArgumentException("queueCapacity must be positive");
+        this.engine = engine;
+        this.partitionKeys = partitionKeys != null ? partitionKeys.toArray(new String[0]) : new String[0];
+        this.queueCapacity = queueCapacity;
+        this.processed = new AtomicLongArray(shards);
+        this.queues = new ArrayList<>(shards);
+        this.workers = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            BlockingQueue<Task> queue = new ArrayBlockingQueue<>(queueCapacity);
+            int shard = i;
+            Thread worker = new Thread(() -> run(shard, queue), "gridops-shard-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+        }
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Queue the event on its shard, waiting for space if the shard is full.
+     * @return future completed with the result on the shard thread
+     * @throws IllegalStateException if the evaluator is closed
+     */
+    public CompletableFuture<AlertRuleEngine.EngineResult> submit(GridOpsEvent event) {
+        Task task = new Task(event, new CompletableFuture<>());
+        admission.readLock().lock();
+        try {
+            ensureOpen();
+            queues.get(shardFor(event)).put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.result.completeExceptionally(e);
+        } finally {
+            admission.readLock().unlock();
+        }
+        return task.result;
+    }
+
+    /**
+     * Queue the event without waiting.
+     * @return future for the result, or null if the event's shard queue is full
+     */
+    public CompletableFuture<AlertRuleEngine.EngineResult> offer(GridOpsEvent event) {
+        Task task = new Task(event, new CompletableFuture<>());
+        admission.readLock().lock();
+        try {
+            ensureOpen();
+            return queues.get(shardFor(event)).offer(task) ? task.result : null;
+        } finally {
+            admission.readLock().unlock();
+        }
+    }
+
+    /** Evaluate events through their shards and wait for all results, returned in input order. */
+    public List<AlertRuleEngine.EngineResult> evaluateAll(List<GridOpsEvent> events) {
+        List<CompletableFuture<AlertRuleEngine.EngineResult>> futures = new ArrayList<>(events.size());
+        for (GridOpsEvent event : events) futures.add(submit(event));
+        List<AlertRuleEngine.EngineResult> results = new ArrayList<>(events.size());
+        for (CompletableFuture<AlertRuleEngine.EngineResult> future : futures) results.add(future.join());
+        return results;
+    }
+
+    /** Shard index for this event. */
+    public int shardFor(GridOpsEvent event) {
+        Map<String, Object> payload = event.getPayload();
+        Object key = null;
+        for (String partitionKey : partitionKeys) {
+            key = payload.get(partitionKey);
+            if (key != null) break;
+        }
+        if (key == null) return 0;
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return (h & Integer.MAX_VALUE) % queues.size();
+    }
+
+    public int shardCount() {
+        return queues.size();
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    /** Current number of queued (not yet evaluated) events per shard. */
+    public int[] queueDepths() {
+        int[] depths = new int[queues.size()];
+        for (int i = 0; i < depths.length; i++) depths[i] = queues.get(i).size();
+        return depths;
+    }
+
+    /** Events evaluated per shard since start. */
+    public long[] processedCounts() {
+        long[] counts = new long[processed.length()];
+        for (int i = 0; i < counts.length; i++) counts[i] = processed.get(i);
+        return counts;
+    }
+
+    /**
+     * Stop accepting events, let every shard drain its queue, and wait for the threads to exit.
+     * Anything still queued after that fails with {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        admission.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+        } finally {
+            admission.writeLock().unlock();
+        }
+        boolean interrupted = false;
+        for (BlockingQueue<Task> queue : queues) {
+            try {
+                queue.put(STOP);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        for (BlockingQueue<Task> queue : queues) {
+            for (Task task; (task = queue.poll()) != null; ) {
+                if (task != STOP) task.result.completeExceptionally(new IllegalStateException("ShardedEvaluator is closed"));
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("ShardedEvaluator is closed");
+    }
+
+    private void run(int shard, BlockingQueue<Task> queue) {
+        while (true) {
+            Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                // Shard threads are only stopped through close(); keep draining
+                continue;
+            }
+            if (task == STOP) return;
+            try {
+                task.result.complete(engine.evaluate(task.event));
+            } catch (Throwable t) {
+                task.result.completeExceptionally(t);
+            }
+            processed.incrementAndGet(shard);
+        }
+    }
+
+    private static final class Task {
+        final GridOpsEvent event;
+        final CompletableFuture<AlertRuleEngine.EngineResult> result;
+
+        Task(GridOpsEvent event, CompletableFuture<AlertRuleEngine.EngineResult> result) {
+            this.event = event;
+            this.result = result;
+        }
+    }
+}
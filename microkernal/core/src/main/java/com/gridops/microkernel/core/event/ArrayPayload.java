@@ -0,0 +1,97 @@
+package com.gridops.microkernel.core.event;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable payload map over parallel name/value arrays, used when an event is decoded field by
+ * field instead of from a map. Lookups scan the names, which for the handful of fields an event
+ * carries is as fast as hashing and skips building a hash table per event.
+ */
+final class ArrayPayload extends AbstractMap<String, Object> {
+
+    private final String[] names;
+    private final Object[] values;
+    private final int size;
+
+    ArrayPayload(String[] names, Object[] values, int size) {
+        if (size < 0 || size > names.length || size > values.length) {
+            throw new IllegalArgumentException("size " + size + " exceeds the field arrays");
+        }
+        for (int i = 0; i < size; i++) {
+            if (names[i] == null || values[i] == null) {
+                throw new IllegalArgumentException("payload names and values must not be null");
+            }
+        }
+        if (size > 16) {
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                if (!seen.add(names[i])) throw new IllegalArgumentException("duplicate payload field: " + names[i]);
+            }
+        } else {
+            for (int i = 1; i < size; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (names[i].equals(names[j])) throw new IllegalArgumentException("duplicate payload field: " + names[i]);
+                }
+            }
+        }
+        this.names = names;
+        this.values = values;
+        this.size = size;
+    }
+
+    String name(int i) { return names[i]; }
+    Object value(int i) { return values[i]; }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object get(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (names[i].equals(key)) return values[i];
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= size) throw new NoSuchElementException();
+                        int i = next++;
+                        return Map.entry(names[i], values[i]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
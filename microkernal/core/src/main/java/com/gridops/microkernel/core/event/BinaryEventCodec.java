@@ -0,0 +1,204 @@
+package com.gridops.microkernel.core.event;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary event format ({@value #CONTENT_TYPE}) decoded straight into {@link GridOpsEvent}
+ * with no JSON tree or intermediate payload map. All integers are big-endian:
+ * <pre>
+ * batch:   event count (int), event*
+ * event:   eventId (string), eventType (string), timestamp (long epoch millis, Long.MIN_VALUE = now),
+ *          field count (unsigned short), field*
+ * field:   name (string), tag (byte), value
+ *          tag 1 = double (8 bytes), 2 = long (8 bytes), 3 = string, 4 = boolean (1 byte)
+ * string:  byte length (unsigned short, 0xFFFF = null), UTF-8 bytes
+ * </pre>
+ * Field names repeat in every event, so decoded names are cached by their bytes and the same
+ * String instances are reused instead of decoding "price" a million times.
+ */
+public final class BinaryEventCodec {
+
+    public static final String CONTENT_TYPE = "application/x-gridops-event";
+
+    private static final byte DOUBLE = 1;
+    private static final byte LONG = 2;
+    private static final byte STRING = 3;
+    private static final byte BOOLEAN = 4;
+    private static final int NULL_STRING = 0xFFFF;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final int NAME_CACHE_SIZE = 256;
+    /** Racy but safe: entries are immutable and a miss only costs a decode. */
+    private static final CachedName[] NAME_CACHE = new CachedName[NAME_CACHE_SIZE];
+
+    private BinaryEventCodec() {}
+
+    /**
+     * Decode one event.
+     * @param defaultEventId id used when the event carries none
+     * @throws IllegalArgumentException if the input is truncated or malformed
+     */
+    public static GridOpsEvent decode(ByteBuffer in, String defaultEventId) {
+        try {
+            return readEvent(in, defaultEventId);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated binary event at byte " + in.position(), e);
+        }
+    }
+
+    /**
+     * Decode a batch; events without an id get {@code defaultIdPrefix + index}.
+     * @throws IllegalArgumentException if the input is truncated or malformed, or holds more than {@code maxEvents}
+     */
+    public static List<GridOpsEvent> decodeBatch(ByteBuffer in, String defaultIdPrefix, int maxEvents) {
+        try {
+            int count = in.getInt();
+            if (count < 0 || count > maxEvents) {
+                throw new IllegalArgumentException("Batch event count " + count + " outside 0.." + maxEvents);
+            }
+            List<GridOpsEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) events.add(readEvent(in, defaultIdPrefix + i));
+            return events;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated binary batch at byte " + in.position(), e);
+        }
+    }
+
+    /**
+     * Encode one event (for producers and tests). Payload numbers are written as long when integral,
+     * otherwise as double; booleans as boolean; anything else as its string form.
+     * @throws BufferOverflowException if {@code out} is too small
+     */
+    public static void encode(GridOpsEvent event, ByteBuffer out) {
+        writeString(out, event.getEventId());
+        writeString(out, event.getEventType());
+        out.putLong(event.getTimestamp().toEpochMilli());
+        Map<String, Object> payload = event.getPayload();
+        if (payload.size() > 0xFFFF) throw new IllegalArgumentException("Too many payload fields: " + payload.size());
+        out.putShort((short) payload.size());
+        for (Map.Entry<String, Object> entry : payload.entrySet()) {
+            writeString(out, entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                out.put(LONG).putLong(((Number) value).longValue());
+            } else if (value instanceof Number number) {
+                out.put(DOUBLE).putDouble(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                out.put(BOOLEAN).put(bool ? (byte) 1 : (byte) 0);
+            } else {
+                out.put(STRING);
+                writeString(out, String.valueOf(value));
+            }
+        }
+    }
+
+    /** Encode a batch: the event count followed by each event. */
+    public static void encodeBatch(List<GridOpsEvent> events, ByteBuffer out) {
+        out.putInt(events.size());
+        for (GridOpsEvent event : events) encode(event, out);
+    }
+
+    private static GridOpsEvent readEvent(ByteBuffer in, String defaultEventId) {
+        String eventId = readString(in);
+        String eventType = readString(in);
+        long millis = in.getLong();
+        int fieldCount = Short.toUnsignedInt(in.getShort());
+        String[] names = new String[fieldCount];
+        Object[] values = new Object[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            names[i] = readName(in);
+            byte tag = in.get();
+            values[i] = switch (tag) {
+                case DOUBLE -> in.getDouble();
+                case LONG -> in.getLong();
+                case BOOLEAN -> in.get() != 0;
+                case STRING -> {
+                    String s = readString(in);
+                    if (s == null) throw new IllegalArgumentException("Null value for field " + names[i]);
+                    yield s;
+                }
+                default -> throw new IllegalArgumentException("Unknown value tag " + tag + " for field " + names[i]);
+            };
+        }
+        return new GridOpsEvent(
+            eventId != null ? eventId : defaultEventId,
+            eventType != null ? eventType : "unknown",
+            millis != NO_TIMESTAMP ? Instant.ofEpochMilli(millis) : null,
+            names, values, fieldCount);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == NULL_STRING) return null;
+        if (length > in.remaining()) throw new BufferUnderflowException();
+        if (in.hasArray()) {
+            String s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return s;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Field name through the shared cache; decodes (and caches) only on a miss. */
+    private static String readName(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == NULL_STRING) throw new IllegalArgumentException("Null field name");
+        int start = in.position();
+        if (length > in.remaining()) throw new BufferUnderflowException();
+        int hash = 1;
+        for (int i = 0; i < length; i++) hash = 31 * hash + in.get(start + i);
+        int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        CachedName cached = NAME_CACHE[slot];
+        if (cached != null && cached.matches(in, start, length)) {
+            in.position(start + length);
+            return cached.name;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        String name = new String(bytes, StandardCharsets.UTF_8);
+        NAME_CACHE[slot] = new CachedName(bytes, name);
+        return name;
+    }
+
+    private static void writeString(ByteBuffer out, String s) {
+        if (s == null) {
+            out.putShort((short) NULL_STRING);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) throw new IllegalArgumentException("String too long: " + bytes.length + " bytes");
+        out.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static final class CachedName {
+        final byte[] bytes;
+        final String name;
+
+        CachedName(byte[] bytes, String name) {
+            this.bytes = bytes;
+            this.name = name;
+        }
+
+        boolean matches(ByteBuffer in, int start, int length) {
+            if (bytes.length != length) return false;
+            if (in.hasArray()) {
+                int offset = in.arrayOffset() + start;
+                return Arrays.equals(bytes, 0, length, in.array(), offset, offset + length);
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != in.get(start + i)) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.gridops.microkernel.core.event;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Columnar view of a list of events for batch rules. Each numeric field a plugin asks for is
+ * gathered once into a contiguous primitive array (row i = event i), so threshold rules can scan
+ * a column with a tight loop and a {@link RowMask} instead of reading events one by one.
+ * Columns are built lazily and shared by every plugin that reads the same field; the batch is
+ * safe to read from several threads.
+ */
+public final class EventBatch {
+
+    private final List<GridOpsEvent> events;
+    private final ConcurrentHashMap<FieldKey, double[]> doubles = new ConcurrentHashMap<>();
+
+    public EventBatch(List<GridOpsEvent> events) {
+        if (events == null) throw new IllegalArgumentException("events are required");
+        this.events = events;
+    }
+
+    public int size() { return events.size(); }
+
+    /** Row {@code i} as an event. */
+    public GridOpsEvent event(int row) { return events.get(row); }
+
+    /** The rows as events, in batch order. */
+    public List<GridOpsEvent> events() { return events; }
+
+    /**
+     * Column of {@code key} as doubles; {@code NaN} where the event has no numeric value.
+     * The array is cached and shared, so callers must not modify it.
+     */
+    public double[] doubles(FieldKey key) {
+        return doubles.computeIfAbsent(key, this::gatherDoubles);
+    }
+
+    /** Column of {@code key} as longs (floating values truncated), {@code defaultValue} where absent. */
+    public long[] longs(FieldKey key, long defaultValue) {
+        long[] column = new long[events.size()];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = events.get(i).getLong(key, defaultValue);
+        }
+        return column;
+    }
+
+    private double[] gatherDoubles(FieldKey key) {
+        double[] column = new double[events.size()];
+        for (int i = 0; i < column.length; i++) {
+            column[i] = events.get(i).getDouble(key);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,44 @@
+package com.gridops.microkernel.core.event;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interned payload field name with a stable slot index.
+ * Plugins declare the numeric fields they read once (e.g. {@code FieldKey.of("price")}) and use
+ * the typed accessors on {@link GridOpsEvent}; the event resolves matching payload entries to
+ * primitive slots when it is constructed, so lookups neither hash strings nor box values.
+ * The core stays domain-agnostic: it never defines field names itself.
+ */
+public final class FieldKey {
+
+    private static final ConcurrentHashMap<String, FieldKey> REGISTRY = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
+    private final String name;
+    private final int index;
+
+    private FieldKey(String name, int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /** Returns the key for this field name, registering it on first use. */
+    public static FieldKey of(String name) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("field name is required");
+        return REGISTRY.computeIfAbsent(name, n -> new FieldKey(n, NEXT_INDEX.getAndIncrement()));
+    }
+
+    /** @return the registered key for this name, or null if no plugin declared it */
+    static FieldKey lookup(String name) {
+        return REGISTRY.get(name);
+    }
+
+    public String name() { return name; }
+
+    /** Slot index, unique per name for the lifetime of the JVM. */
+    public int index() { return index; }
+
+    @Override
+    public String toString() { return name; }
+}
@@ -6,19 +6,94 @@ import java.util.Map;
 /**
  * Normalized GridOps event consumed by the Alert Rule Engine.
  * Domain-agnostic structure keeps the core thin; plugins interpret fields as needed.
+ *
+ * Numeric payload entries whose names were declared as {@link FieldKey}s are also stored in
+ * primitive slots at construction time; {@link #getDouble(FieldKey)} and
+ * {@link #getLong(FieldKey, long)} read them without allocating. The {@link #getPayload()} map
+ * view is unchanged for plugins that use it. Decoders that read fields one at a time (see
+ * {@link BinaryEventCodec}) can pass name/value arrays instead of a map, which skips building a
+ * hash map only for the constructor to copy it.
  */
 public final class GridOpsEvent {
 
+    private static final byte ABSENT = 0;
+    private static final byte FLOATING = 1;
+    private static final byte INTEGRAL = 2;
+    private static final byte[] NO_KINDS = new byte[0];
+    private static final double[] NO_DOUBLES = new double[0];
+    private static final long[] NO_LONGS = new long[0];
+
     private final String eventId;
     private final String eventType;
     private final Instant timestamp;
     private final Map<String, Object> payload;
+    private final byte[] kinds;
+    private final double[] doubles;
+    private final long[] longs;
 
     public GridOpsEvent(String eventId, String eventType, Instant timestamp, Map<String, Object> payload) {
         this.eventId = eventId;
         this.eventType = eventType;
         this.timestamp = timestamp != null ? timestamp : Instant.now();
-        this.payload = payload != null ? Map.copyOf(payload) : Map.of();
+        // ArrayPayload is already immutable (and only built by the array constructor)
+        ArrayPayload fields = payload instanceof ArrayPayload ap ? ap : null;
+        this.payload = fields != null ? fields : payload != null ? Map.copyOf(payload) : Map.of();
+
+        int slots = 0;
+        if (fields != null) {
+            for (int i = 0; i < fields.size(); i++) slots = Math.max(slots, slotCount(fields.name(i), fields.value(i)));
+        } else {
+            for (Map.Entry<String, Object> entry : this.payload.entrySet()) {
+                slots = Math.max(slots, slotCount(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (slots == 0) {
+            this.kinds = NO_KINDS;
+            this.doubles = NO_DOUBLES;
+            this.longs = NO_LONGS;
+            return;
+        }
+        this.kinds = new byte[slots];
+        this.doubles = new double[slots];
+        this.longs = new long[slots];
+        if (fields != null) {
+            for (int i = 0; i < fields.size(); i++) store(fields.name(i), fields.value(i));
+        } else {
+            for (Map.Entry<String, Object> entry : this.payload.entrySet()) store(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Event whose payload is given as parallel arrays of the first {@code count} field names and
+     * values, e.g. by a decoder that reads fields one at a time. The arrays become the payload's
+     * storage (no hash map is built), so the caller must not modify them afterwards. Names must be
+     * distinct and values non-null.
+     */
+    public GridOpsEvent(String eventId, String eventType, Instant timestamp, String[] names, Object[] values, int count) {
+        this(eventId, eventType, timestamp, new ArrayPayload(names, values, count));
+    }
+
+    /** Slots needed to hold this entry: its key index + 1 if it is a declared numeric field, else 0. */
+    private static int slotCount(String name, Object value) {
+        if (!(value instanceof Number)) return 0;
+        FieldKey key = FieldKey.lookup(name);
+        return key != null ? key.index() + 1 : 0;
+    }
+
+    private void store(String name, Object value) {
+        if (!(value instanceof Number number)) return;
+        FieldKey key = FieldKey.lookup(name);
+        if (key == null || key.index() >= kinds.length) return;
+        int i = key.index();
+        if (isIntegral(number)) {
+            kinds[i] = INTEGRAL;
+            longs[i] = number.longValue();
+            doubles[i] = number.longValue();
+        } else {
+            kinds[i] = FLOATING;
+            doubles[i] = number.doubleValue();
+            longs[i] = (long) doubles[i];
+        }
     }
 
     public String getEventId() { return eventId; }
@@ -35,4 +110,38 @@ public final class GridOpsEvent {
         if (type == Long.class && v instanceof Number) return (T) Long.valueOf(((Number) v).longValue());
         return null;
     }
+
+    /** @return true if the payload holds a number for this field */
+    public boolean hasNumber(FieldKey key) {
+        int i = key.index();
+        if (i < kinds.length) return kinds[i] != ABSENT;
+        return payload.get(key.name()) instanceof Number;
+    }
+
+    /**
+     * Typed, allocation-free read of a numeric field.
+     * @return the value, or {@code Double.NaN} if the field is absent or not a number
+     */
+    public double getDouble(FieldKey key) {
+        int i = key.index();
+        if (i < kinds.length) return kinds[i] != ABSENT ? doubles[i] : Double.NaN;
+        // Key declared after this event was built: fall back to the map (still no boxing).
+        Object v = payload.get(key.name());
+        return v instanceof Number number ? number.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Typed, allocation-free read of a numeric field as a long (floating values are truncated).
+     * @return the value, or {@code defaultValue} if the field is absent or not a number
+     */
+    public long getLong(FieldKey key, long defaultValue) {
+        int i = key.index();
+        if (i < kinds.length) return kinds[i] != ABSENT ? longs[i] : defaultValue;
+        Object v = payload.get(key.name());
+        return v instanceof Number number ? number.longValue() : defaultValue;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
 }
@@ -0,0 +1,61 @@
+package com.gridops.microkernel.core.event;
+
+/**
+ * Bitmask over the rows of an {@link EventBatch}: bit {@code i} of word {@code i >>> 6} is row i.
+ * The scans are branch-free loops over a primitive column; {@code NaN} (missing) never matches.
+ * Iterate set rows with {@code for (int r = next(mask, 0); r >= 0; r = next(mask, r + 1))}.
+ */
+public final class RowMask {
+
+    private RowMask() {}
+
+    /** Rows where {@code column[i] < threshold}. */
+    public static long[] below(double[] column, double threshold) {
+        long[] mask = new long[words(column.length)];
+        for (int i = 0; i < column.length; i++) {
+            mask[i >>> 6] |= (column[i] < threshold ? 1L : 0L) << i;
+        }
+        return mask;
+    }
+
+    /** Rows where {@code column[i] >= threshold}. */
+    public static long[] atLeast(double[] column, double threshold) {
+        long[] mask = new long[words(column.length)];
+        for (int i = 0; i < column.length; i++) {
+            mask[i >>> 6] |= (column[i] >= threshold ? 1L : 0L) << i;
+        }
+        return mask;
+    }
+
+    /** Rows where the column has no value ({@code NaN}). */
+    public static long[] missing(double[] column) {
+        long[] mask = new long[words(column.length)];
+        for (int i = 0; i < column.length; i++) {
+            mask[i >>> 6] |= (Double.isNaN(column[i]) ? 1L : 0L) << i;
+        }
+        return mask;
+    }
+
+    /** First set row at or after {@code from}, or -1. */
+    public static int next(long[] mask, int from) {
+        int word = from >>> 6;
+        if (word >= mask.length) return -1;
+        long bits = mask[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) return (word << 6) + Long.numberOfTrailingZeros(bits);
+            if (++word == mask.length) return -1;
+            bits = mask[word];
+        }
+    }
+
+    /** Number of set rows. */
+    public static int count(long[] mask) {
+        int count = 0;
+        for (long word : mask) count += Long.bitCount(word);
+        return count;
+    }
+
+    private static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+}
@@ -0,0 +1,164 @@
+package com.gridops.microkernel.core.journal;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary layout of journal segments and records (all integers big-endian):
+ * <pre>
+ * segment: magic "GOJ1" (int), version (int), record*, zero fill
+ * record:  body length (int, 0 = end of written data), CRC32C of body (int), sequence (long), body
+ * body:    eventId, eventType, timestamp, payload count (int), (key, tagged value)*,
+ *          pluginsFired count (int), pluginId*, alert count (int),
+ *          (pluginId, ruleId, severity, message, raisedAt, suppressedCount (int))*
+ * string:  byte length (int, -1 = null), UTF-8 bytes
+ * instant: epoch second (long), nano (int)
+ * value:   tag (byte) then nothing (null), long, double, string or byte (boolean)
+ * </pre>
+ * Integral payload numbers are read back as {@code Long}, other numbers as {@code Double}, and
+ * values of any other type as their {@code toString()}.
+ */
+final class JournalCodec {
+
+    static final int MAGIC = 0x474F4A31;
+    static final int VERSION = 1;
+    static final int SEGMENT_HEADER = 8;
+    static final int RECORD_HEADER = 16;
+
+    private static final byte NULL = 0;
+    private static final byte LONG = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte STRING = 3;
+    private static final byte BOOLEAN = 4;
+
+    private JournalCodec() {}
+
+    /**
+     * Encode the record body into {@code scratch}, or into a larger buffer if it does not fit.
+     * @return the buffer holding the body, flipped for reading
+     */
+    static ByteBuffer encode(ByteBuffer scratch, GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        ByteBuffer buffer = scratch;
+        while (true) {
+            buffer.clear();
+            try {
+                writeBody(buffer, event, result);
+                return buffer.flip();
+            } catch (BufferOverflowException e) {
+                buffer = ByteBuffer.allocate(buffer.capacity() * 2);
+            }
+        }
+    }
+
+    private static void writeBody(ByteBuffer out, GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        writeString(out, event.getEventId());
+        writeString(out, event.getEventType());
+        writeInstant(out, event.getTimestamp());
+        Map<String, Object> payload = event.getPayload();
+        out.putInt(payload.size());
+        for (Map.Entry<String, Object> entry : payload.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+        List<String> fired = result.getPluginsFired();
+        out.putInt(fired.size());
+        for (String pluginId : fired) writeString(out, pluginId);
+        List<Alert> alerts = result.getAlerts();
+        out.putInt(alerts.size());
+        for (Alert alert : alerts) {
+            writeString(out, alert.getPluginId());
+            writeString(out, alert.getRuleId());
+            writeString(out, alert.getSeverity());
+            writeString(out, alert.getMessage());
+            writeInstant(out, alert.getRaisedAt());
+            out.putInt(alert.getSuppressedCount());
+        }
+    }
+
+    static JournalEntry decode(long sequence, ByteBuffer in) {
+        String eventId = readString(in);
+        String eventType = readString(in);
+        Instant timestamp = readInstant(in);
+        int payloadSize = in.getInt();
+        Map<String, Object> payload = new HashMap<>(Math.max(4, payloadSize * 2));
+        for (int i = 0; i < payloadSize; i++) {
+            String key = readString(in);
+            Object value = readValue(in);
+            if (value != null) payload.put(key, value);
+        }
+        int firedSize = in.getInt();
+        List<String> fired = new ArrayList<>(firedSize);
+        for (int i = 0; i < firedSize; i++) fired.add(readString(in));
+        int alertCount = in.getInt();
+        List<Alert> alerts = new ArrayList<>(alertCount);
+        for (int i = 0; i < alertCount; i++) {
+            Alert alert = new Alert(readString(in), readString(in), readString(in), readString(in), readInstant(in));
+            int suppressed = in.getInt();
+            alerts.add(suppressed > 0 ? alert.withSuppressedCount(suppressed) : alert);
+        }
+        GridOpsEvent event = new GridOpsEvent(eventId, eventType, timestamp, payload);
+        return new JournalEntry(sequence, event, new AlertRuleEngine.EngineResult(eventId, alerts, fired));
+    }
+
+    private static void writeValue(ByteBuffer out, Object value) {
+        if (value == null) {
+            out.put(NULL);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.put(LONG).putLong(((Number) value).longValue());
+        } else if (value instanceof Number number) {
+            out.put(DOUBLE).putDouble(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            out.put(BOOLEAN).put(bool ? (byte) 1 : (byte) 0);
+        } else {
+            out.put(STRING);
+            writeString(out, value.toString());
+        }
+    }
+
+    private static Object readValue(ByteBuffer in) {
+        byte tag = in.get();
+        return switch (tag) {
+            case NULL -> null;
+            case LONG -> in.getLong();
+            case DOUBLE -> in.getDouble();
+            case BOOLEAN -> in.get() != 0;
+            case STRING -> readString(in);
+            default -> throw new IllegalStateException("Unknown value tag " + tag);
+        };
+    }
+
+    private static void writeString(ByteBuffer out, String s) {
+        if (s == null) {
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length).put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) return null;
+        String s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return s;
+    }
+
+    private static void writeInstant(ByteBuffer out, Instant instant) {
+        out.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+    }
+
+    private static Instant readInstant(ByteBuffer in) {
+        return Instant.ofEpochSecond(in.getLong(), in.getInt());
+    }
+}
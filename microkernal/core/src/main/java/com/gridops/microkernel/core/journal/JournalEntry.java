@@ -0,0 +1,23 @@
+package com.gridops.microkernel.core.journal;
+
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+/** One journal record: an evaluated event and the result the engine returned for it. */
+public final class JournalEntry {
+
+    private final long sequence;
+    private final GridOpsEvent event;
+    private final AlertRuleEngine.EngineResult result;
+
+    public JournalEntry(long sequence, GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        this.sequence = sequence;
+        this.event = event;
+        this.result = result;
+    }
+
+    /** Position in the journal; starts at 1 and increases by one per record across segments. */
+    public long getSequence() { return sequence; }
+    public GridOpsEvent getEvent() { return event; }
+    public AlertRuleEngine.EngineResult getResult() { return result; }
+}
@@ -0,0 +1,138 @@
+package com.gridops.microkernel.core.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads a journal directory written by {@link JournalWriter}, in sequence order. {@link #poll}
+ * delivers what has been written since the previous call, so calling it repeatedly tails a live
+ * journal; a new reader from sequence 1 replays it. Not thread-safe; use one reader per consumer.
+ *
+ * A record whose checksum does not match (torn by a crash) ends its segment.
+ */
+public final class JournalReader implements AutoCloseable {
+
+    private final Path directory;
+    private final long fromSequence;
+    private final CRC32C crc = new CRC32C();
+    private ByteBuffer body = ByteBuffer.allocate(1024);
+
+    private Path segmentPath;
+    private MappedByteBuffer segment;
+    private int position;
+    private long lastSequence;
+
+    /** Reader from the start of the journal. */
+    public JournalReader(Path directory) {
+        this(directory, 1);
+    }
+
+    /** Reader that skips records before {@code fromSequence}. */
+    public JournalReader(Path directory, long fromSequence) {
+        this.directory = directory;
+        this.fromSequence = fromSequence;
+    }
+
+    /**
+     * Deliver up to {@code maxEntries} records written since the last call.
+     * @return number of records delivered; 0 when the reader has caught up with the writer
+     */
+    public int poll(Consumer<JournalEntry> consumer, int maxEntries) {
+        int delivered = 0;
+        while (delivered < maxEntries) {
+            if (segment == null && !openNext()) break;
+            int length = nextLength();
+            if (length == 0 && hasNewerSegment()) {
+                // The writer moved on; re-read once in case a record landed just before it rotated
+                length = nextLength();
+                if (length == 0) length = -1;
+            }
+            if (length == 0) break;
+            if (length < 0) {
+                segment = null;
+                continue;
+            }
+            VarHandle.acquireFence();
+            if (body.capacity() < length) body = ByteBuffer.allocate(Math.max(length, body.capacity() * 2));
+            body.clear().limit(length);
+            segment.get(position + JournalCodec.RECORD_HEADER, body.array(), 0, length);
+            crc.reset();
+            crc.update(body.array(), 0, length);
+            if ((int) crc.getValue() != segment.getInt(position + 4)) {
+                // Torn tail: nothing after it in this segment is trustworthy
+                if (!hasNewerSegment()) break;
+                segment = null;
+                continue;
+            }
+            long sequence = segment.getLong(position + 8);
+            position += JournalCodec.RECORD_HEADER + length;
+            lastSequence = sequence;
+            if (sequence < fromSequence) continue;
+            consumer.accept(JournalCodec.decode(sequence, body));
+            delivered++;
+        }
+        return delivered;
+    }
+
+    /** Sequence of the last record read (0 if none). */
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void close() {
+        // Mappings are released by the garbage collector
+        segment = null;
+    }
+
+    /** Length of the record at the current position; 0 = not written yet, -1 = segment exhausted. */
+    private int nextLength() {
+        if (position + JournalCodec.RECORD_HEADER > segment.capacity()) return -1;
+        int length = segment.getInt(position);
+        if (length < 0 || position + JournalCodec.RECORD_HEADER + (long) length > segment.capacity()) return -1;
+        return length;
+    }
+
+    private boolean hasNewerSegment() {
+        List<Path> segments = JournalSegments.list(directory);
+        return !segments.isEmpty() && segments.get(segments.size() - 1).compareTo(segmentPath) > 0;
+    }
+
+    /** Map the segment after the current one (or the one holding {@code fromSequence}); false if none. */
+    private boolean openNext() {
+        Path next = null;
+        for (Path candidate : JournalSegments.list(directory)) {
+            if (segmentPath == null) {
+                if (next == null || JournalSegments.firstSequence(candidate) <= fromSequence) next = candidate;
+            } else if (candidate.compareTo(segmentPath) > 0) {
+                next = candidate;
+                break;
+            }
+        }
+        if (next == null) return false;
+        try (FileChannel channel = FileChannel.open(next, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.capacity() < JournalCodec.SEGMENT_HEADER || mapped.getInt(0) == 0) {
+                return false; // just created, header not written yet
+            }
+            if (mapped.getInt(0) != JournalCodec.MAGIC) {
+                throw new IllegalStateException("Not a journal segment: " + next);
+            }
+            segment = mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map journal segment " + next, e);
+        }
+        segmentPath = next;
+        position = JournalCodec.SEGMENT_HEADER;
+        return true;
+    }
+}
@@ -0,0 +1,281 @@
+package com.gridops.microkernel.core.journal;
+
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.EvaluationListener;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of evaluated events and their results. Install it with
+ * {@link AlertRuleEngine#addEvaluationListener}. Records are encoded on the evaluating thread
+ * (see {@link JournalCodec} for the layout), then copied into a memory-mapped segment file of
+ * fixed size under a short lock. When a segment is full a new one is started under the lock and the
+ * old one's unforced tail is left to the flusher, so appends never wait for a whole-segment fsync.
+ *
+ * Durability is group-committed: a background thread forces the pages written since the last
+ * flush every {@code flushInterval}, so one fsync covers every record appended in that interval
+ * and appends never wait for the disk. A crash can lose at most the last interval; the record
+ * length is written last and each body carries a CRC32C, so a torn record ends the segment for
+ * {@link JournalReader} instead of producing garbage. With a zero interval every append forces.
+ *
+ * Opening a directory that already holds segments continues the sequence in a new segment.
+ */
+public final class JournalWriter implements EvaluationListener, AutoCloseable {
+
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncEveryAppend;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ThreadLocal<ByteBuffer> scratch = ThreadLocal.withInitial(() -> ByteBuffer.allocate(1024));
+    private final ThreadLocal<CRC32C> checksums = ThreadLocal.withInitial(CRC32C::new);
+    private final ScheduledExecutorService flusher;
+    // Seam for tests that need a failing force
+    PageForcer forcer = (segment, from, length) -> segment.force(from, length);
+
+    // Guarded by lock
+    private MappedByteBuffer segment;
+    private int position;
+    private int forcedPosition;
+    private long sequence;
+    private boolean closed;
+    // Full segments whose tail is not forced yet, oldest first
+    private final ArrayDeque<Retired> retired = new ArrayDeque<>();
+
+    /**
+     * @param directory     directory for segment files (created if missing)
+     * @param segmentSize   bytes per segment file; a record must fit in one segment
+     * @param flushInterval group-commit interval; zero forces after every append
+     */
+    public JournalWriter(Path directory, long segmentSize, Duration flushInterval) throws IOException {
+        if (segmentSize <= JournalCodec.SEGMENT_HEADER + JournalCodec.RECORD_HEADER || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("segmentSize must be between 25 bytes and 2 GB");
+        }
+        if (flushInterval == null || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("flushInterval must not be negative");
+        }
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize;
+        this.syncEveryAppend = flushInterval.isZero();
+        Files.createDirectories(directory);
+        List<Path> existing = JournalSegments.list(directory);
+        if (!existing.isEmpty()) {
+            try (JournalReader reader = new JournalReader(directory, JournalSegments.firstSequence(existing.get(existing.size() - 1)))) {
+                reader.poll(entry -> { }, Integer.MAX_VALUE);
+                sequence = Math.max(reader.lastSequence(), JournalSegments.firstSequence(existing.get(existing.size() - 1)) - 1);
+            }
+        }
+        openSegment();
+        if (syncEveryAppend) {
+            flusher = null;
+        } else {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "gridops-journal-flush");
+                t.setDaemon(true);
+                return t;
+            });
+            long nanos = flushInterval.toNanos();
+            flusher.scheduleWithFixedDelay(this::flushQuietly, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onEvaluated(GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        append(event, result);
+    }
+
+    /**
+     * Append one record.
+     * @return its sequence number
+     * @throws UncheckedIOException if a new segment cannot be created
+     * @throws IllegalStateException if the writer is closed
+     */
+    public long append(GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        ByteBuffer body = JournalCodec.encode(scratch.get(), event, result);
+        if (body.capacity() > scratch.get().capacity()) scratch.set(body);
+        int length = body.remaining();
+        CRC32C crc = checksums.get();
+        crc.reset();
+        crc.update(body.array(), 0, length);
+        int recordSize = JournalCodec.RECORD_HEADER + length;
+        if (JournalCodec.SEGMENT_HEADER + recordSize > segmentSize) {
+            throw new IllegalArgumentException("Record of " + recordSize + " bytes does not fit a segment of " + segmentSize);
+        }
+        long seq;
+        lock.lock();
+        try {
+            if (closed) throw new IllegalStateException("Journal is closed");
+            if (position + recordSize > segmentSize) rotate();
+            seq = ++sequence;
+            segment.putInt(position + 4, (int) crc.getValue());
+            segment.putLong(position + 8, seq);
+            segment.put(position + JournalCodec.RECORD_HEADER, body, 0, length);
+            // Publish: readers treat a non-zero length as a complete record
+            VarHandle.releaseFence();
+            segment.putInt(position, length);
+            position += recordSize;
+            if (syncEveryAppend) {
+                segment.force(forcedPosition, position - forcedPosition);
+                forcedPosition = position;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start journal segment in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+        return seq;
+    }
+
+    /**
+     * Force everything appended so far to disk. The range only counts as forced once the force
+     * returns, so after a failure the next flush covers it again.
+     */
+    public void flush() {
+        forceRetired();
+        MappedByteBuffer target;
+        int from;
+        int to;
+        lock.lock();
+        try {
+            if (segment == null || position == forcedPosition) return;
+            target = segment;
+            from = forcedPosition;
+            to = position;
+        } finally {
+            lock.unlock();
+        }
+        // Outside the lock so appends continue while the pages are written
+        forcer.force(target, from, to - from);
+        lock.lock();
+        try {
+            // After a rotation in the meantime the retired entry covers the range again
+            if (segment == target && forcedPosition < to) forcedPosition = to;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Sequence of the last appended record (0 if none). */
+    public long lastSequence() {
+        lock.lock();
+        try {
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /** Stop the flusher, force outstanding records and reject further appends. */
+    @Override
+    public void close() {
+        if (flusher != null) flusher.shutdownNow();
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            for (Retired r : retired) forcer.force(r.segment, r.from, r.to - r.from);
+            retired.clear();
+            segment.force();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            // Retried on the next tick; a persistent failure also surfaces on close
+        }
+    }
+
+    /** Force retired segments outside the lock; an entry is dropped only once its force returned. */
+    private void forceRetired() {
+        while (true) {
+            Retired next;
+            lock.lock();
+            try {
+                next = retired.peekFirst();
+            } finally {
+                lock.unlock();
+            }
+            if (next == null) return;
+            forcer.force(next.segment, next.from, next.to - next.from);
+            lock.lock();
+            try {
+                retired.remove(next);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Called with the lock held: only switches segments, the flusher forces the old one. */
+    private void rotate() throws IOException {
+        if (position > forcedPosition) retired.addLast(new Retired(segment, forcedPosition, position));
+        openSegment();
+        if (flusher != null && !retired.isEmpty()) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // Closing: close() forces the retired segments
+            }
+        }
+    }
+
+    /** Unforced range of a full segment. */
+    private static final class Retired {
+        final MappedByteBuffer segment;
+        final int from;
+        final int to;
+
+        Retired(MappedByteBuffer segment, int from, int to) {
+            this.segment = segment;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    @FunctionalInterface
+    interface PageForcer {
+        void force(MappedByteBuffer segment, int from, int length);
+    }
+
+    private void openSegment() throws IOException {
+        Path path = JournalSegments.path(directory, sequence + 1);
+        // Only a segment left without a single complete record can already carry this name
+        Files.deleteIfExists(path);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segment.putInt(0, JournalCodec.MAGIC);
+        segment.putInt(4, JournalCodec.VERSION);
+        position = JournalCodec.SEGMENT_HEADER;
+        forcedPosition = 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.gridops.microkernel.core.publish;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Where published alerts go (a file, a webhook, in-process subscribers). Each destination is
+ * drained by its own {@link AlertPublisher} worker thread, so {@link #publish} is never called
+ * concurrently for one destination and may block; a thrown exception makes the publisher retry
+ * the same batch.
+ */
+public interface AlertDestination extends AutoCloseable {
+
+    /** Short name for stats and thread names, unique per publisher. */
+    String name();
+
+    /** Deliver one batch, in the order the alerts were evaluated. */
+    void publish(List<AlertEnvelope> batch) throws Exception;
+
+    /** Called once after the last batch. Default no-op. */
+    @Override
+    default void close() throws IOException {}
+}
@@ -0,0 +1,63 @@
+package com.gridops.microkernel.core.publish;
+
+import com.gridops.microkernel.core.alert.Alert;
+
+import java.time.Instant;
+
+/** An alert as handed to {@link AlertDestination}s, with the event it was raised for. Immutable. */
+public final class AlertEnvelope {
+
+    private final String eventId;
+    private final String eventType;
+    private final Instant eventTimestamp;
+    private final Alert alert;
+
+    public AlertEnvelope(String eventId, String eventType, Instant eventTimestamp, Alert alert) {
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.eventTimestamp = eventTimestamp;
+        this.alert = alert;
+    }
+
+    public String getEventId() { return eventId; }
+    public String getEventType() { return eventType; }
+    public Instant getEventTimestamp() { return eventTimestamp; }
+    public Alert getAlert() { return alert; }
+
+    /** One-line JSON object, as written by the file and webhook destinations. */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(192);
+        sb.append('{');
+        field(sb, "eventId", eventId).append(',');
+        field(sb, "eventType", eventType).append(',');
+        field(sb, "eventTimestamp", eventTimestamp != null ? eventTimestamp.toString() : null).append(',');
+        field(sb, "pluginId", alert.getPluginId()).append(',');
+        field(sb, "ruleId", alert.getRuleId()).append(',');
+        field(sb, "severity", alert.getSeverity()).append(',');
+        field(sb, "message", alert.getMessage()).append(',');
+        field(sb, "raisedAt", alert.getRaisedAt().toString()).append(',');
+        sb.append("\"suppressedCount\":").append(alert.getSuppressedCount());
+        return sb.append('}').toString();
+    }
+
+    private static StringBuilder field(StringBuilder sb, String name, String value) {
+        sb.append('"').append(name).append("\":");
+        if (value == null) return sb.append("null");
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"');
+    }
+}
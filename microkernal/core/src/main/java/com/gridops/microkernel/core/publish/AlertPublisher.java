@@ -0,0 +1,242 @@
+package com.gridops.microkernel.core.publish;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.EvaluationListener;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands evaluated alerts to {@link AlertDestination}s off the evaluating thread. Registered as an
+ * {@link EvaluationListener}, it only enqueues: each destination has a bounded lock-free ring and
+ * its own worker thread, so a slow or failing destination never adds to evaluation latency and
+ * never holds up the others. When a ring is full the alert is dropped for that destination and
+ * counted, rather than blocking the engine.
+ *
+ * Workers drain whatever has queued, up to {@code batchSize}, into one {@link AlertDestination#publish}
+ * call, so batches grow by themselves while a destination is slow. A failed batch is retried up to
+ * {@code maxRetries} times with exponential backoff starting at {@code retryBackoff}, then counted
+ * as failed and skipped. {@link #close} stops accepting alerts, flushes what is queued and closes
+ * the destinations; alerts that arrive while or after it closes are counted as dropped.
+ */
+public final class AlertPublisher implements EvaluationListener, AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+
+    private final List<Lane> lanes;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private volatile boolean running = true;
+    // Set once close() has flushed the rings; anything still queued then will never be delivered
+    private volatile boolean closed;
+
+    public AlertPublisher(List<AlertDestination> destinations, int capacity, int batchSize,
+                          int maxRetries, Duration retryBackoff) {
+        if (destinations == null || destinations.isEmpty()) throw new IllegalArgumentException("at least one destination is required");
+        if (batchSize < 1) throw new IllegalArgumentException("batchSize must be positive");
+        if (maxRetries < 0) throw new IllegalArgumentException("maxRetries must not be negative");
+        if (retryBackoff == null || retryBackoff.isNegative()) throw new IllegalArgumentException("retryBackoff must not be negative");
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        List<Lane> created = new ArrayList<>(destinations.size());
+        for (AlertDestination destination : destinations) {
+            created.add(new Lane(destination, new MpscRing<>(capacity)));
+        }
+        this.lanes = List.copyOf(created);
+        for (Lane lane : lanes) {
+            lane.thread = new Thread(lane, "gridops-publish-" + lane.destination.name());
+            lane.thread.setDaemon(true);
+            lane.thread.start();
+        }
+    }
+
+    @Override
+    public void onEvaluated(GridOpsEvent event, AlertRuleEngine.EngineResult result) {
+        List<Alert> alerts = result.getAlerts();
+        if (alerts.isEmpty()) return;
+        if (!running) {
+            for (Lane lane : lanes) lane.dropped.addAndGet(alerts.size());
+            return;
+        }
+        for (Alert alert : alerts) {
+            AlertEnvelope envelope = new AlertEnvelope(result.getEventId(), event.getEventType(), event.getTimestamp(), alert);
+            for (Lane lane : lanes) lane.offer(envelope);
+        }
+    }
+
+    /** Per-destination counters, in destination order. */
+    public List<DestinationStats> stats() {
+        List<DestinationStats> stats = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes) {
+            int queued = lane.ring.size();
+            // Offers that raced with close() land after the final flush and count as dropped
+            int stranded = closed ? queued : 0;
+            stats.add(new DestinationStats(lane.destination.name(), lane.published.get(), lane.batches.get(),
+                lane.dropped.get() + stranded, lane.failed.get(), lane.retries.get(), queued - stranded,
+                lane.ring.capacity(), lane.lastError));
+        }
+        return stats;
+    }
+
+    /** Stops accepting alerts, waits for queued ones to be delivered (or fail), then closes the destinations. */
+    @Override
+    public void close() {
+        if (!running) return;
+        running = false;
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+        for (Lane lane : lanes) LockSupport.unpark(lane.thread);
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lane.thread.interrupt();
+        }
+        for (Lane lane : lanes) {
+            // An alert offered just before running went false can follow the worker's last drain
+            if (!lane.thread.isAlive()) lane.flush();
+            try {
+                lane.destination.close();
+            } catch (IOException | RuntimeException e) {
+                lane.lastError = e.toString();
+            }
+        }
+        closed = true;
+    }
+
+    /** One destination's ring, worker and counters. */
+    private final class Lane implements Runnable {
+        final AlertDestination destination;
+        final MpscRing<AlertEnvelope> ring;
+        final AtomicLong published = new AtomicLong();
+        final AtomicLong batches = new AtomicLong();
+        final AtomicLong dropped = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong retries = new AtomicLong();
+        volatile String lastError;
+        // Set by the worker before it re-checks the ring and parks; producers unpark only when set
+        volatile boolean idle;
+        Thread thread;
+
+        Lane(AlertDestination destination, MpscRing<AlertEnvelope> ring) {
+            this.destination = destination;
+            this.ring = ring;
+        }
+
+        void offer(AlertEnvelope envelope) {
+            if (!ring.offer(envelope)) {
+                dropped.incrementAndGet();
+            } else if (idle) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        /** Deliver what is left in the ring; only called once the worker has exited. */
+        void flush() {
+            List<AlertEnvelope> batch = new ArrayList<>(batchSize);
+            while (ring.drain(batch, batchSize) > 0) {
+                deliver(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+
+        @Override
+        public void run() {
+            List<AlertEnvelope> batch = new ArrayList<>(batchSize);
+            while (true) {
+                if (ring.drain(batch, batchSize) > 0) {
+                    deliver(List.copyOf(batch));
+                    batch.clear();
+                } else if (!running) {
+                    return;
+                } else {
+                    idle = true;
+                    if (ring.size() == 0 && running) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    idle = false;
+                }
+            }
+        }
+
+        private void deliver(List<AlertEnvelope> batch) {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    destination.publish(batch);
+                    published.addAndGet(batch.size());
+                    batches.incrementAndGet();
+                    return;
+                } catch (Exception e) {
+                    lastError = e.toString();
+                    if (attempt >= maxRetries || !backOff(attempt)) {
+                        failed.addAndGet(batch.size());
+                        return;
+                    }
+                    retries.incrementAndGet();
+                }
+            }
+        }
+
+        /** @return false if interrupted (publisher closing), in which case the batch is given up */
+        private boolean backOff(int attempt) {
+            long millis = Math.min(MAX_BACKOFF_MILLIS, retryBackoffMillis << Math.min(attempt, 20));
+            try {
+                Thread.sleep(millis);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /** Snapshot of one destination's counters. */
+    public static final class DestinationStats {
+        private final String name;
+        private final long published;
+        private final long batches;
+        private final long dropped;
+        private final long failed;
+        private final long retries;
+        private final int queued;
+        private final int capacity;
+        private final String lastError;
+
+        public DestinationStats(String name, long published, long batches, long dropped, long failed,
+                                long retries, int queued, int capacity, String lastError) {
+            this.name = name;
+            this.published = published;
+            this.batches = batches;
+            this.dropped = dropped;
+            this.failed = failed;
+            this.retries = retries;
+            this.queued = queued;
+            this.capacity = capacity;
+            this.lastError = lastError;
+        }
+
+        public String getName() { return name; }
+        /** Alerts delivered. */
+        public long getPublished() { return published; }
+        /** Successful {@code publish} calls. */
+        public long getBatches() { return batches; }
+        /** Alerts rejected because the ring was full. */
+        public long getDropped() { return dropped; }
+        /** Alerts in batches that still failed after all retries. */
+        public long getFailed() { return failed; }
+        public long getRetries() { return retries; }
+        public int getQueued() { return queued; }
+        public int getCapacity() { return capacity; }
+        public String getLastError() { return lastError; }
+    }
+}
@@ -0,0 +1,59 @@
+package com.gridops.microkernel.core.publish;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process subscribers: every batch is passed to each subscriber in subscription order, and the
+ * last {@code retain} alerts are kept for {@link #recent}. A subscriber that throws fails the batch,
+ * so the publisher retries it for all subscribers.
+ */
+public final class InMemoryDestination implements AlertDestination {
+
+    private final int retain;
+    private final ArrayDeque<AlertEnvelope> recent;
+    private final List<Consumer<List<AlertEnvelope>>> subscribers = new CopyOnWriteArrayList<>();
+
+    public InMemoryDestination(int retain) {
+        if (retain < 0) throw new IllegalArgumentException("retain must not be negative");
+        this.retain = retain;
+        this.recent = new ArrayDeque<>(Math.min(retain, 1024));
+    }
+
+    @Override
+    public String name() { return "memory"; }
+
+    public void subscribe(Consumer<List<AlertEnvelope>> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void unsubscribe(Consumer<List<AlertEnvelope>> subscriber) {
+        subscribers.remove(subscriber);
+    }
+
+    @Override
+    public void publish(List<AlertEnvelope> batch) {
+        for (Consumer<List<AlertEnvelope>> subscriber : subscribers) subscriber.accept(batch);
+        if (retain == 0) return;
+        synchronized (recent) {
+            for (AlertEnvelope envelope : batch) {
+                if (recent.size() == retain) recent.pollFirst();
+                recent.addLast(envelope);
+            }
+        }
+    }
+
+    /** Up to {@code limit} most recently published alerts, newest first. */
+    public List<AlertEnvelope> recent(int limit) {
+        synchronized (recent) {
+            List<AlertEnvelope> out = new ArrayList<>(Math.min(limit, recent.size()));
+            Iterator<AlertEnvelope> it = recent.descendingIterator();
+            while (it.hasNext() && out.size() < limit) out.add(it.next());
+            return out;
+        }
+    }
+}
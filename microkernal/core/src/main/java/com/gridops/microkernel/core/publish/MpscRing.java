@@ -0,0 +1,73 @@
+package com.gridops.microkernel.core.publish;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free multi-producer, single-consumer ring (per-slot sequence numbers, after
+ * Vyukov). Producers claim a slot with one CAS and never wait for the consumer: a full ring
+ * rejects the offer. Capacity is rounded up to a power of two.
+ */
+final class MpscRing<T> {
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // Written by the consumer only; volatile so size() is readable from other threads
+    private volatile long head;
+
+    MpscRing(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+        this.mask = size - 1;
+    }
+
+    /** @return false if the ring is full */
+    boolean offer(T value) {
+        long t;
+        while (true) {
+            t = tail.get();
+            long diff = sequences.getAcquire((int) (t & mask)) - t;
+            if (diff == 0) {
+                if (tail.compareAndSet(t, t + 1)) break;
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+        int index = (int) (t & mask);
+        buffer[index] = value;
+        sequences.setRelease(index, t + 1);
+        return true;
+    }
+
+    /** Consumer only: moves up to {@code max} elements into {@code out}. @return number moved */
+    @SuppressWarnings("unchecked")
+    int drain(List<T> out, int max) {
+        long h = head;
+        int n = 0;
+        while (n < max) {
+            int index = (int) (h & mask);
+            if (sequences.getAcquire(index) != h + 1) break;
+            out.add((T) buffer[index]);
+            buffer[index] = null;
+            sequences.setRelease(index, h + buffer.length);
+            h++;
+            n++;
+        }
+        head = h;
+        return n;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+}
@@ -0,0 +1,92 @@
+package com.gridops.microkernel.core.publish;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends alerts to {@code file} as JSON lines, one flush per batch. When the file reaches
+ * {@code maxBytes} it is renamed to {@code file.1} (older files shift to {@code .2}, ...) and a
+ * new file is started; at most {@code maxFiles} rolled files are kept.
+ */
+public final class RollingFileDestination implements AlertDestination {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+    private BufferedWriter writer;
+    private long bytes;
+
+    public RollingFileDestination(Path file, long maxBytes, int maxFiles) {
+        if (file == null) throw new IllegalArgumentException("file is required");
+        if (maxBytes < 1) throw new IllegalArgumentException("maxBytes must be positive");
+        if (maxFiles < 0) throw new IllegalArgumentException("maxFiles must not be negative");
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.maxFiles = maxFiles;
+    }
+
+    @Override
+    public String name() { return "file"; }
+
+    @Override
+    public void publish(List<AlertEnvelope> batch) throws IOException {
+        if (writer == null) open();
+        try {
+            for (AlertEnvelope envelope : batch) {
+                String line = envelope.toJson();
+                writer.write(line);
+                writer.write('\n');
+                bytes += line.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // Reopen on retry; the batch may be written twice, never half-lost
+            closeWriter();
+            throw e;
+        }
+        if (bytes >= maxBytes) roll();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closeWriter();
+    }
+
+    private void open() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        bytes = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        closeWriter();
+        if (maxFiles == 0) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        Files.deleteIfExists(rolled(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            if (Files.exists(rolled(i))) Files.move(rolled(i), rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            BufferedWriter w = writer;
+            writer = null;
+            w.close();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.gridops.microkernel.core.publish;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * POSTs each batch as a JSON array to {@code uri}. Any status other than 2xx, a timeout or a
+ * connection error fails the batch, so the publisher retries it.
+ */
+public final class WebhookDestination implements AlertDestination {
+
+    private final URI uri;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    public WebhookDestination(URI uri, Duration timeout) {
+        if (uri == null) throw new IllegalArgumentException("uri is required");
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("timeout must be positive");
+        this.uri = uri;
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() { return "webhook"; }
+
+    @Override
+    public void publish(List<AlertEnvelope> batch) throws IOException, InterruptedException {
+        StringBuilder body = new StringBuilder(batch.size() * 192 + 2).append('[');
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) body.append(',');
+            body.append(batch.get(i).toJson());
+        }
+        body.append(']');
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(timeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+            .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Webhook " + uri + " returned HTTP " + response.statusCode());
+        }
+    }
+}
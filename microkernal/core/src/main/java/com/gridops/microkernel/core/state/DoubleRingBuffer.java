@@ -0,0 +1,104 @@
+package com.gridops.microkernel.core.state;
+
+/**
+ * Fixed-size window over the last {@code capacity} doubles, backed by primitive arrays.
+ * {@link #add(double)}, {@link #sum()}, {@link #mean()}, {@link #min()} and {@link #max()}
+ * are O(1) (amortized for add): the sum is kept incrementally and min/max come from monotonic
+ * deques of sequence numbers. Not thread-safe; callers that share a window across threads
+ * synchronize on it.
+ */
+public final class DoubleRingBuffer {
+
+    private final double[] values;
+    private final long[] minQ;
+    private final long[] maxQ;
+    private int minHead;
+    private int minSize;
+    private int maxHead;
+    private int maxSize;
+    private long count;
+    private double sum;
+
+    public DoubleRingBuffer(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.values = new double[capacity];
+        this.minQ = new long[capacity];
+        this.maxQ = new long[capacity];
+    }
+
+    /** Append a value, evicting the oldest one when full. */
+    public void add(double value) {
+        if (Double.isNaN(value)) throw new IllegalArgumentException("NaN is not allowed");
+        int cap = values.length;
+        long seq = count;
+        int slot = (int) (seq % cap);
+        if (seq >= cap) sum -= values[slot];
+        values[slot] = value;
+        sum += value;
+        count = seq + 1;
+
+        long oldest = count - size();
+        while (minSize > 0 && minQ[minHead] < oldest) { minHead = next(minHead); minSize--; }
+        while (maxSize > 0 && maxQ[maxHead] < oldest) { maxHead = next(maxHead); maxSize--; }
+        while (minSize > 0 && at(minQ[back(minHead, minSize)]) >= value) minSize--;
+        while (maxSize > 0 && at(maxQ[back(maxHead, maxSize)]) <= value) maxSize--;
+        minQ[(minHead + minSize++) % cap] = seq;
+        maxQ[(maxHead + maxSize++) % cap] = seq;
+
+        // Re-sum once per full rotation so floating-point drift cannot accumulate
+        if (count % cap == 0) {
+            double s = 0;
+            for (double v : values) s += v;
+            sum = s;
+        }
+    }
+
+    public int capacity() { return values.length; }
+
+    public int size() { return (int) Math.min(count, values.length); }
+
+    public boolean isEmpty() { return count == 0; }
+
+    public boolean isFull() { return count >= values.length; }
+
+    public double sum() { return sum; }
+
+    /** @return mean of the window, or NaN if empty */
+    public double mean() { return count == 0 ? Double.NaN : sum / size(); }
+
+    /** @return smallest value in the window, or NaN if empty */
+    public double min() { return minSize == 0 ? Double.NaN : at(minQ[minHead]); }
+
+    /** @return largest value in the window, or NaN if empty */
+    public double max() { return maxSize == 0 ? Double.NaN : at(maxQ[maxHead]); }
+
+    /** @return the most recently added value, or NaN if empty */
+    public double last() { return count == 0 ? Double.NaN : at(count - 1); }
+
+    /** @return the oldest value still in the window, or NaN if empty */
+    public double first() { return count == 0 ? Double.NaN : at(count - size()); }
+
+    /** @param index 0 = oldest, {@code size() - 1} = newest */
+    public double get(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(index);
+        return at(count - size() + index);
+    }
+
+    public void clear() {
+        count = 0;
+        sum = 0;
+        minHead = minSize = maxHead = maxSize = 0;
+    }
+
+    private double at(long seq) {
+        return values[(int) (seq % values.length)];
+    }
+
+    private int next(int i) {
+        return i + 1 == values.length ? 0 : i + 1;
+    }
+
+    private int back(int head, int size) {
+        return (head + size - 1) % values.length;
+    }
+}
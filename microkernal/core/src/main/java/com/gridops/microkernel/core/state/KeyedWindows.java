@@ -0,0 +1,78 @@
+package com.gridops.microkernel.core.state;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Per-entity windows (e.g. one {@link DoubleRingBuffer} per node or zone), created on first use.
+ * The map is thread-safe; the windows themselves are not, so a plugin evaluated from several
+ * threads synchronizes on the window it updates.
+ *
+ * @param <W> window type
+ */
+public final class KeyedWindows<W> {
+
+    private final ConcurrentHashMap<String, W> windows = new ConcurrentHashMap<>();
+    private final Function<String, W> factory;
+
+    public KeyedWindows(Supplier<W> factory) {
+        if (factory == null) throw new IllegalArgumentException("factory is required");
+        this.factory = key -> factory.get();
+    }
+
+    public static KeyedWindows<DoubleRingBuffer> doubles(int capacity) {
+        requirePositive(capacity);
+        return new KeyedWindows<>(() -> new DoubleRingBuffer(capacity));
+    }
+
+    public static KeyedWindows<LongRingBuffer> longs(int capacity) {
+        requirePositive(capacity);
+        return new KeyedWindows<>(() -> new LongRingBuffer(capacity));
+    }
+
+    /**
+     * Conventional per-entity key for grid events: the {@code nodeId} payload value, else the
+     * {@code zone}, else the empty string.
+     */
+    public static String entityKey(GridOpsEvent event) {
+        Object node = event.getPayload().get("nodeId");
+        if (node != null) return node.toString();
+        Object zone = event.getPayload().get("zone");
+        return zone != null ? zone.toString() : "";
+    }
+
+    /** The window for {@code key}, created if absent. */
+    public W get(String key) {
+        W window = windows.get(key);
+        return window != null ? window : windows.computeIfAbsent(key, factory);
+    }
+
+    /** The window for {@code key}, or null if none was created. */
+    public W peek(String key) {
+        return windows.get(key);
+    }
+
+    public boolean remove(String key) {
+        return windows.remove(key) != null;
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    public void forEach(BiConsumer<String, W> action) {
+        windows.forEach(action);
+    }
+
+    public void clear() {
+        windows.clear();
+    }
+
+    private static void requirePositive(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+    }
+}
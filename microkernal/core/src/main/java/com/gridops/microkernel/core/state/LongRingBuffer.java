@@ -0,0 +1,99 @@
+package com.gridops.microkernel.core.state;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Fixed-size window over the last {@code capacity} longs; same structure as {@link DoubleRingBuffer}.
+ * The sum is exact, so there is no periodic re-sum. Not thread-safe.
+ */
+public final class LongRingBuffer {
+
+    private final long[] values;
+    private final long[] minQ;
+    private final long[] maxQ;
+    private int minHead;
+    private int minSize;
+    private int maxHead;
+    private int maxSize;
+    private long count;
+    private long sum;
+
+    public LongRingBuffer(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.values = new long[capacity];
+        this.minQ = new long[capacity];
+        this.maxQ = new long[capacity];
+    }
+
+    /** Append a value, evicting the oldest one when full. */
+    public void add(long value) {
+        int cap = values.length;
+        long seq = count;
+        int slot = (int) (seq % cap);
+        if (seq >= cap) sum -= values[slot];
+        values[slot] = value;
+        sum += value;
+        count = seq + 1;
+
+        long oldest = count - size();
+        while (minSize > 0 && minQ[minHead] < oldest) { minHead = next(minHead); minSize--; }
+        while (maxSize > 0 && maxQ[maxHead] < oldest) { maxHead = next(maxHead); maxSize--; }
+        while (minSize > 0 && at(minQ[back(minHead, minSize)]) >= value) minSize--;
+        while (maxSize > 0 && at(maxQ[back(maxHead, maxSize)]) <= value) maxSize--;
+        minQ[(minHead + minSize++) % cap] = seq;
+        maxQ[(maxHead + maxSize++) % cap] = seq;
+    }
+
+    public int capacity() { return values.length; }
+
+    public int size() { return (int) Math.min(count, values.length); }
+
+    public boolean isEmpty() { return count == 0; }
+
+    public boolean isFull() { return count >= values.length; }
+
+    public long sum() { return sum; }
+
+    /** @return mean of the window, or NaN if empty */
+    public double mean() { return count == 0 ? Double.NaN : (double) sum / size(); }
+
+    /** Smallest value in the window; throws {@link NoSuchElementException} if empty. */
+    public long min() { requireNonEmpty(); return at(minQ[minHead]); }
+
+    /** Largest value in the window; throws {@link NoSuchElementException} if empty. */
+    public long max() { requireNonEmpty(); return at(maxQ[maxHead]); }
+
+    /** Most recently added value; throws {@link NoSuchElementException} if empty. */
+    public long last() { requireNonEmpty(); return at(count - 1); }
+
+    /** Oldest value still in the window; throws {@link NoSuchElementException} if empty. */
+    public long first() { requireNonEmpty(); return at(count - size()); }
+
+    /** @param index 0 = oldest, {@code size() - 1} = newest */
+    public long get(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(index);
+        return at(count - size() + index);
+    }
+
+    public void clear() {
+        count = 0;
+        sum = 0;
+        minHead = minSize = maxHead = maxSize = 0;
+    }
+
+    private void requireNonEmpty() {
+        if (count == 0) throw new NoSuchElementException("window is empty");
+    }
+
+    private long at(long seq) {
+        return values[(int) (seq % values.length)];
+    }
+
+    private int next(int i) {
+        return i + 1 == values.length ? 0 : i + 1;
+    }
+
+    private int back(int head, int size) {
+        return (head + size - 1) % values.length;
+    }
+}
@@ -0,0 +1,185 @@
+package com.gridops.microkernel.core.state;
+
+import com.gridops.microkernel.core.contract.PluginContext;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory {@link PluginContext}: named keyed windows and sustained conditions owned by one plugin instance. The engine
+ * creates one per registered plugin; tests and standalone callers can create their own.
+ *
+ * {@link #writeTo} and {@link #readFrom} carry the state through checkpoints in a compact binary form: per name its
+ * kind and size, then each entity's window values (oldest first) or held condition. Each window is copied under its
+ * own lock, so a checkpoint taken during evaluation is consistent per entity, not across entities.
+ */
+public final class PluginStateStore implements PluginContext {
+
+    private final Map<String, Named> state = new ConcurrentHashMap<>();
+
+    @Override
+    public KeyedWindows<DoubleRingBuffer> doubleWindows(String name, int capacity) {
+        return lookup(name, Kind.DOUBLE, capacity).state();
+    }
+
+    @Override
+    public KeyedWindows<LongRingBuffer> longWindows(String name, int capacity) {
+        return lookup(name, Kind.LONG, capacity).state();
+    }
+
+    @Override
+    public SustainedConditions sustained(String name, Duration holdFor) {
+        if (holdFor == null) throw new IllegalArgumentException("holdFor is required");
+        return lookup(name, Kind.SUSTAINED, holdFor.toMillis()).state();
+    }
+
+    /** Names of the state requested so far. */
+    public Set<String> names() {
+        return Set.copyOf(state.keySet());
+    }
+
+    /** Writes every named state requested so far. */
+    public void writeTo(DataOutput out) throws IOException {
+        Map<String, Named> copy = Map.copyOf(state);
+        out.writeInt(copy.size());
+        for (Map.Entry<String, Named> e : copy.entrySet()) {
+            Named named = e.getValue();
+            out.writeUTF(e.getKey());
+            out.writeByte(named.kind.ordinal());
+            out.writeLong(named.size);
+            switch (named.kind) {
+                case DOUBLE -> writeWindows(out, named.<KeyedWindows<DoubleRingBuffer>>state(), (o, w) -> {
+                    o.writeInt(w.size());
+                    for (int i = 0; i < w.size(); i++) o.writeDouble(w.get(i));
+                });
+                case LONG -> writeWindows(out, named.<KeyedWindows<LongRingBuffer>>state(), (o, w) -> {
+                    o.writeInt(w.size());
+                    for (int i = 0; i < w.size(); i++) o.writeLong(w.get(i));
+                });
+                case SUSTAINED -> named.<SustainedConditions>state().writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Restores state written by {@link #writeTo} into the state already requested under the same name, kind and size
+     * (typically in {@code onLoad}); other entries, e.g. a window whose capacity changed since, are skipped.
+     * @return number of named states restored
+     */
+    public int readFrom(DataInput in) throws IOException {
+        int count = in.readInt();
+        int restored = 0;
+        for (int n = 0; n < count; n++) {
+            String name = in.readUTF();
+            int ordinal = in.readUnsignedByte();
+            if (ordinal >= Kind.values().length) throw new IOException("Unknown state kind " + ordinal + " for '" + name + "'");
+            Kind kind = Kind.values()[ordinal];
+            long size = in.readLong();
+            Named named = state.get(name);
+            boolean match = named != null && named.kind == kind && named.size == size;
+            switch (kind) {
+                case DOUBLE -> readWindows(in, match ? named.<KeyedWindows<DoubleRingBuffer>>state() : null, (i, w) -> {
+                    int values = i.readInt();
+                    if (w != null) w.clear();
+                    for (int v = 0; v < values; v++) {
+                        double value = i.readDouble();
+                        if (w != null) w.add(value);
+                    }
+                });
+                case LONG -> readWindows(in, match ? named.<KeyedWindows<LongRingBuffer>>state() : null, (i, w) -> {
+                    int values = i.readInt();
+                    if (w != null) w.clear();
+                    for (int v = 0; v < values; v++) {
+                        long value = i.readLong();
+                        if (w != null) w.add(value);
+                    }
+                });
+                case SUSTAINED -> (match ? named.<SustainedConditions>state() : new SustainedConditions(Duration.ofMillis(size))).readFrom(in);
+            }
+            if (match) restored++;
+        }
+        return restored;
+    }
+
+    private static <W> void writeWindows(DataOutput out, KeyedWindows<W> windows, WindowWriter<W> writer) throws IOException {
+        Map<String, W> copy = new HashMap<>();
+        windows.forEach(copy::put);
+        out.writeInt(copy.size());
+        for (Map.Entry<String, W> e : copy.entrySet()) {
+            out.writeUTF(e.getKey());
+            synchronized (e.getValue()) {
+                writer.write(out, e.getValue());
+            }
+        }
+    }
+
+    /** {@code windows} null reads past the entries without keeping them. */
+    private static <W> void readWindows(DataInput in, KeyedWindows<W> windows, WindowReader<W> reader) throws IOException {
+        int entities = in.readInt();
+        for (int i = 0; i < entities; i++) {
+            String key = in.readUTF();
+            if (windows == null) {
+                reader.read(in, null);
+                continue;
+            }
+            W window = windows.get(key);
+            synchronized (window) {
+                reader.read(in, window);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface WindowWriter<W> {
+        void write(DataOutput out, W window) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface WindowReader<W> {
+        void read(DataInput in, W window) throws IOException;
+    }
+
+    /** {@code size} is the window capacity, or the hold duration in ms for sustained conditions. */
+    private Named lookup(String name, Kind kind, long size) {
+        if (name == null || name.isBlank()) throw new IllegalArgumentException("state name is required");
+        Named named = state.computeIfAbsent(name, n -> new Named(kind, size, create(kind, size)));
+        if (named.kind != kind || named.size != size) {
+            throw new IllegalArgumentException("State '" + name + "' already exists as " + named.kind
+                + (named.kind == Kind.SUSTAINED ? " held for " + named.size + " ms" : " windows of capacity " + named.size));
+        }
+        return named;
+    }
+
+    private static Object create(Kind kind, long size) {
+        return switch (kind) {
+            case DOUBLE -> KeyedWindows.doubles((int) size);
+            case LONG -> KeyedWindows.longs((int) size);
+            case SUSTAINED -> new SustainedConditions(Duration.ofMillis(size));
+        };
+    }
+
+    private enum Kind { DOUBLE, LONG, SUSTAINED }
+
+    private static final class Named {
+        final Kind kind;
+        final long size;
+        final Object state;
+
+        Named(Kind kind, long size, Object state) {
+            this.kind = kind;
+            this.size = size;
+            this.state = state;
+        }
+
+        @SuppressWarnings("unchecked")
+        <S> S state() {
+            return (S) state;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.gridops.microkernel.core.state;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-entity "condition held for at least {@code holdFor}" tracking, e.g. reserve margin below 15%
+ * for 10 minutes. The first reading where the condition holds arms a timer on a {@link TimingWheel};
+ * a reading where it no longer holds cancels it. When time (the event timestamps passed to
+ * {@link #observe}) passes the deadline without a cancelling reading for that entity, the condition
+ * is confirmed once and stays confirmed until the entity reports it cleared.
+ *
+ * Confirmations are returned from the {@code observe} call whose timestamp moved time past the
+ * deadline, whichever entity it was for, so no scheduler thread or per-entity task is needed.
+ * Out-of-order timestamps never move time backwards. Calls are serialized on this instance.
+ */
+public final class SustainedConditions {
+
+    private final long holdMillis;
+    private final long tickMillis;
+    private final Map<String, Pending> byKey = new HashMap<>();
+    private TimingWheel<Pending> wheel;
+
+    /** Ticks are {@code holdFor / 256} (at least 1 ms); a confirmation can come up to one tick after the deadline. */
+    public SustainedConditions(Duration holdFor) {
+        if (holdFor == null || holdFor.toMillis() < 1) throw new IllegalArgumentException("holdFor must be at least 1 ms");
+        this.holdMillis = holdFor.toMillis();
+        this.tickMillis = Math.max(1, holdMillis / 256);
+    }
+
+    /**
+     * Records whether the condition holds for {@code key} at {@code atMillis} and returns the
+     * conditions confirmed up to that time (usually none; the list is then shared and empty).
+     */
+    public synchronized List<Confirmation> observe(String key, boolean holding, long atMillis) {
+        if (wheel == null) wheel = new TimingWheel<>(tickMillis, atMillis);
+        List<Confirmation> confirmed = List.of();
+        if (atMillis > wheel.currentTimeMillis()) {
+            List<Confirmation> due = new ArrayList<>(0);
+            wheel.advanceTo(atMillis, pending ->
+                due.add(new Confirmation(pending.key, pending.sinceMillis, pending.timer.deadlineMillis())));
+            if (!due.isEmpty()) confirmed = due;
+        }
+        Pending pending = byKey.get(key);
+        if (holding) {
+            if (pending == null) {
+                pending = new Pending(key, atMillis);
+                pending.timer = wheel.schedule(atMillis + holdMillis, pending);
+                byKey.put(key, pending);
+            }
+        } else if (pending != null) {
+            pending.timer.cancel();
+            byKey.remove(key);
+        }
+        return confirmed;
+    }
+
+    /** Entities whose condition currently holds (armed or confirmed). */
+    public synchronized int size() {
+        return byKey.size();
+    }
+
+    /** Armed timers not yet confirmed or cancelled. */
+    public synchronized int pending() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    public Duration holdFor() {
+        return Duration.ofMillis(holdMillis);
+    }
+
+    /** Writes the current time and every held condition (armed or confirmed), for checkpoints. */
+    public synchronized void writeTo(DataOutput out) throws IOException {
+        out.writeLong(wheel != null ? wheel.currentTimeMillis() : Long.MIN_VALUE);
+        out.writeInt(byKey.size());
+        for (Pending pending : byKey.values()) {
+            out.writeUTF(pending.key);
+            out.writeLong(pending.sinceMillis);
+            out.writeBoolean(!pending.timer.isPending());
+        }
+    }
+
+    /**
+     * Replaces this instance's state with what {@link #writeTo} wrote. Armed conditions are re-armed
+     * for their original deadline; confirmed ones stay confirmed without being reported again.
+     */
+    public synchronized void readFrom(DataInput in) throws IOException {
+        long now = in.readLong();
+        int count = in.readInt();
+        byKey.clear();
+        wheel = now == Long.MIN_VALUE ? null : new TimingWheel<>(tickMillis, now);
+        for (int i = 0; i < count; i++) {
+            Pending pending = new Pending(in.readUTF(), in.readLong());
+            boolean confirmed = in.readBoolean();
+            if (wheel == null) wheel = new TimingWheel<>(tickMillis, pending.sinceMillis);
+            pending.timer = wheel.schedule(pending.sinceMillis + holdMillis, pending);
+            if (confirmed) pending.timer.cancel();
+            byKey.put(pending.key, pending);
+        }
+    }
+
+    private static final class Pending {
+        final String key;
+        final long sinceMillis;
+        TimingWheel.Timer<Pending> timer;
+
+        Pending(String key, long sinceMillis) {
+            this.key = key;
+            this.sinceMillis = sinceMillis;
+        }
+    }
+
+    /** A condition that held for {@code key} from {@code sinceMillis} until at least {@code confirmedAtMillis}. */
+    public static final class Confirmation {
+        private final String key;
+        private final long sinceMillis;
+        private final long confirmedAtMillis;
+
+        public Confirmation(String key, long sinceMillis, long confirmedAtMillis) {
+            this.key = key;
+            this.sinceMillis = sinceMillis;
+            this.confirmedAtMillis = confirmedAtMillis;
+        }
+
+        public String getKey() { return key; }
+        public long getSinceMillis() { return sinceMillis; }
+        public long getConfirmedAtMillis() { return confirmedAtMillis; }
+    }
+}
@@ -0,0 +1,190 @@
+package com.gridops.microkernel.core.state;
+
+import java.util.function.Consumer;
+
+/**
+ * Hashed hierarchical timing wheel (Varghese and Lauck): {@value #LEVELS} levels of
+ * {@value #SLOTS} slots, each level {@value #SLOTS} times coarser than the one below. Scheduling
+ * and cancelling are O(1) (a timer is unlinked from its slot's list). Advancing jumps straight to
+ * the next occupied slot, so its cost depends on the armed timers rather than on the elapsed ticks.
+ *
+ * Time is whatever the caller passes to {@link #advanceTo}; rules drive it from event timestamps so
+ * replays are deterministic. Deadlines are rounded up to the tick, and a deadline at or before the
+ * current time fires on the next tick. Deadlines beyond the wheel span ({@code tick * 64^4}) wait in
+ * the top level and are re-hashed until due. Not thread-safe.
+ *
+ * @param <T> value carried by each timer
+ */
+public final class TimingWheel<T> {
+
+    static final int LEVELS = 4;
+    static final int SLOTS = 64;
+    private static final int BITS = 6;
+    private static final int MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final Timer<T>[][] wheel;
+    private long currentTick;
+    private int size;
+
+    /** Wheel whose time starts at {@code startMillis} and advances in steps of {@code tickMillis}. */
+    public TimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis < 1) throw new IllegalArgumentException("tickMillis must be positive");
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        // Every element is a Timer<T> sentinel, so the cast from the wildcard array is safe.
+        @SuppressWarnings("unchecked")
+        Timer<T>[][] slots = (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+        for (Timer<T>[] level : slots) {
+            for (int s = 0; s < SLOTS; s++) level[s] = Timer.sentinel();
+        }
+        this.wheel = slots;
+    }
+
+    /** Arms a timer that {@link #advanceTo} reports once time reaches {@code deadlineMillis}. */
+    public Timer<T> schedule(long deadlineMillis, T value) {
+        long tick = Math.max(ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        Timer<T> timer = new Timer<>(this, tick, tick * tickMillis, value);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Moves time forward to {@code nowMillis} and passes the value of every timer that fell due to
+     * {@code expired}, in deadline order (tick resolution). Earlier times are ignored.
+     */
+    public void advanceTo(long nowMillis, Consumer<? super T> expired) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target) {
+            long next = size == 0 ? Long.MAX_VALUE : nextEventTick();
+            if (next > target) {
+                currentTick = target;
+                return;
+            }
+            currentTick = next;
+            cascade();
+            Timer<T> head = wheel[0][(int) (currentTick & MASK)];
+            while (head.next != head) {
+                Timer<T> timer = head.next;
+                timer.unlink();
+                size--;
+                timer.owner = null;
+                expired.accept(timer.value);
+            }
+        }
+    }
+
+    /** Number of armed timers. */
+    public int size() { return size; }
+
+    /** Current wheel time, rounded down to the tick. */
+    public long currentTimeMillis() { return currentTick * tickMillis; }
+
+    public long tickMillis() { return tickMillis; }
+
+    /**
+     * Earliest tick after the current one at which a level-0 slot fires or a coarser slot cascades.
+     * A level-{@code L} timer sits in one of the next {@value #SLOTS} blocks of that level, so at
+     * most {@code LEVELS * SLOTS} slots are inspected.
+     */
+    private long nextEventTick() {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * level;
+            long block = currentTick >>> shift;
+            for (int k = 1; k <= SLOTS; k++) {
+                Timer<T> head = wheel[level][(int) ((block + k) & MASK)];
+                if (head.next != head) {
+                    next = Math.min(next, (block + k) << shift);
+                    break;
+                }
+            }
+        }
+        return next;
+    }
+
+    /** Re-hash the coarser slots that start at the current tick into finer levels. */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) return;
+            Timer<T> head = wheel[level][(int) ((currentTick >>> (BITS * level)) & MASK)];
+            Timer<T> timer = head.next;
+            head.next = head;
+            head.prev = head;
+            while (timer != head) {
+                Timer<T> next = timer.next;
+                place(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = timer.tick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) level++;
+        // Beyond the top level's span: park in its farthest slot and re-hash when that slot comes round.
+        long slotTick = delta >= 1L << (BITS * LEVELS) ? currentTick + (1L << (BITS * LEVELS)) - 1 : timer.tick;
+        timer.linkBefore(wheel[level][(int) ((slotTick >>> (BITS * level)) & MASK)]);
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    /** Handle for an armed timer. */
+    public static final class Timer<T> {
+        private TimingWheel<T> owner;
+        private final long tick;
+        private final long deadlineMillis;
+        private final T value;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(TimingWheel<T> owner, long tick, long deadlineMillis, T value) {
+            this.owner = owner;
+            this.tick = tick;
+            this.deadlineMillis = deadlineMillis;
+            this.value = value;
+        }
+
+        private static <T> Timer<T> sentinel() {
+            Timer<T> head = new Timer<>(null, 0, 0, null);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        public T value() { return value; }
+
+        /** Deadline rounded up to the wheel tick. */
+        public long deadlineMillis() { return deadlineMillis; }
+
+        /** True until the timer fires or is cancelled. */
+        public boolean isPending() { return owner != null; }
+
+        /** Disarms the timer in O(1). @return false if it already fired or was cancelled */
+        public boolean cancel() {
+            if (owner == null) return false;
+            unlink();
+            owner.size--;
+            owner = null;
+            return true;
+        }
+
+        private void linkBefore(Timer<T> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
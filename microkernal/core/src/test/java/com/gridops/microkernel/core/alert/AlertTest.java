@@ -0,0 +1,31 @@
+package com.gridops.microkernel.core.alert;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlertTest {
+
+    @Test
+    void templated_rendersPlaceholdersInOrder() {
+        Alert alert = Alert.templated("p", "r", "HIGH", Instant.now(), "Price {} >= {}", 200.0, 150.0);
+        assertEquals("Price 200.0 >= 150.0", alert.getMessage());
+        assertSame(alert.getMessage(), alert.getMessage());
+    }
+
+    @Test
+    void templated_keepsUnmatchedPlaceholdersAndIgnoresExtraArgs() {
+        assertEquals("a 1 {}", Alert.templated("p", "r", "LOW", null, "a {} {}", 1).getMessage());
+        assertEquals("no args", Alert.templated("p", "r", "LOW", null, "no args", 1, 2).getMessage());
+        assertEquals("x null", Alert.templated("p", "r", "LOW", null, "x {}", (Object) null).getMessage());
+    }
+
+    @Test
+    void constructor_keepsPlainMessage() {
+        Alert alert = new Alert("p", "r", "HIGH", "literal {}", null);
+        assertEquals("literal {}", alert.getMessage());
+        assertNotNull(alert.getRaisedAt());
+    }
+}
@@ -0,0 +1,163 @@
+package com.gridops.microkernel.core.checkpoint;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.PluginContext;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.DoubleRingBuffer;
+import com.gridops.microkernel.core.state.KeyedWindows;
+import com.gridops.microkernel.core.state.SustainedConditions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CheckpointStoreTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void restart_restoresWindowsSustainedConditionsAndPluginState() {
+        AlertRuleEngine first = engine(new CheckpointStore(dir, Duration.ofHours(1)));
+        WindowPlugin before = new WindowPlugin();
+        first.registerPlugin(before);
+        for (int i = 0; i < 5; i++) first.evaluate(event("N1", 10 + i, T0.plusSeconds(i * 60L)));
+        assertEquals(1, first.checkpoint());
+        assertEquals(0, first.checkpoint(), "unchanged state is not rewritten");
+
+        CheckpointStore store = new CheckpointStore(dir, Duration.ofHours(1));
+        AlertRuleEngine second = engine(store);
+        WindowPlugin after = new WindowPlugin();
+        assertEquals(1, second.registerPlugins(List.of(after)));
+
+        assertEquals(1, store.restoredCount());
+        assertEquals(5, after.evaluated);
+        DoubleRingBuffer window = after.windows.peek("N1");
+        assertEquals(List.of(11.0, 12.0, 13.0, 14.0), values(window));
+        assertEquals(0, store.writtenCount() + second.checkpoint(), "restored state matches the file");
+
+        // Low since minute 0 on the first instance; confirmed after 10 minutes (plus tick rounding) on the second
+        List<Alert> alerts = second.evaluate(event("N1", 1, T0.plusSeconds(610))).getAlerts();
+        assertEquals(List.of("sustained-low"), alerts.stream().map(Alert::getRuleId).toList());
+    }
+
+    @Test
+    void corruptOrExpiredCheckpoint_startsCold() throws IOException {
+        AlertRuleEngine first = engine(new CheckpointStore(dir, Duration.ofHours(1)));
+        first.registerPlugin(new WindowPlugin());
+        first.evaluate(event("N1", 10, T0));
+        first.checkpoint();
+        Path file = new CheckpointStore(dir, Duration.ofHours(1)).file(WindowPlugin.ID);
+
+        Clock later = Clock.offset(Clock.systemUTC(), Duration.ofHours(2));
+        CheckpointStore expired = new CheckpointStore(dir, Duration.ofHours(1), later);
+        WindowPlugin stale = new WindowPlugin();
+        engine(expired).registerPlugin(stale);
+        assertEquals(0, stale.windows.size());
+        assertEquals(0, expired.restoredCount());
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 10] ^= 0x5A;
+        Files.write(file, bytes);
+        CheckpointStore corrupt = new CheckpointStore(dir, Duration.ofHours(1), Clock.system(ZoneOffset.UTC));
+        WindowPlugin cold = new WindowPlugin();
+        assertTrue(engine(corrupt).registerPlugin(cold));
+        assertEquals(0, cold.windows.size());
+        assertEquals(1, corrupt.failedCount());
+        assertTrue(corrupt.lastError().contains("Checksum mismatch"), corrupt.lastError());
+    }
+
+    @Test
+    void failedPluginRestore_discardsRestoredContextState() {
+        AlertRuleEngine first = engine(new CheckpointStore(dir, Duration.ofHours(1)));
+        first.registerPlugin(new WindowPlugin());
+        first.evaluate(event("N1", 10, T0));
+        assertEquals(1, first.checkpoint());
+
+        CheckpointStore store = new CheckpointStore(dir, Duration.ofHours(1));
+        WindowPlugin plugin = new WindowPlugin();
+        plugin.failRestore = true;
+        assertTrue(engine(store).registerPlugin(plugin));
+        assertEquals(1, store.failedCount());
+        assertEquals(0, plugin.windows.size(), "context state is not left half-restored");
+        assertEquals(0, plugin.evaluated);
+    }
+
+    private static AlertRuleEngine engine(CheckpointStore store) {
+        AlertRuleEngine engine = new AlertRuleEngine();
+        engine.setCheckpointStore(store);
+        return engine;
+    }
+
+    private static GridOpsEvent event(String node, double value, Instant at) {
+        return new GridOpsEvent("e-" + at.getEpochSecond(), "reading", at, Map.of("nodeId", node, "value", value));
+    }
+
+    private static List<Double> values(DoubleRingBuffer window) {
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < window.size(); i++) values.add(window.get(i));
+        return values;
+    }
+
+    /** Windowed and sustained state from the context, plus a private counter through snapshot/restore. */
+    private static final class WindowPlugin implements RulePlugin {
+        static final String ID = "window-test";
+        KeyedWindows<DoubleRingBuffer> windows;
+        SustainedConditions low;
+        int evaluated;
+        boolean failRestore;
+
+        @Override public String id() { return ID; }
+        @Override public String name() { return "Window test"; }
+
+        @Override
+        public void onLoad(PluginContext context) {
+            windows = context.doubleWindows("values", 4);
+            low = context.sustained("low", Duration.ofMinutes(10));
+        }
+
+        @Override
+        public List<Alert> evaluate(GridOpsEvent event) {
+            evaluated++;
+            String node = (String) event.getPayload().get("nodeId");
+            double value = ((Number) event.getPayload().get("value")).doubleValue();
+            DoubleRingBuffer window = windows.get(node);
+            synchronized (window) {
+                window.add(value);
+            }
+            List<Alert> alerts = new ArrayList<>();
+            for (SustainedConditions.Confirmation c : low.observe(node, value < 20, event.getTimestamp().toEpochMilli())) {
+                alerts.add(new Alert(ID, "sustained-low", "HIGH", c.getKey(), event.getTimestamp()));
+            }
+            return alerts;
+        }
+
+        @Override
+        public void snapshot(DataOutput out) throws IOException {
+            out.writeInt(evaluated);
+        }
+
+        @Override
+        public void restore(DataInput in) throws IOException {
+            if (failRestore) throw new IOException("unreadable plugin section");
+            evaluated = in.readInt();
+        }
+    }
+}
@@ -1,17 +1,20 @@
 package com.gridops.microkernel.core.contract;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.discovery.PluginDiscovery;
+import com.gridops.microkernel.core.event.EventBatch;
 import com.gridops.microkernel.core.event.GridOpsEvent;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
- * Contract tests for RulePlugin (v1). Plugins must satisfy these behaviors;
+ * Contract tests for RulePlugin (v1/v2). Plugins must satisfy these behaviors;
  * run the same tests in each plugin module to ensure compatibility.
  */
 public abstract class RulePluginContractTest {
@@ -34,9 +37,28 @@ public abstract class RulePluginContractTest {
     }
 
     @Test
-    void contractVersion_isV1() {
+    void contractVersion_isSupported() {
         RulePlugin plugin = createPlugin();
-        assertEquals("1", plugin.contractVersion());
+        assertTrue(RulePlugin.SUPPORTED_CONTRACT_VERSIONS.contains(plugin.contractVersion()));
+    }
+
+    @Test
+    void subscriptions_areNonNull() {
+        RulePlugin plugin = createPlugin();
+        assertNotNull(plugin.eventTypes());
+        assertNotNull(plugin.payloadKeys());
+    }
+
+    @Test
+    void triggeringEvent_matchesSubscriptions() {
+        RulePlugin plugin = createPlugin();
+        GridOpsEvent event = eventThatMayTrigger(plugin);
+        if (!plugin.eventTypes().isEmpty()) {
+            assertTrue(plugin.eventTypes().contains(event.getEventType()));
+        }
+        if (!plugin.payloadKeys().isEmpty()) {
+            assertTrue(plugin.payloadKeys().stream().anyMatch(event.getPayload()::containsKey));
+        }
     }
 
     @Test
@@ -67,6 +89,48 @@ public abstract class RulePluginContractTest {
         }
     }
 
+    @Test
+    void evaluateWithSink_emitsSameAlertsAsList() {
+        RulePlugin plugin = createPlugin();
+        GridOpsEvent event = eventThatMayTrigger(plugin);
+        List<Alert> listed = plugin.evaluate(event);
+        List<Alert> sunk = new ArrayList<>();
+        plugin.evaluate(event, sunk::add);
+        assertEquals(listed.size(), sunk.size());
+        for (int i = 0; i < listed.size(); i++) {
+            assertEquals(listed.get(i).getRuleId(), sunk.get(i).getRuleId());
+            assertEquals(listed.get(i).getSeverity(), sunk.get(i).getSeverity());
+            assertEquals(listed.get(i).getMessage(), sunk.get(i).getMessage());
+        }
+    }
+
+    @Test
+    void evaluateColumnarBatch_matchesPerEventEvaluate() {
+        List<GridOpsEvent> events = List.of(
+            eventThatMayTrigger(createPlugin()),
+            new GridOpsEvent("e2", "test", Instant.now(), Map.of()),
+            eventThatMayTrigger(createPlugin()));
+        RulePlugin single = createPlugin();
+        List<List<Alert>> batched = createPlugin().evaluateBatch(new EventBatch(events));
+        assertEquals(events.size(), batched.size());
+        for (int i = 0; i < events.size(); i++) {
+            List<Alert> expected = single.evaluate(events.get(i));
+            assertEquals(expected.stream().map(Alert::getRuleId).toList(),
+                batched.get(i).stream().map(Alert::getRuleId).toList(), "row " + i);
+        }
+    }
+
+    @Test
+    void discoverable_withFactoryForItsId() {
+        RulePlugin plugin = createPlugin();
+        RulePluginFactory factory = PluginDiscovery.discoverFactories().stream()
+            .filter(f -> f.type() == plugin.getClass())
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No factory discovered for " + plugin.getClass().getName()));
+        assertEquals(plugin.id(), factory.id());
+        assertSame(plugin.getClass(), factory.create().getClass());
+    }
+
     /** Override to provide an event that might trigger the plugin; default minimal event. */
     protected GridOpsEvent eventThatMayTrigger(RulePlugin plugin) {
         return new GridOpsEvent("e1", "test", Instant.now(), Map.of());
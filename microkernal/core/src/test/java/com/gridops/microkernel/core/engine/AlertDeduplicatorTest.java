@@ -0,0 +1,87 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlertDeduplicatorTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AlertDeduplicator dedup =
+        new AlertDeduplicator(Duration.ofSeconds(60), 100, List.of("nodeId", "zone"), clock);
+
+    @Test
+    void repeatsInsideWindow_areSuppressedAndCountedOnNextEmission() {
+        assertEquals(1, run("n1", alert("price-spike", "r1")).size());
+        for (int i = 0; i < 5; i++) {
+            clock.advance(Duration.ofSeconds(10));
+            assertTrue(run("n1", alert("price-spike", "r1")).isEmpty());
+        }
+        clock.advance(Duration.ofSeconds(15));
+        List<Alert> next = run("n1", alert("price-spike", "r1"));
+        assertEquals(1, next.size());
+        assertEquals(5, next.get(0).getSuppressedCount());
+
+        clock.advance(Duration.ofSeconds(61));
+        assertEquals(0, run("n1", alert("price-spike", "r1")).get(0).getSuppressedCount());
+    }
+
+    @Test
+    void differentEntityRuleOrPlugin_areNotCollapsed() {
+        assertEquals(1, run("n1", alert("p", "r1")).size());
+        assertEquals(1, run("n2", alert("p", "r1")).size());
+        assertEquals(1, run("n1", alert("p", "r2")).size());
+        assertEquals(1, run("n1", alert("q", "r1")).size());
+        assertEquals(0, run("n1", alert("p", "r1"), alert("q", "r1")).size());
+        assertEquals(4, dedup.size());
+    }
+
+    @Test
+    void cacheIsBoundedAndExpiresOldWindows() {
+        AlertDeduplicator small = new AlertDeduplicator(Duration.ofSeconds(1), 2, List.of("nodeId"), clock);
+        for (String node : List.of("a", "b", "c")) {
+            List<Alert> alerts = new ArrayList<>(List.of(alert("p", "r")));
+            small.filter(event(node), alerts);
+            assertEquals(1, alerts.size());
+        }
+        assertEquals(2, small.size());
+        clock.advance(Duration.ofSeconds(3));
+        small.filter(event("d"), new ArrayList<>(List.of(alert("p", "r"))));
+        assertEquals(1, small.size());
+    }
+
+    private List<Alert> run(String nodeId, Alert... alerts) {
+        List<Alert> list = new ArrayList<>(List.of(alerts));
+        dedup.filter(event(nodeId), list);
+        return list;
+    }
+
+    private static GridOpsEvent event(String nodeId) {
+        return new GridOpsEvent("e", "price", Instant.now(), Map.of("nodeId", nodeId, "price", 200.0));
+    }
+
+    private static Alert alert(String pluginId, String ruleId) {
+        return new Alert(pluginId, ruleId, "HIGH", "spike", Instant.now());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration d) { now = now.plus(d); }
+
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+}
@@ -1,14 +1,21 @@
 package com.gridops.microkernel.core.engine;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.contract.PluginContext;
 import com.gridops.microkernel.core.contract.RulePlugin;
 import com.gridops.microkernel.core.event.GridOpsEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +37,44 @@ class AlertRuleEngineTest {
         assertTrue(result.getPluginsFired().isEmpty());
     }
 
+    @Test
+    void evaluationListeners_seeEverySingleAndBatchResult() {
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "test-plugin"; }
+            @Override public String name() { return "Test"; }
+            @Override
+            public List<Alert> evaluate(GridOpsEvent ev) {
+                return List.of(new Alert("test-plugin", "r1", "HIGH", "Test alert", Instant.now()));
+            }
+        });
+        List<AlertRuleEngine.EngineResult> seen = new ArrayList<>();
+        EvaluationListener listener = (event, result) -> seen.add(result);
+        engine.addEvaluationListener(listener);
+        AlertRuleEngine.EngineResult single = engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of()));
+        List<AlertRuleEngine.EngineResult> batch = engine.evaluateBatch(List.of(
+            new GridOpsEvent("e2", "x", Instant.now(), Map.of()),
+            new GridOpsEvent("e3", "x", Instant.now(), Map.of())));
+        assertEquals(List.of(single, batch.get(0), batch.get(1)), seen);
+
+        assertTrue(engine.removeEvaluationListener(listener));
+        engine.evaluate(new GridOpsEvent("e4", "x", Instant.now(), Map.of()));
+        assertEquals(3, seen.size());
+    }
+
+    @Test
+    void failingListener_isCountedAndDoesNotStopEvaluation() {
+        List<String> seen = new ArrayList<>();
+        engine.addEvaluationListener((event, result) -> { throw new IllegalStateException("closed"); });
+        engine.addEvaluationListener((event, result) -> seen.add(result.getEventId()));
+
+        assertEquals("e1", engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of())).getEventId());
+        assertEquals(2, engine.evaluateBatch(List.of(
+            new GridOpsEvent("e2", "x", Instant.now(), Map.of()),
+            new GridOpsEvent("e3", "x", Instant.now(), Map.of()))).size());
+        assertEquals(List.of("e1", "e2", "e3"), seen);
+        assertEquals(3, engine.getListenerFailureCount());
+    }
+
     @Test
     void evaluate_withPlugin_aggregatesAlertsAndPluginsFired() {
         engine.registerPlugin(new RulePlugin() {
@@ -62,4 +107,433 @@ class AlertRuleEngineTest {
         assertEquals(1, list.size());
         assertEquals("p1", list.get(0).id());
     }
+
+    @Test
+    void evaluate_routesOnlySubscribedEventTypes() {
+        engine.registerPlugin(subscribingPlugin("typed", Set.of("price"), Set.of()));
+        engine.registerPlugin(subscribingPlugin("wildcard", Set.of(), Set.of()));
+        AlertRuleEngine.EngineResult price = engine.evaluate(new GridOpsEvent("e1", "price", Instant.now(), Map.of()));
+        AlertRuleEngine.EngineResult other = engine.evaluate(new GridOpsEvent("e2", "other", Instant.now(), Map.of()));
+        assertEquals(List.of("typed", "wildcard"), price.getPluginsFired());
+        assertEquals(List.of("wildcard"), other.getPluginsFired());
+    }
+
+    @Test
+    void evaluate_payloadKeyFilter_skipsEventsWithoutKeys() {
+        engine.registerPlugin(subscribingPlugin("keyed", Set.of(), Set.of("price", "lmp")));
+        assertTrue(engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of("load", 1)))
+            .getPluginsFired().isEmpty());
+        assertEquals(List.of("keyed"), engine.evaluate(new GridOpsEvent("e2", "x", Instant.now(), Map.of("lmp", 1)))
+            .getPluginsFired());
+    }
+
+    @Test
+    void registerPlugin_duplicateId_isRejected() {
+        RulePlugin first = subscribingPlugin("dup", Set.of(), Set.of());
+        assertTrue(engine.registerPlugin(first));
+        long version = engine.getVersion();
+        assertFalse(engine.registerPlugin(subscribingPlugin("dup", Set.of(), Set.of())));
+        assertEquals(version, engine.getVersion());
+        assertEquals(List.of(first), engine.getPlugins());
+        assertEquals(1, engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of())).getAlerts().size());
+    }
+
+    @Test
+    void adminChanges_bumpVersionAndKeepIdIndexConsistent() {
+        long v0 = engine.getVersion();
+        engine.registerPlugin(subscribingPlugin("a", Set.of(), Set.of()));
+        engine.registerPlugin(subscribingPlugin("b", Set.of(), Set.of()));
+        engine.registerPlugin(subscribingPlugin("c", Set.of(), Set.of()));
+        assertTrue(engine.unregisterPluginById("b"));
+        assertFalse(engine.unregisterPluginById("b"));
+        assertEquals(v0 + 4, engine.getVersion());
+        assertTrue(engine.isRegistered("a"));
+        assertFalse(engine.isRegistered("b"));
+        assertTrue(engine.isRegistered("c"));
+        assertEquals(List.of("a", "c"), engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of()))
+            .getPluginsFired());
+        // Unregistering a different instance with a registered id leaves the registered one alone
+        engine.unregisterPlugin(subscribingPlugin("c", Set.of(), Set.of()));
+        assertTrue(engine.isRegistered("c"));
+    }
+
+    @Test
+    void registerPlugin_givesEachPluginItsOwnStateContext() {
+        List<PluginContext> contexts = new ArrayList<>();
+        for (String id : List.of("s1", "s2")) {
+            engine.registerPlugin(new RulePlugin() {
+                @Override public String id() { return id; }
+                @Override public String name() { return id; }
+                @Override public void onLoad(PluginContext context) { contexts.add(context); }
+                @Override public List<Alert> evaluate(GridOpsEvent ev) { return List.of(); }
+            });
+        }
+        assertEquals(2, contexts.size());
+        assertNotSame(contexts.get(0).doubleWindows("w", 4), contexts.get(1).doubleWindows("w", 4));
+    }
+
+    @Test
+    void registerPlugins_failedLoad_unloadsTheOthersAndRegistersNone() {
+        List<String> unloaded = new ArrayList<>();
+        List<RulePlugin> plugins = new ArrayList<>();
+        for (String id : List.of("ok1", "bad", "ok2")) {
+            plugins.add(new RulePlugin() {
+                @Override public String id() { return id; }
+                @Override public String name() { return id; }
+                @Override public void onLoad(PluginContext context) {
+                    if (id.equals("bad")) throw new IllegalStateException("cannot load " + id);
+                }
+                @Override public void onUnload() { synchronized (unloaded) { unloaded.add(id); } }
+                @Override public List<Alert> evaluate(GridOpsEvent ev) { return List.of(); }
+            });
+        }
+        long version = engine.getVersion();
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> engine.registerPlugins(plugins));
+        assertEquals("cannot load bad", e.getMessage());
+        assertEquals(Set.of("ok1", "ok2"), Set.copyOf(unloaded));
+        assertTrue(engine.getPlugins().isEmpty());
+        assertEquals(version, engine.getVersion());
+
+        plugins.remove(1);
+        long before = engine.getVersion();
+        assertEquals(2, engine.registerPlugins(plugins));
+        assertEquals(before + 1, engine.getVersion(), "published as one change");
+        assertEquals(plugins, engine.getPlugins());
+    }
+
+    @Test
+    void unregister_removesPluginFromRoutes() {
+        RulePlugin typed = subscribingPlugin("typed", Set.of("price"), Set.of());
+        engine.registerPlugin(typed);
+        engine.unregisterPlugin(typed);
+        assertTrue(engine.evaluate(new GridOpsEvent("e1", "price", Instant.now(), Map.of()))
+            .getPluginsFired().isEmpty());
+    }
+
+    @Test
+    void registerPlugin_unsupportedContractVersion_throws() {
+        RulePlugin future = new RulePlugin() {
+            @Override public String id() { return "v9"; }
+            @Override public String name() { return "V9"; }
+            @Override public String contractVersion() { return "9"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { return List.of(); }
+        };
+        assertThrows(IllegalArgumentException.class, () -> engine.registerPlugin(future));
+        assertTrue(engine.getPlugins().isEmpty());
+    }
+
+    @Test
+    void evaluateBatch_returnsResultsPerEventInInputOrder() {
+        engine.registerPlugin(subscribingPlugin("typed", Set.of("price"), Set.of()));
+        engine.registerPlugin(subscribingPlugin("wildcard", Set.of(), Set.of()));
+        List<AlertRuleEngine.EngineResult> results = engine.evaluateBatch(List.of(
+            new GridOpsEvent("e1", "price", Instant.now(), Map.of()),
+            new GridOpsEvent("e2", "other", Instant.now(), Map.of())));
+        assertEquals(2, results.size());
+        assertEquals("e1", results.get(0).getEventId());
+        assertEquals(List.of("typed", "wildcard"), results.get(0).getPluginsFired());
+        assertEquals("e2", results.get(1).getEventId());
+        assertEquals(List.of("wildcard"), results.get(1).getPluginsFired());
+    }
+
+    @Test
+    void evaluateBatch_callsPluginOnceWithRoutedEvents() {
+        List<Integer> batchSizes = new ArrayList<>();
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "batching"; }
+            @Override public String name() { return "Batching"; }
+            @Override public Set<String> eventTypes() { return Set.of("price"); }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { return List.of(); }
+            @Override
+            public List<List<Alert>> evaluateBatch(List<GridOpsEvent> events) {
+                batchSizes.add(events.size());
+                return RulePlugin.super.evaluateBatch(events);
+            }
+        });
+        engine.evaluateBatch(List.of(
+            new GridOpsEvent("e1", "price", Instant.now(), Map.of()),
+            new GridOpsEvent("e2", "other", Instant.now(), Map.of()),
+            new GridOpsEvent("e3", "price", Instant.now(), Map.of())));
+        assertEquals(List.of(2), batchSizes);
+    }
+
+    @Test
+    void evaluateBatch_pluginFailure_reportsErrorForEachRoutedEvent() {
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "broken"; }
+            @Override public String name() { return "Broken"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { throw new IllegalStateException("boom"); }
+        });
+        List<AlertRuleEngine.EngineResult> results = engine.evaluateBatch(List.of(
+            new GridOpsEvent("e1", "x", Instant.now(), Map.of()),
+            new GridOpsEvent("e2", "x", Instant.now(), Map.of())));
+        for (AlertRuleEngine.EngineResult result : results) {
+            assertEquals(1, result.getAlerts().size());
+            assertEquals("ERROR", result.getAlerts().get(0).getSeverity());
+        }
+    }
+
+    @Test
+    void instrumentation_recordsLatencyAlertsAndErrorsPerPlugin() {
+        List<String> calls = new ArrayList<>();
+        engine.setInstrumentation(new PluginInstrumentation() {
+            @Override
+            public void onEvaluated(String pluginId, int events, long durationNanos, int alerts) {
+                assertTrue(durationNanos >= 0);
+                calls.add(pluginId + ":ok:" + events + ":" + alerts);
+            }
+
+            @Override
+            public void onError(String pluginId, int events, long durationNanos, Throwable error) {
+                calls.add(pluginId + ":error:" + error.getMessage());
+            }
+        });
+        engine.registerPlugin(subscribingPlugin("firing", Set.of(), Set.of()));
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "broken"; }
+            @Override public String name() { return "Broken"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { throw new IllegalStateException("boom"); }
+        });
+        engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of()));
+        engine.evaluateBatch(List.of(
+            new GridOpsEvent("e2", "x", Instant.now(), Map.of()),
+            new GridOpsEvent("e3", "x", Instant.now(), Map.of())));
+        assertEquals(List.of("firing:ok:1:1", "broken:error:boom", "firing:ok:2:2", "broken:error:boom"), calls);
+    }
+
+    @Test
+    void instrumentation_isToldWhenAPluginIsUnregistered() {
+        List<String> removed = new ArrayList<>();
+        engine.setInstrumentation(new PluginInstrumentation() {
+            @Override
+            public void onUnregistered(String pluginId) {
+                removed.add(pluginId);
+            }
+        });
+        RulePlugin first = subscribingPlugin("first", Set.of(), Set.of());
+        engine.registerPlugin(first);
+        engine.registerPlugin(subscribingPlugin("second", Set.of(), Set.of()));
+        engine.unregisterPlugin(first);
+        engine.unregisterPluginById("second");
+        engine.unregisterPluginById("missing");
+        assertEquals(List.of("first", "second"), removed);
+    }
+
+    @Test
+    void evaluate_parallel_mergesResultsInRegistrationOrder() {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            AlertRuleEngine parallel = new AlertRuleEngine(executor, Duration.ofSeconds(1));
+            parallel.registerPlugin(sleepingPlugin("slow", 50));
+            parallel.registerPlugin(sleepingPlugin("fast", 0));
+            AlertRuleEngine.EngineResult result = parallel.evaluate(
+                new GridOpsEvent("e1", "x", Instant.now(), Map.of()));
+            assertTrue(parallel.isParallel());
+            assertEquals(List.of("slow", "fast"), result.getPluginsFired());
+            assertEquals("slow", result.getAlerts().get(0).getPluginId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evaluate_parallel_slowPluginTimesOutWithoutBlockingOthers() {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            AlertRuleEngine parallel = new AlertRuleEngine(executor, Duration.ofMillis(50));
+            parallel.registerPlugin(sleepingPlugin("stuck", 5_000));
+            parallel.registerPlugin(sleepingPlugin("fast", 0));
+            long start = System.nanoTime();
+            AlertRuleEngine.EngineResult result = parallel.evaluate(
+                new GridOpsEvent("e1", "x", Instant.now(), Map.of()));
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+            assertEquals(2, result.getAlerts().size());
+            assertEquals("ERROR", result.getAlerts().get(0).getSeverity());
+            assertTrue(result.getAlerts().get(0).getMessage().contains("timed out"));
+            assertEquals("fast", result.getAlerts().get(1).getPluginId());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evaluate_parallel_pluginExceptionBecomesErrorAlert() {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            AlertRuleEngine parallel = new AlertRuleEngine(executor, Duration.ofSeconds(1));
+            parallel.registerPlugin(new RulePlugin() {
+                @Override public String id() { return "broken"; }
+                @Override public String name() { return "Broken"; }
+                @Override public List<Alert> evaluate(GridOpsEvent ev) { throw new IllegalStateException("boom"); }
+            });
+            AlertRuleEngine.EngineResult result = parallel.evaluate(
+                new GridOpsEvent("e1", "x", Instant.now(), Map.of()));
+            assertEquals(1, result.getAlerts().size());
+            assertEquals("ERROR", result.getAlerts().get(0).getSeverity());
+            assertTrue(result.getAlerts().get(0).getMessage().contains("boom"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evaluate_sinkPlugin_partialOutputDroppedOnFailure() {
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "half"; }
+            @Override public String name() { return "Half"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { return AlertSink.collect(ev, this::evaluate); }
+            @Override
+            public void evaluate(GridOpsEvent ev, AlertSink sink) {
+                sink.accept(Alert.templated(id(), "r1", "LOW", null, "partial {}", ev.getEventId()));
+                throw new IllegalStateException("boom");
+            }
+        });
+        engine.registerPlugin(subscribingPlugin("ok", Set.of(), Set.of()));
+
+        AlertRuleEngine.EngineResult result = engine.evaluate(new GridOpsEvent("e1", "x", Instant.now(), Map.of()));
+        assertEquals(2, result.getAlerts().size());
+        assertEquals("ERROR", result.getAlerts().get(0).getSeverity());
+        assertEquals("ok alert", result.getAlerts().get(1).getMessage());
+        assertEquals(List.of("half", "ok"), result.getPluginsFired());
+
+        // The per-thread collector is reset between events
+        AlertRuleEngine.EngineResult next = engine.evaluate(new GridOpsEvent("e2", "x", Instant.now(), Map.of()));
+        assertEquals(2, next.getAlerts().size());
+    }
+
+    @Test
+    void evaluate_reentrantCallFromPlugin_keepsResultsSeparate() {
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "outer"; }
+            @Override public String name() { return "Outer"; }
+            @Override
+            public List<Alert> evaluate(GridOpsEvent ev) {
+                if (!"outer".equals(ev.getEventType())) return List.of();
+                AlertRuleEngine.EngineResult inner = engine.evaluate(new GridOpsEvent("inner", "inner", Instant.now(), Map.of()));
+                return List.of(new Alert("outer", "r1", "LOW", "inner alerts " + inner.getAlerts().size(), Instant.now()));
+            }
+        });
+        engine.registerPlugin(subscribingPlugin("inner", Set.of("inner"), Set.of()));
+
+        AlertRuleEngine.EngineResult result = engine.evaluate(new GridOpsEvent("e1", "outer", Instant.now(), Map.of()));
+        assertEquals(1, result.getAlerts().size());
+        assertEquals("inner alerts 1", result.getAlerts().get(0).getMessage());
+    }
+
+    @Test
+    void evaluate_failingPlugin_isQuarantinedAfterThreshold() {
+        engine.setCircuitBreakerPolicy(
+            new CircuitBreakerPolicy(4, 4, 0.5, Duration.ofSeconds(1), 1.0, Duration.ofMinutes(1), 1));
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "broken"; }
+            @Override public String name() { return "Broken"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { throw new IllegalStateException("boom"); }
+        });
+        engine.registerPlugin(subscribingPlugin("healthy", Set.of(), Set.of()));
+
+        List<String> quarantines = new ArrayList<>();
+        int errors = 0;
+        for (int i = 0; i < 10; i++) {
+            for (Alert alert : engine.evaluate(new GridOpsEvent("e" + i, "x", Instant.now(), Map.of())).getAlerts()) {
+                if ("engine-quarantine".equals(alert.getRuleId())) quarantines.add(alert.getMessage());
+                if ("engine".equals(alert.getRuleId())) errors++;
+            }
+        }
+        assertEquals(4, errors, "errors stop once the plugin is quarantined");
+        assertEquals(1, quarantines.size());
+        assertTrue(quarantines.get(0).contains("4 of 4 recent calls failed"));
+        assertEquals(CircuitState.OPEN, engine.getCircuitState("broken"));
+        assertEquals(CircuitState.CLOSED, engine.getCircuitState("healthy"));
+
+        AlertRuleEngine.EngineResult result = engine.evaluate(new GridOpsEvent("e", "x", Instant.now(), Map.of()));
+        assertEquals(List.of("healthy"), result.getPluginsFired());
+    }
+
+    @Test
+    void pluginError_resolvesHalfOpenProbe() throws InterruptedException {
+        engine.setCircuitBreakerPolicy(
+            new CircuitBreakerPolicy(4, 4, 0.5, Duration.ofSeconds(1), 1.0, Duration.ofMillis(1), 1));
+        boolean[] broken = {true};
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "linkage"; }
+            @Override public String name() { return "Linkage"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) {
+                if (broken[0]) throw new NoClassDefFoundError("missing/Dependency");
+                return List.of();
+            }
+        });
+        GridOpsEvent event = new GridOpsEvent("e1", "x", Instant.now(), Map.of());
+        for (int i = 0; i < 4; i++) engine.evaluate(event);
+        assertEquals(CircuitState.OPEN, engine.getCircuitState("linkage"));
+
+        Thread.sleep(5);
+        assertEquals("Plugin evaluation failed: missing/Dependency",
+            engine.evaluate(event).getAlerts().get(0).getMessage(), "the half-open probe fails");
+        assertEquals(CircuitState.OPEN, engine.getCircuitState("linkage"));
+
+        broken[0] = false;
+        Thread.sleep(5);
+        engine.evaluate(event);
+        assertEquals(CircuitState.CLOSED, engine.getCircuitState("linkage"));
+    }
+
+    @Test
+    void setCircuitBreakerPolicy_nullDisablesQuarantine() {
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "broken"; }
+            @Override public String name() { return "Broken"; }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { throw new IllegalStateException("boom"); }
+        });
+        for (int i = 0; i < 30; i++) {
+            assertEquals(1, engine.evaluate(new GridOpsEvent("e" + i, "x", Instant.now(), Map.of())).getAlerts().size());
+        }
+        assertEquals(CircuitState.CLOSED, engine.getCircuitState("broken"));
+    }
+
+    @Test
+    void evaluate_withDeduplicator_collapsesRepeatedAlerts() {
+        engine.setDeduplicator(new AlertDeduplicator(Duration.ofMinutes(5), 1000, List.of("nodeId")));
+        engine.registerPlugin(subscribingPlugin("p1", Set.of(), Set.of()));
+
+        GridOpsEvent event = new GridOpsEvent("e1", "x", Instant.now(), Map.of("nodeId", "n1"));
+        assertEquals(1, engine.evaluate(event).getAlerts().size());
+        assertTrue(engine.evaluate(event).getAlerts().isEmpty());
+        assertEquals(1, engine.evaluate(new GridOpsEvent("e2", "x", Instant.now(), Map.of("nodeId", "n2")))
+            .getAlerts().size());
+
+        List<AlertRuleEngine.EngineResult> batch = engine.evaluateBatch(List.of(event, event));
+        assertTrue(batch.get(0).getAlerts().isEmpty());
+        assertTrue(batch.get(1).getAlerts().isEmpty());
+    }
+
+    private static RulePlugin subscribingPlugin(String id, Set<String> eventTypes, Set<String> payloadKeys) {
+        return new RulePlugin() {
+            @Override public String id() { return id; }
+            @Override public String name() { return id; }
+            @Override public String contractVersion() { return CONTRACT_VERSION_V2; }
+            @Override public Set<String> eventTypes() { return eventTypes; }
+            @Override public Set<String> payloadKeys() { return payloadKeys; }
+            @Override
+            public List<Alert> evaluate(GridOpsEvent ev) {
+                return List.of(new Alert(id, "r1", "LOW", id + " alert", Instant.now()));
+            }
+        };
+    }
+
+    private static RulePlugin sleepingPlugin(String id, long sleepMs) {
+        return new RulePlugin() {
+            @Override public String id() { return id; }
+            @Override public String name() { return id; }
+            @Override
+            public List<Alert> evaluate(GridOpsEvent ev) {
+                try {
+                    Thread.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return List.of();
+                }
+                return List.of(new Alert(id, "r1", "LOW", id + " alert", Instant.now()));
+            }
+        };
+    }
 }
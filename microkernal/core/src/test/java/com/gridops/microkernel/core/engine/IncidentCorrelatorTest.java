@@ -0,0 +1,93 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncidentCorrelatorTest {
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final IncidentCorrelator correlator = new IncidentCorrelator(Duration.ofMinutes(5), 2, 10, List.of("zone"));
+    private Instant time = T0;
+
+    @Test
+    void alertsFromDifferentPlugins_forOneEntity_formOneIncident() {
+        run("NORTH", alert("price-spike", "r1"), alert("outage-capacity-risk", "r2"));
+        time = time.plus(Duration.ofMinutes(4));
+        run("NORTH", alert("forecast-ramp", "r3"));
+        run("SOUTH", alert("price-spike", "r1"));
+        run("NORTH", new Alert("outage-capacity-risk", "engine-error", "ERROR", "boom", Instant.now()));
+
+        List<Incident> open = correlator.openIncidents();
+        assertEquals(2, open.size());
+        Incident north = open.stream().filter(i -> i.getEntityKey().equals("NORTH")).findFirst().orElseThrow();
+        assertEquals(3, north.getAlertCount());
+        assertEquals(2, north.getEventCount());
+        assertEquals(List.of("price-spike", "outage-capacity-risk", "forecast-ramp"), north.getPluginIds());
+        assertTrue(north.isOpen());
+        assertEquals(4, correlator.correlatedAlertCount());
+    }
+
+    @Test
+    void quietWindow_closesIncident_andNextAlertOpensANewOne() {
+        run("NORTH", alert("price-spike", "r1"));
+        time = time.plus(Duration.ofMinutes(5));
+        assertEquals(1, correlator.openIncidents().size(), "event time only moves with events");
+
+        run("NORTH", alert("price-spike", "r1"));
+        List<Incident> closed = correlator.closedIncidents();
+        assertEquals(1, closed.size());
+        assertFalse(closed.get(0).isOpen());
+        assertEquals(T0, closed.get(0).getUpdatedAt());
+        Incident reopened = correlator.openIncidents().get(0);
+        assertNotEquals(closed.get(0).getId(), reopened.getId());
+        assertEquals(T0.plus(Duration.ofMinutes(5)), reopened.getOpenedAt());
+        assertEquals(2, correlator.openedCount());
+    }
+
+    @Test
+    void maxOpen_closesLeastRecentlyUpdatedIncident() {
+        run("A", alert("p", "r"));
+        run("B", alert("p", "r"));
+        time = time.plusSeconds(1);
+        run("A", alert("p", "r"));
+        run("C", alert("p", "r"));
+
+        assertEquals(List.of("A", "C"), correlator.openIncidents().stream().map(Incident::getEntityKey).toList());
+        assertEquals("B", correlator.closedIncidents().get(0).getEntityKey());
+    }
+
+    @Test
+    void lateEvent_joinsIncidentWithoutMovingTimeBackwards() {
+        time = T0.plus(Duration.ofMinutes(4));
+        run("NORTH", alert("price-spike", "r1"));
+        time = T0;
+        run("NORTH", alert("forecast-ramp", "r2"));
+
+        Incident north = correlator.openIncidents().get(0);
+        assertEquals(2, north.getEventCount());
+        assertEquals(T0.plus(Duration.ofMinutes(4)), north.getOpenedAt());
+        assertEquals(T0.plus(Duration.ofMinutes(4)), north.getUpdatedAt());
+
+        time = T0.plus(Duration.ofMinutes(8));
+        run("SOUTH", alert("price-spike", "r1"));
+        assertEquals(2, correlator.openIncidents().size(), "window runs from the latest event time");
+    }
+
+    private void run(String zone, Alert... alerts) {
+        GridOpsEvent event = new GridOpsEvent("e1", "price", time, Map.of("zone", zone));
+        correlator.onEvaluated(event, new AlertRuleEngine.EngineResult("e1", List.of(alerts), List.of()));
+    }
+
+    private static Alert alert(String pluginId, String ruleId) {
+        return new Alert(pluginId, ruleId, "HIGH", "msg", Instant.now());
+    }
+}
@@ -0,0 +1,80 @@
+package com.gridops.microkernel.core.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PluginCircuitBreakerTest {
+
+    private static final long MS = 1_000_000L;
+    private final CircuitBreakerPolicy policy =
+        new CircuitBreakerPolicy(4, 4, 0.5, Duration.ofMillis(100), 1.0, Duration.ofMillis(1000), 2);
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        PluginCircuitBreaker breaker = new PluginCircuitBreaker(policy);
+        assertFalse(breaker.onResult(true, MS, 0));
+        assertFalse(breaker.onResult(false, MS, 0));
+        assertFalse(breaker.onResult(true, MS, 0));
+        assertEquals(CircuitState.CLOSED, breaker.state());
+        assertTrue(breaker.onResult(false, MS, 0));
+        assertEquals(CircuitState.OPEN, breaker.state());
+        assertTrue(breaker.tripReason().contains("2 of 4"));
+        assertFalse(breaker.tryAcquire(500 * MS));
+    }
+
+    @Test
+    void rollingWindowForgetsOldFailures() {
+        PluginCircuitBreaker breaker = new PluginCircuitBreaker(policy);
+        breaker.onResult(true, MS, 0);
+        breaker.onResult(false, MS, 0);
+        breaker.onResult(false, MS, 0);
+        breaker.onResult(false, MS, 0);
+        // The failure above drops out of the 4-call window
+        assertFalse(breaker.onResult(false, MS, 0));
+        assertFalse(breaker.onResult(true, MS, 0));
+        assertEquals(CircuitState.CLOSED, breaker.state());
+    }
+
+    @Test
+    void opensWhenAllCallsAreSlow() {
+        PluginCircuitBreaker breaker = new PluginCircuitBreaker(policy);
+        for (int i = 0; i < 3; i++) assertFalse(breaker.onResult(false, 150 * MS, 0));
+        assertTrue(breaker.onResult(false, 150 * MS, 0));
+        assertTrue(breaker.tripReason().contains("longer than 100 ms"));
+    }
+
+    @Test
+    void halfOpenProbesCloseOrReopen() {
+        PluginCircuitBreaker breaker = new PluginCircuitBreaker(policy);
+        for (int i = 0; i < 4; i++) breaker.onResult(true, MS, 0);
+        assertEquals(CircuitState.OPEN, breaker.state());
+
+        assertTrue(breaker.tryAcquire(1000 * MS));
+        assertEquals(CircuitState.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquire(1000 * MS));
+        assertFalse(breaker.tryAcquire(1000 * MS), "only halfOpenProbes calls are admitted");
+        assertTrue(breaker.onResult(true, MS, 1001 * MS));
+        assertEquals(CircuitState.OPEN, breaker.state());
+
+        assertFalse(breaker.tryAcquire(1500 * MS));
+        assertTrue(breaker.tryAcquire(2001 * MS));
+        assertTrue(breaker.tryAcquire(2001 * MS));
+        assertFalse(breaker.onResult(false, MS, 2002 * MS));
+        assertFalse(breaker.onResult(false, MS, 2002 * MS));
+        assertEquals(CircuitState.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire(2003 * MS));
+    }
+
+    @Test
+    void policy_rejectsInvalidThresholds() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new CircuitBreakerPolicy(4, 5, 0.5, Duration.ofMillis(1), 1.0, Duration.ofMillis(1), 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CircuitBreakerPolicy(4, 4, 0, Duration.ofMillis(1), 1.0, Duration.ofMillis(1), 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new CircuitBreakerPolicy(4, 4, 0.5, Duration.ofMillis(1), 1.0, Duration.ZERO, 1));
+    }
+}
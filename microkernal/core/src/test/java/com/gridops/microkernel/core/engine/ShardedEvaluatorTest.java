@@ -0,0 +1,131 @@
+package com.gridops.microkernel.core.engine;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedEvaluatorTest {
+
+    /** Records, per node, the sequence numbers it saw and the threads that evaluated them. */
+    private static final class RecordingPlugin implements RulePlugin {
+        final Map<String, List<Long>> sequences = new ConcurrentHashMap<>();
+        final Map<String, String> threads = new ConcurrentHashMap<>();
+        volatile boolean sharedThread;
+
+        @Override public String id() { return "recording"; }
+        @Override public String name() { return "Recording"; }
+
+        @Override
+        public List<Alert> evaluate(GridOpsEvent event) {
+            String node = String.valueOf(event.getPayload().get("nodeId"));
+            // Unsynchronized per-node list: safe only because one shard owns each node
+            sequences.computeIfAbsent(node, k -> new ArrayList<>()).add((Long) event.getPayload().get("seq"));
+            String previous = threads.putIfAbsent(node, Thread.currentThread().getName());
+            if (previous != null && !previous.equals(Thread.currentThread().getName())) sharedThread = true;
+            return List.of(new Alert(id(), "r1", "INFO", node, Instant.now()));
+        }
+    }
+
+    private static GridOpsEvent event(String nodeId, long seq) {
+        return new GridOpsEvent(nodeId + "-" + seq, "price", Instant.now(), Map.of("nodeId", nodeId, "seq", seq));
+    }
+
+    @Test
+    void eventsForOneKeyAreEvaluatedInOrderOnOneThread() {
+        AlertRuleEngine engine = new AlertRuleEngine();
+        RecordingPlugin plugin = new RecordingPlugin();
+        engine.registerPlugin(plugin);
+        List<GridOpsEvent> events = new ArrayList<>();
+        for (long seq = 0; seq < 200; seq++) {
+            for (int node = 0; node < 10; node++) events.add(event("N" + node, seq));
+        }
+        try (ShardedEvaluator shards = new ShardedEvaluator(engine, 4, 16, List.of("nodeId", "zone"))) {
+            List<AlertRuleEngine.EngineResult> results = shards.evaluateAll(events);
+            assertEquals(events.size(), results.size());
+            for (int i = 0; i < events.size(); i++) {
+                assertEquals(events.get(i).getEventId(), results.get(i).getEventId());
+            }
+            assertEquals(events.size(), Arrays.stream(shards.processedCounts()).sum());
+        }
+        assertFalse(plugin.sharedThread);
+        for (List<Long> seen : plugin.sequences.values()) {
+            assertEquals(200, seen.size());
+            for (int i = 0; i < seen.size(); i++) assertEquals(i, seen.get(i));
+        }
+    }
+
+    @Test
+    void partitionFallsBackToNextKeyThenToShardZero() {
+        try (ShardedEvaluator shards = new ShardedEvaluator(new AlertRuleEngine(), 8, 4, List.of("nodeId", "zone"))) {
+            GridOpsEvent byZone = new GridOpsEvent("e1", "x", Instant.now(), Map.of("zone", "NORTH"));
+            GridOpsEvent sameZone = new GridOpsEvent("e2", "y", Instant.now(), Map.of("zone", "NORTH", "price", 1.0));
+            assertEquals(shards.shardFor(byZone), shards.shardFor(sameZone));
+            assertEquals(0, shards.shardFor(new GridOpsEvent("e3", "x", Instant.now(), Map.of())));
+        }
+    }
+
+    @Test
+    void closeDrainsQueuedEventsAndRejectsNewOnes() {
+        AlertRuleEngine engine = new AlertRuleEngine();
+        RecordingPlugin plugin = new RecordingPlugin();
+        engine.registerPlugin(plugin);
+        ShardedEvaluator shards = new ShardedEvaluator(engine, 2, 64, List.of("nodeId"));
+        for (long seq = 0; seq < 50; seq++) shards.submit(event("N1", seq));
+        shards.close();
+        assertEquals(50, plugin.sequences.get("N1").size());
+        assertEquals(0, shards.queueDepths()[shards.shardFor(event("N1", 0))]);
+        assertThrows(IllegalStateException.class, () -> shards.submit(event("N1", 50)));
+    }
+
+    @Test
+    void submitsRacingClose_allComplete() throws Exception {
+        AlertRuleEngine engine = new AlertRuleEngine();
+        engine.registerPlugin(new RecordingPlugin());
+        for (int round = 0; round < 20; round++) {
+            ShardedEvaluator shards = new ShardedEvaluator(engine, 2, 4, List.of("nodeId"));
+            List<CompletableFuture<AlertRuleEngine.EngineResult>> futures = new CopyOnWriteArrayList<>();
+            Thread submitter = new Thread(() -> {
+                for (long seq = 0; seq < 1_000; seq++) {
+                    try {
+                        futures.add(shards.submit(event("N" + (seq % 3), seq)));
+                    } catch (IllegalStateException closed) {
+                        return;
+                    }
+                }
+            });
+            submitter.start();
+            Thread.sleep(1);
+            shards.close();
+            submitter.join();
+            for (CompletableFuture<AlertRuleEngine.EngineResult> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsParallelEngine() {
+        AlertRuleEngine parallel = new AlertRuleEngine(Executors.newVirtualThreadPerTaskExecutor(), Duration.ofMillis(100));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedEvaluator(parallel, 2, 8, List.of("nodeId")));
+    }
+}
@@ -0,0 +1,65 @@
+package com.gridops.microkernel.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryEventCodecTest {
+
+    private static final FieldKey PRICE = FieldKey.of("test.binary.price");
+
+    @Test
+    void roundTripsEventIntoTypedSlotsAndPayloadView() {
+        Instant ts = Instant.ofEpochMilli(1_700_000_000_123L);
+        GridOpsEvent original = new GridOpsEvent("e1", "price", ts,
+            Map.of("test.binary.price", 200.5, "nodeId", "N1", "count", 3, "flag", true));
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        BinaryEventCodec.encode(original, buffer);
+
+        GridOpsEvent decoded = BinaryEventCodec.decode(buffer.flip(), "default");
+        assertEquals("e1", decoded.getEventId());
+        assertEquals("price", decoded.getEventType());
+        assertEquals(ts, decoded.getTimestamp());
+        assertEquals(200.5, decoded.getDouble(PRICE));
+        assertEquals(Map.of("test.binary.price", 200.5, "nodeId", "N1", "count", 3L, "flag", true), decoded.getPayload());
+        assertEquals("N1", decoded.getPayload().get("nodeId"));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void batchAssignsDefaultIdsAndReusesFieldNames() {
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        buffer.putInt(2);
+        for (int i = 0; i < 2; i++) {
+            buffer.putShort((short) 0xFFFF);                       // no eventId
+            buffer.putShort((short) 5).put("price".getBytes());
+            buffer.putLong(Long.MIN_VALUE);                        // no timestamp
+            buffer.putShort((short) 1);
+            buffer.putShort((short) 5).put("price".getBytes()).put((byte) 1).putDouble(100 + i);
+        }
+        List<GridOpsEvent> events = BinaryEventCodec.decodeBatch(buffer.flip(), "b-", 10);
+        assertEquals(2, events.size());
+        assertEquals("b-1", events.get(1).getEventId());
+        assertEquals(101.0, events.get(1).getPayload().get("price"));
+        String first = events.get(0).getPayload().keySet().iterator().next();
+        String second = events.get(1).getPayload().keySet().iterator().next();
+        assertSame(first, second);
+    }
+
+    @Test
+    void malformedInputIsRejected() {
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[] {0, 2, 'e'});
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decode(truncated, "d"));
+        ByteBuffer tooMany = ByteBuffer.allocate(4).putInt(11).flip();
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decodeBatch(tooMany, "d", 10));
+        ByteBuffer duplicate = ByteBuffer.allocate(64);
+        duplicate.putShort((short) 0xFFFF).putShort((short) 0xFFFF).putLong(Long.MIN_VALUE).putShort((short) 2);
+        for (int i = 0; i < 2; i++) duplicate.putShort((short) 1).put((byte) 'x').put((byte) 2).putLong(i);
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decode(duplicate.flip(), "d"));
+    }
+}
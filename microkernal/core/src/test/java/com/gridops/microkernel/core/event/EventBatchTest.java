@@ -0,0 +1,48 @@
+package com.gridops.microkernel.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventBatchTest {
+
+    private static final FieldKey LEVEL = FieldKey.of("batchTestLevel");
+
+    @Test
+    void columns_holdOneValuePerRow_nanWhenMissing() {
+        EventBatch batch = new EventBatch(List.of(
+            new GridOpsEvent("e1", "t", Instant.now(), Map.of("batchTestLevel", 1.5)),
+            new GridOpsEvent("e2", "t", Instant.now(), Map.of("other", 2)),
+            new GridOpsEvent("e3", "t", Instant.now(), Map.of("batchTestLevel", 7))));
+
+        double[] column = batch.doubles(LEVEL);
+        assertEquals(1.5, column[0]);
+        assertTrue(Double.isNaN(column[1]));
+        assertEquals(7.0, column[2]);
+        assertSame(column, batch.doubles(LEVEL));
+        assertArrayEquals(new long[]{1, -1, 7}, batch.longs(LEVEL, -1));
+    }
+
+    @Test
+    void rowMask_selectsMatchingRowsAcrossWords() {
+        List<GridOpsEvent> events = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            events.add(new GridOpsEvent("e" + i, "t", Instant.now(), Map.of("batchTestLevel", i % 70)));
+        }
+        double[] column = new EventBatch(events).doubles(LEVEL);
+
+        long[] low = RowMask.below(column, 1);
+        List<Integer> rows = new ArrayList<>();
+        for (int r = RowMask.next(low, 0); r >= 0; r = RowMask.next(low, r + 1)) rows.add(r);
+        assertEquals(List.of(0, 70, 140), rows);
+        assertEquals(2 * 6, RowMask.count(RowMask.atLeast(column, 64)));
+        assertEquals(-1, RowMask.next(low, 200));
+        assertEquals(0, RowMask.count(RowMask.below(new double[]{Double.NaN}, 10)));
+        assertEquals(1, RowMask.next(RowMask.missing(new double[]{1, Double.NaN}), 0));
+    }
+}
@@ -0,0 +1,54 @@
+package com.gridops.microkernel.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridOpsEventTest {
+
+    private static final FieldKey PRICE = FieldKey.of("test.price");
+    private static final FieldKey COUNT = FieldKey.of("test.count");
+
+    @Test
+    void typedAccessors_readDeclaredNumericFields() {
+        GridOpsEvent event = new GridOpsEvent("e1", "price", Instant.now(), Map.of("test.price", 200, "test.count", 3.9));
+        assertTrue(event.hasNumber(PRICE));
+        assertEquals(200.0, event.getDouble(PRICE));
+        assertEquals(200L, event.getLong(PRICE, -1));
+        assertEquals(3.9, event.getDouble(COUNT));
+        assertEquals(3L, event.getLong(COUNT, -1));
+    }
+
+    @Test
+    void typedAccessors_absentOrNonNumeric_returnDefaults() {
+        GridOpsEvent event = new GridOpsEvent("e1", "price", Instant.now(), Map.of("test.price", "high"));
+        assertFalse(event.hasNumber(PRICE));
+        assertTrue(Double.isNaN(event.getDouble(PRICE)));
+        assertEquals(-1L, event.getLong(COUNT, -1));
+    }
+
+    @Test
+    void typedAccessors_keyDeclaredAfterConstruction_fallBackToMap() {
+        GridOpsEvent event = new GridOpsEvent("e1", "x", Instant.now(), Map.of("test.late", 42L));
+        FieldKey late = FieldKey.of("test.late");
+        assertTrue(event.hasNumber(late));
+        assertEquals(42.0, event.getDouble(late));
+        assertEquals(42L, event.getLong(late, -1));
+    }
+
+    @Test
+    void mapView_isUnchanged() {
+        GridOpsEvent event = new GridOpsEvent("e1", "price", Instant.now(), Map.of("test.price", 200));
+        assertEquals(200, event.getPayload().get("test.price"));
+        assertEquals(200.0, event.getPayloadValue("test.price", Double.class));
+    }
+
+    @Test
+    void fieldKey_isInterned() {
+        assertSame(PRICE, FieldKey.of("test.price"));
+        assertNotEquals(PRICE.index(), COUNT.index());
+    }
+}
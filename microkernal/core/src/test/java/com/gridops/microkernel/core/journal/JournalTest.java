@@ -0,0 +1,169 @@
+package com.gridops.microkernel.core.journal;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static GridOpsEvent event(int i) {
+        return new GridOpsEvent("e" + i, "price", Instant.ofEpochSecond(1_700_000_000L + i, 123),
+            Map.of("nodeId", "N" + (i % 3), "price", 100.5 + i, "count", i, "flag", true));
+    }
+
+    private static AlertRuleEngine.EngineResult result(int i) {
+        if (i % 2 == 0) return new AlertRuleEngine.EngineResult("e" + i, List.of(), List.of());
+        Alert alert = new Alert("price-spike", "price-spike-rule", "HIGH", "Price spike é " + i,
+            Instant.ofEpochSecond(1_700_000_000L + i)).withSuppressedCount(2);
+        return new AlertRuleEngine.EngineResult("e" + i, List.of(alert), List.of("price-spike"));
+    }
+
+    private List<JournalEntry> readAll() {
+        List<JournalEntry> entries = new ArrayList<>();
+        try (JournalReader reader = new JournalReader(dir)) {
+            reader.poll(entries::add, Integer.MAX_VALUE);
+        }
+        return entries;
+    }
+
+    @Test
+    void roundTripsEventsAndResultsAcrossSegments() throws IOException {
+        try (JournalWriter writer = new JournalWriter(dir, 4096, Duration.ofMillis(5))) {
+            for (int i = 0; i < 200; i++) assertEquals(i + 1, writer.append(event(i), result(i)));
+        }
+        assertTrue(JournalSegments.list(dir).size() > 1, "small segments rotate");
+
+        List<JournalEntry> entries = readAll();
+        assertEquals(200, entries.size());
+        JournalEntry e7 = entries.get(7);
+        assertEquals(8, e7.getSequence());
+        assertEquals("e7", e7.getEvent().getEventId());
+        assertEquals(Instant.ofEpochSecond(1_700_000_007L, 123), e7.getEvent().getTimestamp());
+        assertEquals(107.5, e7.getEvent().getPayload().get("price"));
+        assertEquals(7L, e7.getEvent().getPayload().get("count"));
+        assertEquals(true, e7.getEvent().getPayload().get("flag"));
+        Alert alert = e7.getResult().getAlerts().get(0);
+        assertEquals("Price spike é 7", alert.getMessage());
+        assertEquals(2, alert.getSuppressedCount());
+        assertEquals(List.of("price-spike"), e7.getResult().getPluginsFired());
+
+        try (JournalReader reader = new JournalReader(dir, 150)) {
+            List<JournalEntry> tail = new ArrayList<>();
+            reader.poll(tail::add, Integer.MAX_VALUE);
+            assertEquals(51, tail.size());
+            assertEquals(150, tail.get(0).getSequence());
+        }
+    }
+
+    @Test
+    void reopenedWriterContinuesSequence() throws IOException {
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16, Duration.ZERO)) {
+            writer.append(event(1), result(1));
+            writer.append(event(2), result(2));
+        }
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16, Duration.ZERO)) {
+            assertEquals(2, writer.lastSequence());
+            assertEquals(3, writer.append(event(3), result(3)));
+        }
+        assertEquals(List.of(1L, 2L, 3L), readAll().stream().map(JournalEntry::getSequence).toList());
+    }
+
+    @Test
+    void readerTailsLiveWriter() throws IOException {
+        try (JournalWriter writer = new JournalWriter(dir, 2048, Duration.ofMillis(5));
+             JournalReader reader = new JournalReader(dir)) {
+            List<JournalEntry> seen = new ArrayList<>();
+            assertEquals(0, reader.poll(seen::add, 100));
+            for (int round = 0; round < 5; round++) {
+                for (int i = 0; i < 20; i++) writer.append(event(i), result(i));
+                assertEquals(20, reader.poll(seen::add, 100));
+            }
+            assertEquals(100, seen.get(seen.size() - 1).getSequence());
+        }
+    }
+
+    @Test
+    void tornRecordEndsTheJournal() throws IOException {
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16, Duration.ZERO)) {
+            for (int i = 0; i < 3; i++) writer.append(event(i), result(i));
+        }
+        Path segment = JournalSegments.list(dir).get(0);
+        List<JournalEntry> before = readAll();
+        // Flip a byte inside the last record's body
+        int lastBody = JournalCodec.SEGMENT_HEADER;
+        for (int i = 0; i < 2; i++) {
+            try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.READ)) {
+                ByteBuffer len = ByteBuffer.allocate(4);
+                ch.read(len, lastBody);
+                lastBody += JournalCodec.RECORD_HEADER + len.flip().getInt();
+            }
+        }
+        try (FileChannel ch = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), lastBody + JournalCodec.RECORD_HEADER + 2);
+        }
+        assertEquals(3, before.size());
+        assertEquals(2, readAll().size());
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16, Duration.ZERO)) {
+            assertEquals(3, writer.append(event(9), result(9)));
+        }
+    }
+
+    @Test
+    void failedForce_isRetriedByNextFlush() throws IOException {
+        try (JournalWriter writer = new JournalWriter(dir, 1 << 16, Duration.ofHours(1))) {
+            List<int[]> ranges = new ArrayList<>();
+            writer.forcer = (segment, from, length) -> {
+                ranges.add(new int[]{from, length});
+                if (ranges.size() == 1) throw new UncheckedIOException(new IOException("disk full"));
+                segment.force(from, length);
+            };
+            writer.append(event(1), result(1));
+            assertThrows(UncheckedIOException.class, writer::flush);
+            writer.flush();
+
+            assertEquals(2, ranges.size());
+            assertArrayEquals(ranges.get(0), ranges.get(1), "same range forced again");
+            writer.flush();
+            assertEquals(2, ranges.size(), "nothing left to force");
+        }
+    }
+
+    @Test
+    void rotation_leavesForcingTheFullSegmentToTheFlusher() throws IOException {
+        try (JournalWriter writer = new JournalWriter(dir, 512, Duration.ofHours(1))) {
+            List<String> forcingThreads = new CopyOnWriteArrayList<>();
+            writer.forcer = (segment, from, length) -> {
+                forcingThreads.add(Thread.currentThread().getName());
+                segment.force(from, length);
+            };
+            for (int i = 1; i <= 10; i++) writer.append(event(i), result(i));
+            assertTrue(JournalSegments.list(dir).size() > 1, "rotated");
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (forcingThreads.isEmpty() && System.currentTimeMillis() < deadline) Thread.onSpinWait();
+            assertFalse(forcingThreads.isEmpty(), "flusher forced the retired segment");
+            assertFalse(forcingThreads.contains(Thread.currentThread().getName()), "appends never force");
+        }
+        assertEquals(10, readAll().size());
+    }
+}
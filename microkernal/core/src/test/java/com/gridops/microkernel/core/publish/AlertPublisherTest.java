@@ -0,0 +1,161 @@
+package com.gridops.microkernel.core.publish;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlertPublisherTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void stalledDestination_doesNotBlockEvaluation_orOtherDestinations() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AlertDestination stalled = new AlertDestination() {
+            @Override public String name() { return "stalled"; }
+            @Override public void publish(List<AlertEnvelope> batch) throws InterruptedException { release.await(); }
+        };
+        InMemoryDestination memory = new InMemoryDestination(100);
+        List<AlertEnvelope> received = new CopyOnWriteArrayList<>();
+        memory.subscribe(received::addAll);
+
+        try (AlertPublisher publisher = new AlertPublisher(List.of(stalled, memory), 64, 1, 0, Duration.ZERO)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 100; i++) publish(publisher, "e" + i);
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+            AlertPublisher.DestinationStats stalledStats = publisher.stats().get(0);
+            assertTrue(stalledStats.getDropped() >= 35, "full ring drops instead of blocking");
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (publisher.stats().get(1).getQueued() > 0 && System.currentTimeMillis() < deadline) Thread.onSpinWait();
+            AlertPublisher.DestinationStats memoryStats = publisher.stats().get(1);
+            awaitPublished(publisher, 1, 100 - memoryStats.getDropped());
+            assertEquals(100 - memoryStats.getDropped(), received.size());
+            assertEquals("e0", received.get(0).getEventId());
+            assertEquals(received.get(received.size() - 1).getEventId(), memory.recent(1).get(0).getEventId());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void failedBatch_isRetried_thenCountedAsFailed() {
+        AtomicInteger calls = new AtomicInteger();
+        AlertDestination flaky = new AlertDestination() {
+            @Override public String name() { return "flaky"; }
+            @Override public void publish(List<AlertEnvelope> batch) throws Exception {
+                int call = calls.incrementAndGet();
+                if (call == 1 || call >= 3) throw new Exception("down " + call);
+            }
+        };
+        try (AlertPublisher publisher = new AlertPublisher(List.of(flaky), 16, 16, 1, Duration.ofMillis(1))) {
+            publish(publisher, "e1");
+            awaitPublished(publisher, 0, 1);
+            publish(publisher, "e2");
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (publisher.stats().get(0).getFailed() == 0 && System.currentTimeMillis() < deadline) Thread.onSpinWait();
+
+            AlertPublisher.DestinationStats stats = publisher.stats().get(0);
+            assertEquals(1, stats.getPublished());
+            assertEquals(1, stats.getFailed());
+            assertEquals(2, stats.getRetries());
+            assertEquals("java.lang.Exception: down 4", stats.getLastError());
+        }
+    }
+
+    @Test
+    void alertsAfterClose_areCountedAsDropped() {
+        InMemoryDestination memory = new InMemoryDestination(10);
+        AlertPublisher publisher = new AlertPublisher(List.of(memory), 16, 16, 0, Duration.ZERO);
+        publish(publisher, "e1");
+        publisher.close();
+        publish(publisher, "e2");
+
+        AlertPublisher.DestinationStats stats = publisher.stats().get(0);
+        assertEquals(1, stats.getPublished());
+        assertEquals(1, stats.getDropped());
+        assertEquals(0, stats.getQueued());
+        assertEquals("e1", memory.recent(1).get(0).getEventId());
+    }
+
+    @Test
+    void rollingFile_writesJsonLines_andRolls() throws Exception {
+        Path file = dir.resolve("alerts").resolve("alerts.ndjson");
+        RollingFileDestination destination = new RollingFileDestination(file, 400, 2);
+        for (int i = 0; i < 6; i++) {
+            destination.publish(List.of(envelope("e" + i, "line \"" + i + "\"")));
+        }
+        destination.close();
+
+        assertTrue(Files.exists(file.resolveSibling("alerts.ndjson.1")));
+        assertTrue(Files.exists(file.resolveSibling("alerts.ndjson.2")));
+        assertFalse(Files.exists(file.resolveSibling("alerts.ndjson.3")));
+        List<String> lines = Files.readAllLines(file.resolveSibling("alerts.ndjson.1"));
+        assertTrue(lines.get(0).startsWith("{\"eventId\":\"e"), lines.get(0));
+        assertTrue(lines.get(0).contains("\"message\":\"line \\\""), lines.get(0));
+    }
+
+    @Test
+    void webhook_postsBatchAsJsonArray_andFailsOnErrorStatus() throws Exception {
+        List<String> bodies = new CopyOnWriteArrayList<>();
+        AtomicInteger status = new AtomicInteger(204);
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/alerts", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/alerts");
+            WebhookDestination webhook = new WebhookDestination(uri, Duration.ofSeconds(5));
+            webhook.publish(List.of(envelope("e1", "a"), envelope("e2", "b")));
+            assertEquals(1, bodies.size());
+            assertTrue(bodies.get(0).startsWith("[{\"eventId\":\"e1\""), bodies.get(0));
+            assertTrue(bodies.get(0).contains("},{\"eventId\":\"e2\""), bodies.get(0));
+
+            status.set(503);
+            assertThrows(java.io.IOException.class, () -> webhook.publish(List.of(envelope("e3", "c"))));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static void publish(AlertPublisher publisher, String eventId) {
+        GridOpsEvent event = new GridOpsEvent(eventId, "price", Instant.now(), Map.of("zone", "NORTH"));
+        Alert alert = new Alert("price-spike", "price-spike-rule", "HIGH", "spike", Instant.now());
+        publisher.onEvaluated(event, new AlertRuleEngine.EngineResult(eventId, List.of(alert), List.of("price-spike")));
+    }
+
+    private static AlertEnvelope envelope(String eventId, String message) {
+        return new AlertEnvelope(eventId, "price", Instant.parse("2024-01-01T00:00:00Z"),
+            new Alert("price-spike", "price-spike-rule", "HIGH", message, Instant.parse("2024-01-01T00:00:01Z")));
+    }
+
+    private static void awaitPublished(AlertPublisher publisher, int destination, long count) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (publisher.stats().get(destination).getPublished() < count) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out waiting for publish");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.gridops.microkernel.core.state;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+    @Test
+    void doubleBuffer_matchesNaiveWindow() {
+        Random random = new Random(7);
+        for (int capacity : new int[] {1, 2, 5, 16}) {
+            DoubleRingBuffer buffer = new DoubleRingBuffer(capacity);
+            Deque<Double> naive = new ArrayDeque<>();
+            for (int i = 0; i < 500; i++) {
+                double v = random.nextInt(1000) / 10.0 - 50;
+                buffer.add(v);
+                naive.addLast(v);
+                if (naive.size() > capacity) naive.removeFirst();
+
+                assertEquals(naive.size(), buffer.size());
+                assertEquals(naive.stream().mapToDouble(d -> d).sum(), buffer.sum(), 1e-9);
+                assertEquals(naive.stream().mapToDouble(d -> d).average().orElseThrow(), buffer.mean(), 1e-9);
+                assertEquals(naive.stream().mapToDouble(d -> d).min().orElseThrow(), buffer.min());
+                assertEquals(naive.stream().mapToDouble(d -> d).max().orElseThrow(), buffer.max());
+                assertEquals(naive.peekFirst(), buffer.first());
+                assertEquals(naive.peekLast(), buffer.last());
+                assertEquals(naive.peekFirst(), buffer.get(0));
+            }
+        }
+    }
+
+    @Test
+    void longBuffer_matchesNaiveWindow() {
+        Random random = new Random(11);
+        LongRingBuffer buffer = new LongRingBuffer(4);
+        Deque<Long> naive = new ArrayDeque<>();
+        for (int i = 0; i < 300; i++) {
+            long v = random.nextInt(200) - 100;
+            buffer.add(v);
+            naive.addLast(v);
+            if (naive.size() > 4) naive.removeFirst();
+            assertEquals(naive.stream().mapToLong(l -> l).sum(), buffer.sum());
+            assertEquals(naive.stream().mapToLong(l -> l).min().orElseThrow(), buffer.min());
+            assertEquals(naive.stream().mapToLong(l -> l).max().orElseThrow(), buffer.max());
+            assertEquals(naive.peekLast(), buffer.last());
+        }
+    }
+
+    @Test
+    void emptyAndClearedBuffers() {
+        DoubleRingBuffer doubles = new DoubleRingBuffer(3);
+        assertTrue(Double.isNaN(doubles.mean()));
+        assertTrue(Double.isNaN(doubles.min()));
+        doubles.add(1);
+        doubles.add(2);
+        assertFalse(doubles.isFull());
+        doubles.clear();
+        assertTrue(doubles.isEmpty());
+        assertTrue(Double.isNaN(doubles.max()));
+        assertThrows(IllegalArgumentException.class, () -> doubles.add(Double.NaN));
+        assertThrows(IndexOutOfBoundsException.class, () -> doubles.get(0));
+
+        LongRingBuffer longs = new LongRingBuffer(2);
+        assertThrows(NoSuchElementException.class, longs::min);
+        assertThrows(IllegalArgumentException.class, () -> new LongRingBuffer(0));
+    }
+
+    @Test
+    void stateStore_returnsSameWindowsPerNameAndRejectsConflicts() {
+        PluginStateStore store = new PluginStateStore();
+        KeyedWindows<DoubleRingBuffer> prices = store.doubleWindows("price", 15);
+        assertSame(prices, store.doubleWindows("price", 15));
+        assertSame(prices.get("n1"), prices.get("n1"));
+        assertNotSame(prices.get("n1"), prices.get("n2"));
+        assertEquals(2, prices.size());
+        assertThrows(IllegalArgumentException.class, () -> store.doubleWindows("price", 10));
+        assertThrows(IllegalArgumentException.class, () -> store.longWindows("price", 15));
+        assertEquals(Set.of("price"), store.names());
+    }
+}
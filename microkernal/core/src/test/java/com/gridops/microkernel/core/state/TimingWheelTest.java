@@ -0,0 +1,80 @@
+package com.gridops.microkernel.core.state;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    void timersFireAtDeadline_acrossAllLevels_inDeadlineOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 1_000);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            // up to ~11 days at 10 ms ticks: spans every level and beyond the ~1.9 day wheel
+            long deadline = 1_000 + (long) Math.pow(10, random.nextDouble() * 9);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        List<TimingWheel.Timer<Long>> cancelled = new ArrayList<>();
+        for (int i = 0; i < 100; i++) cancelled.add(wheel.schedule(1_000 + 50L * i, -1L));
+        cancelled.forEach(t -> assertTrue(t.cancel()));
+        assertFalse(cancelled.get(0).cancel());
+        assertEquals(5_000, wheel.size());
+
+        List<Long> fired = new ArrayList<>();
+        long now = 1_000;
+        while (wheel.size() > 0) {
+            now += 1 + random.nextInt(5_000_000);
+            long time = now;
+            wheel.advanceTo(time, deadline -> {
+                assertTrue(deadline <= time, "fired early");
+                assertTrue(deadline > time - 5_000_000 - 10, "fired late");
+                fired.add(deadline);
+            });
+        }
+        deadlines.sort(null);
+        assertEquals(deadlines.size(), fired.size());
+        for (int i = 1; i < fired.size(); i++) {
+            assertTrue(fired.get(i - 1) / 10 <= (fired.get(i) + 9) / 10, "out of order at " + i);
+        }
+    }
+
+    @Test
+    void timerFiresOnFirstAdvanceReachingItsTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 0);
+        TimingWheel.Timer<String> timer = wheel.schedule(250, "a");
+        assertEquals(300, timer.deadlineMillis());
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(299, fired::add);
+        assertTrue(fired.isEmpty());
+        assertTrue(timer.isPending());
+        wheel.advanceTo(300, fired::add);
+        assertEquals(List.of("a"), fired);
+        assertFalse(timer.isPending());
+        assertFalse(timer.cancel());
+    }
+
+    @Test
+    void sustainedConditions_confirmOnlyUncancelledEntities() {
+        SustainedConditions conditions = new SustainedConditions(java.time.Duration.ofSeconds(60));
+        assertTrue(conditions.observe("a", true, 0).isEmpty());
+        assertTrue(conditions.observe("b", true, 1_000).isEmpty());
+        assertTrue(conditions.observe("b", false, 30_000).isEmpty());
+        assertTrue(conditions.observe("a", true, 45_000).isEmpty());
+        assertEquals(1, conditions.pending());
+
+        List<SustainedConditions.Confirmation> confirmed = conditions.observe("c", false, 61_000);
+        assertEquals(1, confirmed.size());
+        assertEquals("a", confirmed.get(0).getKey());
+        assertEquals(0, confirmed.get(0).getSinceMillis());
+        assertTrue(conditions.observe("a", true, 200_000).isEmpty());
+        assertEquals(1, conditions.size());
+        assertEquals(0, conditions.pending());
+    }
+}
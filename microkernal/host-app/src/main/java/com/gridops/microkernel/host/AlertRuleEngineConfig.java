@@ -1,16 +1,58 @@
 package com.gridops.microkernel.host;
 
+import com.gridops.microkernel.core.checkpoint.CheckpointStore;
+import com.gridops.microkernel.core.checkpoint.PluginCheckpointer;
 import com.gridops.microkernel.core.contract.RulePlugin;
-import com.gridops.microkernel.core.discovery.PluginDiscovery;
+import com.gridops.microkernel.core.engine.AlertDeduplicator;
 import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.CircuitBreakerPolicy;
+import com.gridops.microkernel.core.engine.IncidentCorrelator;
+import com.gridops.microkernel.core.engine.ShardedEvaluator;
+import com.gridops.microkernel.core.journal.JournalWriter;
+import com.gridops.microkernel.core.publish.AlertDestination;
+import com.gridops.microkernel.core.publish.AlertPublisher;
+import com.gridops.microkernel.core.publish.InMemoryDestination;
+import com.gridops.microkernel.core.publish.RollingFileDestination;
+import com.gridops.microkernel.core.publish.WebhookDestination;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Configures the Alert Rule Engine and discovers plugins.
  * Uses ServiceLoader by default; all plugin JARs on classpath are picked up via META-INF/services.
+ * Discovery runs once, in {@link PluginRegistry}; the engine starts with one instance of each plugin type.
+ *
+ * Set {@code gridops.engine.parallel.enabled=true} to fan each event out to plugins on
+ * virtual threads ({@code executor=virtual}) or a bounded ForkJoinPool ({@code executor=fork-join}).
+ * Plugins that keep failing or running slow are quarantined by a per-plugin circuit breaker
+ * unless {@code gridops.engine.circuit-breaker.enabled=false}. With
+ * {@code gridops.engine.dedup.enabled=true}, repeated alerts are collapsed (see {@link AlertDeduplicator}).
+ * {@code gridops.engine.shards.count > 0} evaluates events on partitioned single-writer shards
+ * (see {@link ShardedEvaluator}); this requires the sequential engine. POST /api/ingest
+ * evaluates asynchronously behind a bounded {@link IngestionQueue} ({@code gridops.ingest.*}).
+ * {@code gridops.journal.enabled=true} records every evaluated event and result in a {@link JournalWriter}.
+ * {@code gridops.uds.enabled=true} adds a {@link UnixSocketServer} for co-located producers.
+ * {@code gridops.incidents.enabled=true} groups alerts into incidents with an {@link IncidentCorrelator}.
+ * {@code gridops.publish.enabled=true} forwards alerts to file, webhook and in-memory destinations
+ * through an {@link AlertPublisher}, off the evaluating thread.
+ * {@code gridops.checkpoint.enabled=true} restores plugin state from {@link CheckpointStore} files at
+ * startup and checkpoints it periodically and on shutdown ({@link PluginCheckpointer}).
  */
 @Configuration
 public class AlertRuleEngineConfig {
@@ -20,11 +62,215 @@ public class AlertRuleEngineConfig {
         return new PluginRegistry();
     }
 
+    /** Executor for parallel plugin fan-out; only created when {@code gridops.engine.parallel.enabled=true}. */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(name = "gridops.engine.parallel.enabled", havingValue = "true")
+    public ExecutorService pluginExecutor(
+            @Value("${gridops.engine.parallel.executor:virtual}") String executorType,
+            @Value("${gridops.engine.parallel.parallelism:0}") int parallelism) {
+        if ("fork-join".equalsIgnoreCase(executorType)) {
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            return new ForkJoinPool(threads);
+        }
+        if (!"virtual".equalsIgnoreCase(executorType)) {
+            throw new IllegalArgumentException(
+                "Unknown gridops.engine.parallel.executor: '" + executorType + "'. Valid values: virtual, fork-join");
+        }
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @Bean
+    public PluginMetrics pluginMetrics(MeterRegistry meterRegistry) {
+        return new PluginMetrics(meterRegistry);
+    }
+
+    /** Plugin quarantine thresholds ({@code gridops.engine.circuit-breaker.*}). */
     @Bean
-    public AlertRuleEngine alertRuleEngine() {
-        AlertRuleEngine engine = new AlertRuleEngine();
-        List<RulePlugin> plugins = PluginDiscovery.discoverFromServiceLoader();
-        plugins.forEach(engine::registerPlugin);
+    public CircuitBreakerPolicy circuitBreakerPolicy(
+            @Value("${gridops.engine.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${gridops.engine.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${gridops.engine.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${gridops.engine.circuit-breaker.slow-call-ms:250}") long slowCallMs,
+            @Value("${gridops.engine.circuit-breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+            @Value("${gridops.engine.circuit-breaker.open-duration-ms:30000}") long openDurationMs,
+            @Value("${gridops.engine.circuit-breaker.half-open-probes:3}") int halfOpenProbes) {
+        return new CircuitBreakerPolicy(windowSize, minimumCalls, failureRateThreshold,
+            Duration.ofMillis(slowCallMs), slowCallRateThreshold, Duration.ofMillis(openDurationMs), halfOpenProbes);
+    }
+
+    /** Plugin state checkpoints ({@code gridops.checkpoint.*}); installed on the engine before plugins load. */
+    @Bean
+    @ConditionalOnProperty(name = "gridops.checkpoint.enabled", havingValue = "true")
+    public CheckpointStore checkpointStore(
+            @Value("${gridops.checkpoint.dir:checkpoints}") String directory,
+            @Value("${gridops.checkpoint.max-age-ms:3600000}") long maxAgeMs) {
+        return new CheckpointStore(Path.of(directory), Duration.ofMillis(maxAgeMs));
+    }
+
+    @Bean
+    public AlertRuleEngine alertRuleEngine(
+            PluginRegistry pluginRegistry,
+            ObjectProvider<CheckpointStore> checkpointStore,
+            ObjectProvider<ExecutorService> pluginExecutor,
+            PluginMetrics pluginMetrics,
+            @Value("${gridops.engine.parallel.enabled:false}") boolean parallel,
+            @Value("${gridops.engine.parallel.plugin-timeout-ms:250}") long pluginTimeoutMs,
+            CircuitBreakerPolicy circuitBreakerPolicy,
+            @Value("${gridops.engine.circuit-breaker.enabled:true}") boolean circuitBreakerEnabled,
+            @Value("${gridops.engine.dedup.enabled:false}") boolean dedupEnabled,
+            @Value("${gridops.engine.dedup.window-ms:60000}") long dedupWindowMs,
+            @Value("${gridops.engine.dedup.max-entries:10000}") int dedupMaxEntries,
+            @Value("${gridops.engine.dedup.entity-keys:nodeId,zone}") List<String> dedupEntityKeys) {
+        AlertRuleEngine engine = parallel
+            ? new AlertRuleEngine(pluginExecutor.getObject(), Duration.ofMillis(pluginTimeoutMs))
+            : new AlertRuleEngine();
+        engine.setInstrumentation(pluginMetrics);
+        if (circuitBreakerEnabled) engine.setCircuitBreakerPolicy(circuitBreakerPolicy);
+        if (dedupEnabled) {
+            engine.setDeduplicator(new AlertDeduplicator(Duration.ofMillis(dedupWindowMs), dedupMaxEntries, dedupEntityKeys));
+        }
+        engine.setCheckpointStore(checkpointStore.getIfAvailable());
+        // Plugins load and restore their checkpoints in parallel before the engine takes events
+        List<RulePlugin> plugins = new ArrayList<>();
+        for (String pluginId : pluginRegistry.getValidPluginIds()) {
+            plugins.add(pluginRegistry.createPlugin(pluginId));
+        }
+        engine.registerPlugins(plugins);
         return engine;
     }
+
+    /** Partitioned single-writer shards; only created when {@code gridops.engine.shards.count > 0}. */
+    @Bean
+    @ConditionalOnExpression("${gridops.engine.shards.count:0} > 0")
+    public ShardedEvaluator shardedEvaluator(
+            AlertRuleEngine alertRuleEngine,
+            @Value("${gridops.engine.shards.count}") int shardCount,
+            @Value("${gridops.engine.shards.queue-capacity:1024}") int queueCapacity,
+            @Value("${gridops.engine.shards.partition-keys:nodeId,zone}") List<String> partitionKeys) {
+        return new ShardedEvaluator(alertRuleEngine, shardCount, queueCapacity, partitionKeys);
+    }
+
+    /**
+     * Queue behind POST /api/ingest. With sharding enabled a single worker hands events to the
+     * shards (keeping per-key order) and each event is counted when its shard evaluated it;
+     * otherwise {@code workers} threads evaluate directly.
+     */
+    @Bean
+    public IngestionQueue ingestionQueue(
+            AlertRuleEngine alertRuleEngine,
+            ObjectProvider<ShardedEvaluator> shardedEvaluator,
+            MeterRegistry meterRegistry,
+            @Value("${gridops.ingest.capacity:10000}") int capacity,
+            @Value("${gridops.ingest.policy:block}") String policy,
+            @Value("${gridops.ingest.block-timeout-ms:50}") long blockTimeoutMs,
+            @Value("${gridops.ingest.shed-order:}") List<String> shedOrder,
+            @Value("${gridops.ingest.workers:0}") int workers) {
+        ShardedEvaluator shards = shardedEvaluator.getIfAvailable();
+        IngestionQueue queue = shards != null
+            ? IngestionQueue.async(capacity, IngestionQueue.Policy.parse(policy), Duration.ofMillis(blockTimeoutMs),
+                shedOrder, 1, shards::submit)
+            : new IngestionQueue(capacity, IngestionQueue.Policy.parse(policy), Duration.ofMillis(blockTimeoutMs),
+                shedOrder, workers > 0 ? workers : Runtime.getRuntime().availableProcessors(), alertRuleEngine::evaluate);
+        meterRegistry.gauge("gridops.ingest.depth", queue, IngestionQueue::depth);
+        return queue;
+    }
+
+    /**
+     * Append-only journal of evaluated events and results, installed as an engine listener. Closed by
+     * {@link #journalShutdown} once it is detached, so no evaluation appends to a closed journal.
+     */
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "gridops.journal.enabled", havingValue = "true")
+    public JournalWriter journalWriter(
+            AlertRuleEngine alertRuleEngine,
+            @Value("${gridops.journal.dir:journal}") String directory,
+            @Value("${gridops.journal.segment-size-mb:64}") long segmentSizeMb,
+            @Value("${gridops.journal.flush-interval-ms:10}") long flushIntervalMs) throws IOException {
+        JournalWriter journal = new JournalWriter(Path.of(directory), segmentSizeMb << 20, Duration.ofMillis(flushIntervalMs));
+        alertRuleEngine.addEvaluationListener(journal);
+        return journal;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "gridops.journal.enabled", havingValue = "true")
+    public DisposableBean journalShutdown(AlertRuleEngine alertRuleEngine, JournalWriter journalWriter) {
+        return () -> {
+            alertRuleEngine.removeEvaluationListener(journalWriter);
+            journalWriter.close();
+        };
+    }
+
+    /** Groups alerts into incidents per entity ({@code gridops.incidents.*}), installed as an engine listener. */
+    @Bean
+    @ConditionalOnProperty(name = "gridops.incidents.enabled", havingValue = "true")
+    public IncidentCorrelator incidentCorrelator(
+            AlertRuleEngine alertRuleEngine,
+            @Value("${gridops.incidents.window-ms:300000}") long windowMs,
+            @Value("${gridops.incidents.max-open:10000}") int maxOpen,
+            @Value("${gridops.incidents.history:1000}") int history,
+            @Value("${gridops.incidents.entity-keys:nodeId,zone}") List<String> entityKeys) {
+        IncidentCorrelator correlator = new IncidentCorrelator(Duration.ofMillis(windowMs), maxOpen, history, entityKeys);
+        alertRuleEngine.addEvaluationListener(correlator);
+        return correlator;
+    }
+
+    /** In-process subscriber destination behind GET /api/publish/recent. */
+    @Bean
+    @ConditionalOnExpression("${gridops.publish.enabled:false} and ${gridops.publish.memory.enabled:true}")
+    public InMemoryDestination inMemoryDestination(@Value("${gridops.publish.memory.retain:1000}") int retain) {
+        return new InMemoryDestination(retain);
+    }
+
+    /** Asynchronous alert publishing ({@code gridops.publish.*}), installed as an engine listener. */
+    @Bean
+    @ConditionalOnProperty(name = "gridops.publish.enabled", havingValue = "true")
+    public AlertPublisher alertPublisher(
+            AlertRuleEngine alertRuleEngine,
+            ObjectProvider<InMemoryDestination> inMemoryDestination,
+            @Value("${gridops.publish.capacity:8192}") int capacity,
+            @Value("${gridops.publish.batch-size:256}") int batchSize,
+            @Value("${gridops.publish.max-retries:3}") int maxRetries,
+            @Value("${gridops.publish.retry-backoff-ms:100}") long retryBackoffMs,
+            @Value("${gridops.publish.file.enabled:true}") boolean fileEnabled,
+            @Value("${gridops.publish.file.path:alerts/alerts.ndjson}") String filePath,
+            @Value("${gridops.publish.file.max-size-mb:64}") long fileMaxSizeMb,
+            @Value("${gridops.publish.file.max-files:5}") int fileMaxFiles,
+            @Value("${gridops.publish.webhook.url:}") String webhookUrl,
+            @Value("${gridops.publish.webhook.timeout-ms:2000}") long webhookTimeoutMs) {
+        List<AlertDestination> destinations = new ArrayList<>();
+        if (fileEnabled) destinations.add(new RollingFileDestination(Path.of(filePath), fileMaxSizeMb << 20, fileMaxFiles));
+        if (!webhookUrl.isBlank()) destinations.add(new WebhookDestination(URI.create(webhookUrl), Duration.ofMillis(webhookTimeoutMs)));
+        InMemoryDestination memory = inMemoryDestination.getIfAvailable();
+        if (memory != null) destinations.add(memory);
+        if (destinations.isEmpty()) {
+            throw new IllegalArgumentException("gridops.publish.enabled=true but no destination is configured (file, webhook.url or memory)");
+        }
+        AlertPublisher publisher = new AlertPublisher(destinations, capacity, batchSize, maxRetries, Duration.ofMillis(retryBackoffMs));
+        alertRuleEngine.addEvaluationListener(publisher);
+        return publisher;
+    }
+
+    /** Checkpoints plugin state every {@code interval-ms} and once more when the context closes. */
+    @Bean
+    @ConditionalOnProperty(name = "gridops.checkpoint.enabled", havingValue = "true")
+    public PluginCheckpointer pluginCheckpointer(
+            AlertRuleEngine alertRuleEngine,
+            @Value("${gridops.checkpoint.interval-ms:30000}") long intervalMs) {
+        return new PluginCheckpointer(alertRuleEngine, Duration.ofMillis(intervalMs));
+    }
+
+    /** Unix domain socket transport for local producers; shares the engine (and shards) with the REST API. */
+    @Bean
+    @ConditionalOnProperty(name = "gridops.uds.enabled", havingValue = "true")
+    public UnixSocketServer unixSocketServer(
+            AlertRuleEngine alertRuleEngine,
+            ObjectProvider<ShardedEvaluator> shardedEvaluator,
+            @Value("${gridops.uds.path:/tmp/gridops-engine.sock}") String path,
+            @Value("${gridops.uds.max-frame-bytes:1048576}") int maxFrameBytes,
+            @Value("${gridops.api.batch.max-events:10000}") int maxBatchEvents) throws IOException {
+        UnixSocketServer server = new UnixSocketServer(Path.of(path), maxFrameBytes, maxBatchEvents,
+            alertRuleEngine, shardedEvaluator.getIfAvailable());
+        server.start();
+        return server;
+    }
 }
@@ -0,0 +1,97 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.checkpoint.CheckpointStore;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.ShardedEvaluator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Engine status: the {@link ShardedEvaluator} queues and the plugin state {@link CheckpointStore}.
+ * Both report {@code enabled: false} when the feature is not configured.
+ */
+@RestController
+@RequestMapping("/api/engine")
+public class EngineController {
+
+    private final AlertRuleEngine engine;
+    private final ShardedEvaluator shards;
+
+    public EngineController(AlertRuleEngine engine, ObjectProvider<ShardedEvaluator> shards) {
+        this.engine = engine;
+        this.shards = shards.getIfAvailable();
+    }
+
+    /** Shard count, queue capacity, current queue depth and events processed per shard. */
+    @GetMapping("/shards")
+    public ResponseEntity<ShardsResponse> shardStats() {
+        if (shards == null) {
+            return ResponseEntity.ok(new ShardsResponse(false, 0, 0, new int[0], new long[0]));
+        }
+        return ResponseEntity.ok(new ShardsResponse(true, shards.shardCount(), shards.queueCapacity(),
+            shards.queueDepths(), shards.processedCounts()));
+    }
+
+    /** Plugin state checkpoints: files written, saves skipped as unchanged, restores and failures. */
+    @GetMapping("/checkpoints")
+    public ResponseEntity<CheckpointsResponse> checkpointStats() {
+        CheckpointStore store = engine.getCheckpointStore();
+        if (store == null) {
+            return ResponseEntity.ok(new CheckpointsResponse(false, null, 0, 0, 0, 0, null));
+        }
+        return ResponseEntity.ok(new CheckpointsResponse(true, store.dir().toString(), store.writtenCount(),
+            store.unchangedCount(), store.restoredCount(), store.failedCount(), store.lastError()));
+    }
+
+    public static final class ShardsResponse {
+        private final boolean enabled;
+        private final int shardCount;
+        private final int queueCapacity;
+        private final int[] queueDepths;
+        private final long[] processed;
+
+        public ShardsResponse(boolean enabled, int shardCount, int queueCapacity, int[] queueDepths, long[] processed) {
+            this.enabled = enabled;
+            this.shardCount = shardCount;
+            this.queueCapacity = queueCapacity;
+            this.queueDepths = queueDepths;
+            this.processed = processed;
+        }
+        public boolean isEnabled() { return enabled; }
+        public int getShardCount() { return shardCount; }
+        public int getQueueCapacity() { return queueCapacity; }
+        public int[] getQueueDepths() { return queueDepths; }
+        public long[] getProcessed() { return processed; }
+    }
+
+    public static final class CheckpointsResponse {
+        private final boolean enabled;
+        private final String dir;
+        private final long written;
+        private final long unchanged;
+        private final long restored;
+        private final long failed;
+        private final String lastError;
+
+        public CheckpointsResponse(boolean enabled, String dir, long written, long unchanged, long restored,
+                                   long failed, String lastError) {
+            this.enabled = enabled;
+            this.dir = dir;
+            this.written = written;
+            this.unchanged = unchanged;
+            this.restored = restored;
+            this.failed = failed;
+            this.lastError = lastError;
+        }
+        public boolean isEnabled() { return enabled; }
+        public String getDir() { return dir; }
+        public long getWritten() { return written; }
+        public long getUnchanged() { return unchanged; }
+        public long getRestored() { return restored; }
+        public long getFailed() { return failed; }
+        public String getLastError() { return lastError; }
+    }
+}
@@ -3,64 +3,183 @@ package com.gridops.microkernel.host;
 import com.gridops.microkernel.core.alert.Alert;
 import com.gridops.microkernel.core.contract.RulePlugin;
 import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.ShardedEvaluator;
+import com.gridops.microkernel.core.event.BinaryEventCodec;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
- * REST API: evaluate events, list/add/remove plugins.
+ * REST API: evaluate events (single, batch or NDJSON stream), list/add/remove plugins.
+ * When sharding is enabled ({@code gridops.engine.shards.count > 0}) events are evaluated on the
+ * {@link ShardedEvaluator} so each partition key is handled in order by one thread.
  */
 @RestController
 @RequestMapping("/api")
 public class EvaluateController {
 
+    /** Newline-delimited JSON: one event (request) or one result (response) per line. */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final AlertRuleEngine engine;
+    private final ShardedEvaluator shards;
     private final PluginRegistry pluginRegistry;
+    private final PluginMetrics pluginMetrics;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchEvents;
 
-    public EvaluateController(AlertRuleEngine engine, PluginRegistry pluginRegistry) {
+    public EvaluateController(AlertRuleEngine engine, ObjectProvider<ShardedEvaluator> shards,
+                              PluginRegistry pluginRegistry, PluginMetrics pluginMetrics, ObjectMapper objectMapper,
+                              @Value("${gridops.api.batch.max-events:10000}") int maxBatchEvents) {
         this.engine = engine;
+        this.shards = shards.getIfAvailable();
         this.pluginRegistry = pluginRegistry;
+        this.pluginMetrics = pluginMetrics;
+        this.objectMapper = objectMapper;
+        this.maxBatchEvents = maxBatchEvents;
     }
 
     @PostMapping("/evaluate")
     public ResponseEntity<EvaluateResponse> evaluate(@RequestBody EvaluateRequest request) {
-        String eventId = request.getEventId() != null ? request.getEventId() : "evt-" + System.currentTimeMillis();
-        String eventType = request.getEventType() != null ? request.getEventType() : "unknown";
-        Instant ts = parseTimestamp(request.getTimestamp());
-        Map<String, Object> payload = request.getPayload() != null ? request.getPayload() : Map.of();
+        GridOpsEvent event = toEvent(request, "evt-" + System.currentTimeMillis());
+        return ResponseEntity.ok(toResponse(evaluateOne(event)));
+    }
 
-        GridOpsEvent event = new GridOpsEvent(eventId, eventType, ts, payload);
-        AlertRuleEngine.EngineResult result = engine.evaluate(event);
+    /**
+     * Same as {@link #evaluate} for a body in the compact binary format
+     * ({@value BinaryEventCodec#CONTENT_TYPE}), decoded straight into the event without JSON parsing.
+     */
+    @PostMapping(path = "/evaluate", consumes = BinaryEventCodec.CONTENT_TYPE)
+    public ResponseEntity<?> evaluateBinary(@RequestBody byte[] body) {
+        GridOpsEvent event;
+        try {
+            event = BinaryEventCodec.decode(ByteBuffer.wrap(body), "evt-" + System.currentTimeMillis());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+        return ResponseEntity.ok(toResponse(evaluateOne(event)));
+    }
 
-        List<AlertDto> alertDtos = result.getAlerts().stream()
-            .map(a -> new AlertDto(
-                a.getPluginId(),
-                a.getRuleId(),
-                a.getSeverity(),
-                a.getMessage(),
-                a.getRaisedAt().toString()))
-            .collect(Collectors.toList());
+    /**
+     * Streaming evaluation: reads newline-delimited JSON events from a (chunked) request body and
+     * writes one {@link EvaluateResponse} line per event as soon as it is evaluated. Events are
+     * parsed and written one at a time, so memory use does not grow with the stream length.
+     * Output is flushed whenever the next read would block, i.e. per event for interactive
+     * producers and in large chunks when replaying a backlog. A malformed or {@code null} line ends
+     * the stream with a final {@code {"error": ...}} line.
+     */
+    @PostMapping(path = "/evaluate", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public void evaluateStream(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        String defaultIdPrefix = "evt-" + System.currentTimeMillis() + "-";
+        long sequence = 0;
+        try (MappingIterator<EvaluateRequest> requests = objectMapper.readerFor(EvaluateRequest.class).readValues(body)) {
+            while (requests.hasNextValue()) {
+                EvaluateRequest request = requests.nextValue();
+                if (request == null) {
+                    writer.writeValue(out, new ErrorResponse("Invalid event at line " + (sequence + 1) + ": null"));
+                    out.write('\n');
+                    break;
+                }
+                GridOpsEvent event = toEvent(request, defaultIdPrefix + sequence++);
+                writer.writeValue(out, toResponse(evaluateOne(event)));
+                out.write('\n');
+                if (body.available() == 0) out.flush();
+            }
+        } catch (JsonProcessingException e) {
+            writer.writeValue(out, new ErrorResponse("Invalid event at line " + (sequence + 1) + ": " + e.getOriginalMessage()));
+            out.write('\n');
+        }
+        out.flush();
+    }
 
-        return ResponseEntity.ok(new EvaluateResponse(
-            result.getEventId(),
-            alertDtos,
-            result.getPluginsFired()));
+    /**
+     * Evaluate many events in one request. Plugins are invoked once per batch
+     * ({@link AlertRuleEngine#evaluateBatch}), or events are spread over the shards when sharding
+     * is enabled; results are returned in request order either way.
+     */
+    @PostMapping("/evaluate/batch")
+    public ResponseEntity<?> evaluateBatch(@RequestBody BatchEvaluateRequest request) {
+        List<EvaluateRequest> requests = request != null ? request.getEvents() : null;
+        if (requests == null || requests.isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("events is required"));
+        }
+        if (requests.size() > maxBatchEvents) {
+            return ResponseEntity.badRequest()
+                .body(new ErrorResponse("Too many events: " + requests.size() + " > " + maxBatchEvents));
+        }
+        String defaultIdPrefix = "evt-" + System.currentTimeMillis() + "-";
+        List<GridOpsEvent> events = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i) == null) {
+                return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("events[" + i + "] is null"));
+            }
+            events.add(toEvent(requests.get(i), defaultIdPrefix + i));
+        }
+        return ResponseEntity.ok(evaluateAll(events));
     }
 
+    /** Batch evaluation of a binary batch body (event count followed by the events). */
+    @PostMapping(path = "/evaluate/batch", consumes = BinaryEventCodec.CONTENT_TYPE)
+    public ResponseEntity<?> evaluateBatchBinary(@RequestBody byte[] body) {
+        List<GridOpsEvent> events;
+        try {
+            events = BinaryEventCodec.decodeBatch(ByteBuffer.wrap(body), "evt-" + System.currentTimeMillis() + "-",
+                maxBatchEvents);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+        }
+        if (events.isEmpty()) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("events is required"));
+        }
+        return ResponseEntity.ok(evaluateAll(events));
+    }
+
+    /** Registered plugins with their circuit breaker state (CLOSED, OPEN = quarantined, HALF_OPEN). */
     @GetMapping("/plugins")
     public ResponseEntity<PluginsResponse> listPlugins() {
         List<PluginInfo> infos = engine.getPlugins().stream()
-            .map(p -> new PluginInfo(p.id(), p.name(), p.contractVersion()))
+            .map(this::toPluginInfo)
             .collect(Collectors.toList());
         return ResponseEntity.ok(new PluginsResponse(infos));
     }
 
+    /**
+     * Per-plugin latency (mean/p50/p95/p99/max in microseconds), events, alerts emitted and errors
+     * caught. Also exported as gridops.plugin.* meters under /actuator/metrics.
+     */
+    @GetMapping("/plugins/{pluginId}/stats")
+    public ResponseEntity<?> pluginStats(@PathVariable("pluginId") String pluginId) {
+        if (!engine.isRegistered(pluginId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("Plugin not registered: " + pluginId));
+        }
+        return ResponseEntity.ok(pluginMetrics.stats(pluginId));
+    }
+
     /**
      * Add a plugin at runtime by id. Validates that the id is a known plugin type
      * and that it is not already registered (one instance per id).
@@ -82,8 +201,12 @@ public class EvaluateController {
                 .body(new ErrorResponse("Plugin already registered: " + pluginId));
         }
         RulePlugin plugin = pluginRegistry.createPlugin(pluginId);
-        engine.registerPlugin(plugin);
-        PluginInfo info = new PluginInfo(plugin.id(), plugin.name(), plugin.contractVersion());
+        if (!engine.registerPlugin(plugin)) {
+            // Lost a race with a concurrent add of the same id
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("Plugin already registered: " + pluginId));
+        }
+        PluginInfo info = toPluginInfo(plugin);
         return ResponseEntity.status(HttpStatus.CREATED).body(info);
     }
 
@@ -103,6 +226,50 @@ public class EvaluateController {
         return ResponseEntity.noContent().build();
     }
 
+    private AlertRuleEngine.EngineResult evaluateOne(GridOpsEvent event) {
+        return shards != null ? shards.submit(event).join() : engine.evaluate(event);
+    }
+
+    private BatchEvaluateResponse evaluateAll(List<GridOpsEvent> events) {
+        List<AlertRuleEngine.EngineResult> engineResults = shards != null
+            ? shards.evaluateAll(events)
+            : engine.evaluateBatch(events);
+        List<EvaluateResponse> results = engineResults.stream()
+            .map(EvaluateController::toResponse)
+            .collect(Collectors.toList());
+        return new BatchEvaluateResponse(results);
+    }
+
+    static GridOpsEvent toEvent(EvaluateRequest request, String defaultEventId) {
+        String eventId = request.getEventId() != null ? request.getEventId() : defaultEventId;
+        String eventType = request.getEventType() != null ? request.getEventType() : "unknown";
+        Instant ts = parseTimestamp(request.getTimestamp());
+        Map<String, Object> payload = request.getPayload() != null ? request.getPayload() : Map.of();
+        return new GridOpsEvent(eventId, eventType, ts, payload);
+    }
+
+    private PluginInfo toPluginInfo(RulePlugin plugin) {
+        return new PluginInfo(plugin.id(), plugin.name(), plugin.contractVersion(),
+            engine.getCircuitState(plugin.id()).name());
+    }
+
+    private static EvaluateResponse toResponse(AlertRuleEngine.EngineResult result) {
+        List<AlertDto> alertDtos = result.getAlerts().stream()
+            .map(EvaluateController::toAlertDto)
+            .collect(Collectors.toList());
+        return new EvaluateResponse(result.getEventId(), alertDtos, result.getPluginsFired());
+    }
+
+    static AlertDto toAlertDto(Alert a) {
+        return new AlertDto(
+            a.getPluginId(),
+            a.getRuleId(),
+            a.getSeverity(),
+            a.getMessage(),
+            a.getRaisedAt().toString(),
+            a.getSuppressedCount());
+    }
+
     private static Instant parseTimestamp(String s) {
         if (s == null || s.isBlank()) return Instant.now();
         try {
@@ -127,40 +294,64 @@ public class EvaluateController {
         public List<String> getPluginsFired() { return pluginsFired; }
     }
 
+    public static final class BatchEvaluateRequest {
+        private List<EvaluateRequest> events;
+        public List<EvaluateRequest> getEvents() { return events; }
+        public void setEvents(List<EvaluateRequest> events) { this.events = events; }
+    }
+
+    public static final class BatchEvaluateResponse {
+        private final List<EvaluateResponse> results;
+
+        public BatchEvaluateResponse(List<EvaluateResponse> results) {
+            this.results = results;
+        }
+        public int getCount() { return results.size(); }
+        public List<EvaluateResponse> getResults() { return results; }
+    }
+
     public static final class AlertDto {
         private final String pluginId;
         private final String ruleId;
         private final String severity;
         private final String message;
         private final String raisedAt;
+        private final int suppressedCount;
 
-        public AlertDto(String pluginId, String ruleId, String severity, String message, String raisedAt) {
+        public AlertDto(String pluginId, String ruleId, String severity, String message, String raisedAt,
+                        int suppressedCount) {
             this.pluginId = pluginId;
             this.ruleId = ruleId;
             this.severity = severity;
             this.message = message;
             this.raisedAt = raisedAt;
+            this.suppressedCount = suppressedCount;
         }
         public String getPluginId() { return pluginId; }
         public String getRuleId() { return ruleId; }
         public String getSeverity() { return severity; }
         public String getMessage() { return message; }
         public String getRaisedAt() { return raisedAt; }
+        /** Identical alerts collapsed into this one since the previous emission (deduplication). */
+        public int getSuppressedCount() { return suppressedCount; }
     }
 
     public static final class PluginInfo {
         private final String id;
         private final String name;
         private final String contractVersion;
+        private final String state;
 
-        public PluginInfo(String id, String name, String contractVersion) {
+        public PluginInfo(String id, String name, String contractVersion, String state) {
             this.id = id;
             this.name = name;
             this.contractVersion = contractVersion;
+            this.state = state;
         }
         public String getId() { return id; }
         public String getName() { return name; }
         public String getContractVersion() { return contractVersion; }
+        public String getState() { return state; }
     }
 
     public static final class PluginsResponse {
@@ -0,0 +1,116 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.engine.Incident;
+import com.gridops.microkernel.core.engine.IncidentCorrelator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Incidents built by the {@link IncidentCorrelator}: alerts from any plugin about one entity,
+ * grouped while they keep arriving within the correlation window.
+ */
+@RestController
+@RequestMapping("/api/incidents")
+public class IncidentController {
+
+    private final IncidentCorrelator correlator;
+
+    public IncidentController(ObjectProvider<IncidentCorrelator> correlator) {
+        this.correlator = correlator.getIfAvailable();
+    }
+
+    /** {@code state} is {@code open}, {@code closed} or {@code all} (open first, then newest closed). */
+    @GetMapping
+    public ResponseEntity<?> incidents(@RequestParam(name = "state", defaultValue = "all") String state,
+                                       @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        if (!state.equals("open") && !state.equals("closed") && !state.equals("all")) {
+            return ResponseEntity.badRequest().body(Map.of("error", "state must be open, closed or all"));
+        }
+        if (correlator == null) {
+            return ResponseEntity.ok(new IncidentsResponse(false, 0, 0, List.of()));
+        }
+        List<Incident> selected = new ArrayList<>();
+        if (!state.equals("closed")) selected.addAll(correlator.openIncidents().reversed());
+        if (!state.equals("open")) selected.addAll(correlator.closedIncidents());
+        List<IncidentDto> incidents = selected.stream()
+            .limit(Math.max(0, limit))
+            .map(IncidentController::toDto)
+            .collect(Collectors.toList());
+        return ResponseEntity.ok(new IncidentsResponse(true, correlator.openedCount(),
+            correlator.correlatedAlertCount(), incidents));
+    }
+
+    private static IncidentDto toDto(Incident incident) {
+        return new IncidentDto(incident.getId(), incident.getEntityKey(), incident.isOpen(),
+            incident.getOpenedAt().toString(), incident.getUpdatedAt().toString(),
+            incident.getEventCount(), incident.getAlertCount(), incident.getPluginIds(), incident.getRuleIds(),
+            incident.getAlerts().stream().map(EvaluateController::toAlertDto).collect(Collectors.toList()));
+    }
+
+    public static final class IncidentsResponse {
+        private final boolean enabled;
+        private final long opened;
+        private final long correlatedAlerts;
+        private final List<IncidentDto> incidents;
+
+        public IncidentsResponse(boolean enabled, long opened, long correlatedAlerts, List<IncidentDto> incidents) {
+            this.enabled = enabled;
+            this.opened = opened;
+            this.correlatedAlerts = correlatedAlerts;
+            this.incidents = incidents;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public long getOpened() { return opened; }
+        public long getCorrelatedAlerts() { return correlatedAlerts; }
+        public List<IncidentDto> getIncidents() { return incidents; }
+    }
+
+    public static final class IncidentDto {
+        private final String id;
+        private final String entityKey;
+        private final boolean open;
+        private final String openedAt;
+        private final String updatedAt;
+        private final int eventCount;
+        private final int alertCount;
+        private final List<String> pluginIds;
+        private final List<String> ruleIds;
+        private final List<EvaluateController.AlertDto> alerts;
+
+        public IncidentDto(String id, String entityKey, boolean open, String openedAt, String updatedAt,
+                           int eventCount, int alertCount, List<String> pluginIds, List<String> ruleIds,
+                           List<EvaluateController.AlertDto> alerts) {
+            this.id = id;
+            this.entityKey = entityKey;
+            this.open = open;
+            this.openedAt = openedAt;
+            this.updatedAt = updatedAt;
+            this.eventCount = eventCount;
+            this.alertCount = alertCount;
+            this.pluginIds = pluginIds;
+            this.ruleIds = ruleIds;
+            this.alerts = alerts;
+        }
+
+        public String getId() { return id; }
+        public String getEntityKey() { return entityKey; }
+        public boolean isOpen() { return open; }
+        public String getOpenedAt() { return openedAt; }
+        public String getUpdatedAt() { return updatedAt; }
+        public int getEventCount() { return eventCount; }
+        public int getAlertCount() { return alertCount; }
+        public List<String> getPluginIds() { return pluginIds; }
+        public List<String> getRuleIds() { return ruleIds; }
+        public List<EvaluateController.AlertDto> getAlerts() { return alerts; }
+    }
+}
@@ -0,0 +1,75 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.event.BinaryEventCodec;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Asynchronous ingestion: events are queued on the {@link IngestionQueue} and evaluated by its
+ * workers. Returns 202 when queued, 429 when refused by the reject/shed policy and 503 when the
+ * block policy timed out (or the host is shutting down).
+ */
+@RestController
+@RequestMapping("/api/ingest")
+public class IngestController {
+
+    private final IngestionQueue queue;
+
+    public IngestController(IngestionQueue queue) {
+        this.queue = queue;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> ingest(@RequestBody EvaluateRequest request) {
+        return offer(EvaluateController.toEvent(request, "evt-" + System.nanoTime()));
+    }
+
+    /** Same as {@link #ingest} for a body in the binary event format. */
+    @PostMapping(consumes = BinaryEventCodec.CONTENT_TYPE)
+    public ResponseEntity<?> ingestBinary(@RequestBody byte[] body) {
+        try {
+            return offer(BinaryEventCodec.decode(ByteBuffer.wrap(body), "evt-" + System.nanoTime()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new EvaluateController.ErrorResponse(e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> offer(GridOpsEvent event) {
+        return switch (queue.offer(event)) {
+            case ACCEPTED -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new IngestResponse(event.getEventId(), queue.depth()));
+            case REJECTED -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(new EvaluateController.ErrorResponse("Ingestion queue full (" + queue.policy() + ")"));
+            case TIMED_OUT -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new EvaluateController.ErrorResponse("Ingestion queue full; timed out waiting for space"));
+            case CLOSED -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new EvaluateController.ErrorResponse("Ingestion is shutting down"));
+        };
+    }
+
+    /** Queue depth, capacity and accepted/processed/rejected/timed-out/shed counters. */
+    @GetMapping("/stats")
+    public ResponseEntity<IngestionQueue.Stats> stats() {
+        return ResponseEntity.ok(queue.stats());
+    }
+
+    public static final class IngestResponse {
+        private final String eventId;
+        private final int queueDepth;
+
+        public IngestResponse(String eventId, int queueDepth) {
+            this.eventId = eventId;
+            this.queueDepth = queueDepth;
+        }
+        public String getEventId() { return eventId; }
+        public int getQueueDepth() { return queueDepth; }
+    }
+}
@@ -0,0 +1,324 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Bounded queue in front of the engine for POST /api/ingest. Request threads only enqueue; a fixed
+ * set of worker threads drains the queue and evaluates, so a burst costs at most {@code capacity}
+ * queued events instead of one parked Tomcat thread (and its request) per event.
+ *
+ * What happens when the queue is full is set by the {@link Policy}. With {@link Policy#SHED},
+ * event types are ranked by the configured shed order (first = lowest priority; unlisted types
+ * rank highest): a full queue drops its oldest event of the lowest priority below the incoming
+ * one, or refuses the incoming event if nothing queued ranks lower. Events are dequeued in
+ * arrival order regardless of priority.
+ *
+ * The handler either evaluates synchronously or, for a hand-off such as sharded evaluation,
+ * returns a future; an event then counts as processed or failed when that future completes.
+ */
+public final class IngestionQueue implements AutoCloseable {
+
+    /** Behaviour when the queue is full. */
+    public enum Policy {
+        /** Wait up to the block timeout for space, then refuse ({@link Admission#TIMED_OUT}). */
+        BLOCK,
+        /** Refuse immediately ({@link Admission#REJECTED}). */
+        REJECT,
+        /** Drop a queued lower-priority event to make room, else refuse ({@link Admission#REJECTED}). */
+        SHED;
+
+        public static Policy parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                    "Unknown gridops.ingest.policy: '" + value + "'. Valid values: block, reject, shed");
+            }
+        }
+    }
+
+    /** Outcome of {@link #offer}. */
+    public enum Admission { ACCEPTED, REJECTED, TIMED_OUT, CLOSED }
+
+    private final int capacity;
+    private final Policy policy;
+    private final long blockTimeoutNanos;
+    private final Map<String, Integer> priorities;
+    private final Function<GridOpsEvent, ? extends CompletionStage<?>> handler;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    /** One FIFO per priority level; entries carry a sequence number to restore arrival order. */
+    private final List<ArrayDeque<Entry>> levels;
+    private int size;
+    private long nextSequence;
+    private boolean closed;
+
+    private final List<Thread> workers;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final Map<String, AtomicLong> shedByType = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity     maximum queued events
+     * @param policy       what to do when full
+     * @param blockTimeout maximum wait for {@link Policy#BLOCK}
+     * @param shedOrder    event types from lowest to highest priority (used by {@link Policy#SHED})
+     * @param workers      threads evaluating queued events
+     * @param handler      evaluates one event on a worker thread
+     */
+    public IngestionQueue(int capacity, Policy policy, Duration blockTimeout, List<String> shedOrder,
+                          int workers, Consumer<GridOpsEvent> handler) {
+        this(capacity, policy, blockTimeout, shedOrder, workers, event -> {
+            handler.accept(event);
+            return null;
+        });
+    }
+
+    /**
+     * Queue whose handler hands each event off (e.g. to a shard) and returns a future for its
+     * evaluation; stats count the event when the future completes.
+     */
+    public static IngestionQueue async(int capacity, Policy policy, Duration blockTimeout, List<String> shedOrder,
+                                       int workers, Function<GridOpsEvent, ? extends CompletionStage<?>> handler) {
+        return new IngestionQueue(capacity, policy, blockTimeout, shedOrder, workers, handler);
+    }
+
+    /** {@code handler} returns null once the event is evaluated, or a future for its evaluation. */
+    private IngestionQueue(int capacity, Policy policy, Duration blockTimeout, List<String> shedOrder,
+                           int workers, Function<GridOpsEvent, ? extends CompletionStage<?>> handler) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        if (workers < 1) throw new IllegalArgumentException("workers must be positive");
+        this.capacity = capacity;
+        this.policy = policy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.handler = handler;
+        this.priorities = new HashMap<>();
+        List<String> order = shedOrder != null ? shedOrder : List.of();
+        for (String type : order) {
+            if (!type.isBlank()) priorities.putIfAbsent(type.trim(), priorities.size());
+        }
+        this.levels = new ArrayList<>(priorities.size() + 1);
+        for (int i = 0; i <= priorities.size(); i++) levels.add(new ArrayDeque<>());
+        this.workers = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            Thread worker = new Thread(this::drain, "gridops-ingest-" + i);
+            worker.setDaemon(true);
+            this.workers.add(worker);
+        }
+        this.workers.forEach(Thread::start);
+    }
+
+    /** Enqueue an event for asynchronous evaluation, applying the full-queue policy. */
+    public Admission offer(GridOpsEvent event) {
+        int priority = priorityOf(event.getEventType());
+        lock.lock();
+        try {
+            if (closed) return Admission.CLOSED;
+            if (size == capacity) {
+                Admission refused = makeRoom(priority);
+                if (refused != null) return refused;
+            }
+            levels.get(priority).addLast(new Entry(event, nextSequence++));
+            size++;
+            accepted.increment();
+            notEmpty.signal();
+            return Admission.ACCEPTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Called with the lock held and the queue full; returns null once there is space. */
+    private Admission makeRoom(int priority) {
+        switch (policy) {
+            case REJECT -> {
+                rejected.increment();
+                return Admission.REJECTED;
+            }
+            case SHED -> {
+                for (int level = 0; level < priority; level++) {
+                    Entry victim = levels.get(level).pollFirst();
+                    if (victim != null) {
+                        size--;
+                        shedByType.computeIfAbsent(victim.event.getEventType(), k -> new AtomicLong()).incrementAndGet();
+                        return null;
+                    }
+                }
+                rejected.increment();
+                return Admission.REJECTED;
+            }
+            default -> {
+                long remaining = blockTimeoutNanos;
+                try {
+                    while (size == capacity && !closed) {
+                        if (remaining <= 0) {
+                            timedOut.increment();
+                            return Admission.TIMED_OUT;
+                        }
+                        remaining = notFull.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    timedOut.increment();
+                    return Admission.TIMED_OUT;
+                }
+                return closed ? Admission.CLOSED : null;
+            }
+        }
+    }
+
+    public int depth() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() { return capacity; }
+    public Policy policy() { return policy; }
+
+    /** Counters since start, for GET /api/ingest/stats. */
+    public Stats stats() {
+        Map<String, Long> shed = new HashMap<>();
+        shedByType.forEach((type, count) -> shed.put(type, count.get()));
+        return new Stats(policy.name(), capacity, depth(), accepted.sum(), processed.sum(), failed.sum(),
+            rejected.sum(), timedOut.sum(), shed);
+    }
+
+    /** Stop accepting events, evaluate everything already queued, then stop the workers. */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private void drain() {
+        while (true) {
+            GridOpsEvent event;
+            lock.lock();
+            try {
+                while (size == 0 && !closed) notEmpty.awaitUninterruptibly();
+                if (size == 0) return;
+                event = pollOldest();
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+            CompletionStage<?> pending;
+            try {
+                pending = handler.apply(event);
+            } catch (RuntimeException e) {
+                failed.increment();
+                continue;
+            }
+            if (pending == null) {
+                processed.increment();
+            } else {
+                pending.whenComplete((result, error) -> {
+                    if (error == null) processed.increment();
+                    else failed.increment();
+                });
+            }
+        }
+    }
+
+    private GridOpsEvent pollOldest() {
+        ArrayDeque<Entry> oldest = null;
+        for (ArrayDeque<Entry> level : levels) {
+            Entry head = level.peekFirst();
+            if (head != null && (oldest == null || head.sequence < oldest.peekFirst().sequence)) oldest = level;
+        }
+        size--;
+        return oldest.pollFirst().event;
+    }
+
+    private int priorityOf(String eventType) {
+        Integer p = eventType != null ? priorities.get(eventType) : null;
+        return p != null ? p : levels.size() - 1;
+    }
+
+    private static final class Entry {
+        final GridOpsEvent event;
+        final long sequence;
+
+        Entry(GridOpsEvent event, long sequence) {
+            this.event = event;
+            this.sequence = sequence;
+        }
+    }
+
+    public static final class Stats {
+        private final String policy;
+        private final int capacity;
+        private final int depth;
+        private final long accepted;
+        private final long processed;
+        private final long failed;
+        private final long rejected;
+        private final long timedOut;
+        private final Map<String, Long> shed;
+
+        public Stats(String policy, int capacity, int depth, long accepted, long processed, long failed,
+                     long rejected, long timedOut, Map<String, Long> shed) {
+            this.policy = policy;
+            this.capacity = capacity;
+            this.depth = depth;
+            this.accepted = accepted;
+            this.processed = processed;
+            this.failed = failed;
+            this.rejected = rejected;
+            this.timedOut = timedOut;
+            this.shed = shed;
+        }
+        public String getPolicy() { return policy; }
+        public int getCapacity() { return capacity; }
+        public int getDepth() { return depth; }
+        public long getAccepted() { return accepted; }
+        public long getProcessed() { return processed; }
+        public long getFailed() { return failed; }
+        public long getRejected() { return rejected; }
+        public long getTimedOut() { return timedOut; }
+        /** Queued events dropped to make room for higher-priority ones, by event type. */
+        public Map<String, Long> getShed() { return shed; }
+    }
+}
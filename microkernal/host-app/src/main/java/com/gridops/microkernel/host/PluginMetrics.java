@@ -0,0 +1,149 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.engine.PluginInstrumentation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes per-plugin engine instrumentation through Micrometer (actuator /actuator/metrics):
+ * - gridops.plugin.evaluation (timer, tag plugin): latency of each plugin call, with p50/p95/p99
+ *   and a percentile histogram for Prometheus-style backends
+ * - gridops.plugin.events (counter): events passed to the plugin
+ * - gridops.plugin.alerts (counter): alerts emitted
+ * - gridops.plugin.errors (counter): exceptions/timeouts caught by the engine
+ * Meters are cached per plugin id so the evaluation path does no registry lookups, and removed
+ * from the registry when the plugin is unregistered.
+ */
+public final class PluginMetrics implements PluginInstrumentation {
+
+    private final MeterRegistry registry;
+    private final Map<String, PluginMeters> meters = new ConcurrentHashMap<>();
+
+    public PluginMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onEvaluated(String pluginId, int events, long durationNanos, int alerts) {
+        PluginMeters m = meters(pluginId);
+        m.latency.record(durationNanos, TimeUnit.NANOSECONDS);
+        m.events.increment(events);
+        if (alerts > 0) m.alerts.increment(alerts);
+    }
+
+    @Override
+    public void onError(String pluginId, int events, long durationNanos, Throwable error) {
+        PluginMeters m = meters(pluginId);
+        m.latency.record(durationNanos, TimeUnit.NANOSECONDS);
+        m.events.increment(events);
+        m.errors.increment();
+    }
+
+    @Override
+    public void onUnregistered(String pluginId) {
+        PluginMeters m = meters.remove(pluginId);
+        if (m == null) return;
+        registry.remove(m.latency);
+        registry.remove(m.events);
+        registry.remove(m.alerts);
+        registry.remove(m.errors);
+    }
+
+    /** Snapshot for GET /api/plugins/{id}/stats; zeros if the plugin has not been called yet. */
+    public PluginStats stats(String pluginId) {
+        PluginMeters m = meters(pluginId);
+        HistogramSnapshot snapshot = m.latency.takeSnapshot();
+        double p50 = 0, p95 = 0, p99 = 0;
+        for (ValueAtPercentile v : snapshot.percentileValues()) {
+            double micros = v.value(TimeUnit.MICROSECONDS);
+            if (v.percentile() == 0.5) p50 = micros;
+            else if (v.percentile() == 0.95) p95 = micros;
+            else if (v.percentile() == 0.99) p99 = micros;
+        }
+        return new PluginStats(
+            pluginId,
+            snapshot.count(),
+            (long) m.events.count(),
+            (long) m.alerts.count(),
+            (long) m.errors.count(),
+            snapshot.mean(TimeUnit.MICROSECONDS),
+            p50, p95, p99,
+            snapshot.max(TimeUnit.MICROSECONDS));
+    }
+
+    private PluginMeters meters(String pluginId) {
+        return meters.computeIfAbsent(pluginId, id -> new PluginMeters(registry, id));
+    }
+
+    private static final class PluginMeters {
+        final Timer latency;
+        final Counter events;
+        final Counter alerts;
+        final Counter errors;
+
+        PluginMeters(MeterRegistry registry, String pluginId) {
+            this.latency = Timer.builder("gridops.plugin.evaluation")
+                .description("Latency of one plugin call")
+                .tag("plugin", pluginId)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+            this.events = Counter.builder("gridops.plugin.events")
+                .description("Events evaluated by the plugin")
+                .tag("plugin", pluginId)
+                .register(registry);
+            this.alerts = Counter.builder("gridops.plugin.alerts")
+                .description("Alerts emitted by the plugin")
+                .tag("plugin", pluginId)
+                .register(registry);
+            this.errors = Counter.builder("gridops.plugin.errors")
+                .description("Plugin exceptions and timeouts caught by the engine")
+                .tag("plugin", pluginId)
+                .register(registry);
+        }
+    }
+
+    public static final class PluginStats {
+        private final String pluginId;
+        private final long calls;
+        private final long events;
+        private final long alertsEmitted;
+        private final long errors;
+        private final double meanMicros;
+        private final double p50Micros;
+        private final double p95Micros;
+        private final double p99Micros;
+        private final double maxMicros;
+
+        public PluginStats(String pluginId, long calls, long events, long alertsEmitted, long errors,
+                           double meanMicros, double p50Micros, double p95Micros, double p99Micros, double maxMicros) {
+            this.pluginId = pluginId;
+            this.calls = calls;
+            this.events = events;
+            this.alertsEmitted = alertsEmitted;
+            this.errors = errors;
+            this.meanMicros = meanMicros;
+            this.p50Micros = p50Micros;
+            this.p95Micros = p95Micros;
+            this.p99Micros = p99Micros;
+            this.maxMicros = maxMicros;
+        }
+        public String getPluginId() { return pluginId; }
+        public long getCalls() { return calls; }
+        public long getEvents() { return events; }
+        public long getAlertsEmitted() { return alertsEmitted; }
+        public long getErrors() { return errors; }
+        public double getMeanMicros() { return meanMicros; }
+        public double getP50Micros() { return p50Micros; }
+        public double getP95Micros() { return p95Micros; }
+        public double getP99Micros() { return p99Micros; }
+        public double getMaxMicros() { return maxMicros; }
+    }
+}
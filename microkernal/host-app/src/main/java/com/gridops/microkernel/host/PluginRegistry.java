@@ -1,43 +1,35 @@
 package com.gridops.microkernel.host;
 
 import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.contract.RulePluginFactory;
 import com.gridops.microkernel.core.discovery.PluginDiscovery;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Supplier;
 
 /**
  * Registry of valid plugin types that can be added at runtime.
- * Built from ServiceLoader: maps plugin id -> factory for creating new instances.
+ * Maps plugin id -> {@link RulePluginFactory}, in discovery order; the first factory for an id wins.
+ * Plugins with generated factories are created by a direct constructor call, without reflection.
  */
 public final class PluginRegistry {
 
-    private final Map<String, Supplier<RulePlugin>> factories;
+    private final Map<String, RulePluginFactory> factories;
 
+    /** Registry of every plugin type on the classpath. */
     public PluginRegistry() {
-        this.factories = buildFactories();
+        this(PluginDiscovery.discoverFactories());
     }
 
-    private static Map<String, Supplier<RulePlugin>> buildFactories() {
-        Map<String, Supplier<RulePlugin>> map = new HashMap<>();
-        for (RulePlugin p : PluginDiscovery.discoverFromServiceLoader()) {
-            if (!map.containsKey(p.id())) {
-                Class<? extends RulePlugin> clazz = p.getClass();
-                map.put(p.id(), () -> newInstance(clazz));
-            }
-        }
-        return Collections.unmodifiableMap(map);
-    }
-
-    private static RulePlugin newInstance(Class<? extends RulePlugin> clazz) {
-        try {
-            return clazz.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new IllegalStateException("Cannot instantiate plugin " + clazz.getName(), e);
+    public PluginRegistry(List<RulePluginFactory> discovered) {
+        Map<String, RulePluginFactory> map = new LinkedHashMap<>();
+        for (RulePluginFactory factory : discovered) {
+            map.putIfAbsent(factory.id(), factory);
         }
+        this.factories = Collections.unmodifiableMap(map);
     }
 
     /** Returns true if pluginId is a known (valid) plugin type. */
@@ -45,17 +37,17 @@ public final class PluginRegistry {
         return pluginId != null && !pluginId.isBlank() && factories.containsKey(pluginId);
     }
 
-    /** Returns the set of valid plugin ids that can be added. */
+    /** Returns the set of valid plugin ids that can be added, in discovery order. */
     public Set<String> getValidPluginIds() {
         return factories.keySet();
     }
 
     /** Creates a new plugin instance for the given id. Caller must validate id first. */
     public RulePlugin createPlugin(String pluginId) {
-        Supplier<RulePlugin> factory = factories.get(pluginId);
+        RulePluginFactory factory = factories.get(pluginId);
         if (factory == null) {
             throw new IllegalArgumentException("Unknown plugin id: " + pluginId);
         }
-        return factory.get();
+        return factory.create();
     }
 }
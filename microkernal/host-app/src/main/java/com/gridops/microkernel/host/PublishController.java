@@ -0,0 +1,97 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.publish.AlertEnvelope;
+import com.gridops.microkernel.core.publish.AlertPublisher;
+import com.gridops.microkernel.core.publish.InMemoryDestination;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Alert publishing status: per-destination counters of the {@link AlertPublisher} and the alerts
+ * most recently delivered to the in-memory destination.
+ */
+@RestController
+@RequestMapping("/api/publish")
+public class PublishController {
+
+    private final AlertPublisher publisher;
+    private final InMemoryDestination memory;
+
+    public PublishController(ObjectProvider<AlertPublisher> publisher, ObjectProvider<InMemoryDestination> memory) {
+        this.publisher = publisher.getIfAvailable();
+        this.memory = memory.getIfAvailable();
+    }
+
+    @GetMapping
+    public PublishResponse stats() {
+        if (publisher == null) return new PublishResponse(false, List.of());
+        return new PublishResponse(true, publisher.stats());
+    }
+
+    /** Newest first; empty unless the in-memory destination is enabled. */
+    @GetMapping("/recent")
+    public RecentResponse recent(@RequestParam(name = "limit", defaultValue = "100") int limit) {
+        if (publisher == null || memory == null) return new RecentResponse(false, List.of());
+        List<PublishedAlertDto> alerts = memory.recent(Math.max(0, limit)).stream()
+            .map(PublishController::toDto)
+            .collect(Collectors.toList());
+        return new RecentResponse(true, alerts);
+    }
+
+    private static PublishedAlertDto toDto(AlertEnvelope envelope) {
+        return new PublishedAlertDto(envelope.getEventId(), envelope.getEventType(),
+            envelope.getEventTimestamp() != null ? envelope.getEventTimestamp().toString() : null,
+            EvaluateController.toAlertDto(envelope.getAlert()));
+    }
+
+    public static final class PublishResponse {
+        private final boolean enabled;
+        private final List<AlertPublisher.DestinationStats> destinations;
+
+        public PublishResponse(boolean enabled, List<AlertPublisher.DestinationStats> destinations) {
+            this.enabled = enabled;
+            this.destinations = destinations;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public List<AlertPublisher.DestinationStats> getDestinations() { return destinations; }
+    }
+
+    public static final class RecentResponse {
+        private final boolean enabled;
+        private final List<PublishedAlertDto> alerts;
+
+        public RecentResponse(boolean enabled, List<PublishedAlertDto> alerts) {
+            this.enabled = enabled;
+            this.alerts = alerts;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public List<PublishedAlertDto> getAlerts() { return alerts; }
+    }
+
+    public static final class PublishedAlertDto {
+        private final String eventId;
+        private final String eventType;
+        private final String eventTimestamp;
+        private final EvaluateController.AlertDto alert;
+
+        public PublishedAlertDto(String eventId, String eventType, String eventTimestamp, EvaluateController.AlertDto alert) {
+            this.eventId = eventId;
+            this.eventType = eventType;
+            this.eventTimestamp = eventTimestamp;
+            this.alert = alert;
+        }
+
+        public String getEventId() { return eventId; }
+        public String getEventType() { return eventType; }
+        public String getEventTimestamp() { return eventTimestamp; }
+        public EvaluateController.AlertDto getAlert() { return alert; }
+    }
+}
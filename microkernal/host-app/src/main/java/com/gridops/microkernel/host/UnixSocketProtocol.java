@@ -0,0 +1,90 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Framing used by {@link UnixSocketServer}. Every frame, in both directions, is
+ * <pre>
+ * length (int, bytes that follow), type (byte), body
+ * </pre>
+ * Requests: {@link #EVENT} with one event or {@link #BATCH} with an event count and events, both in
+ * the {@link com.gridops.microkernel.core.event.BinaryEventCodec} layout. Responses, in request order:
+ * {@link #RESULT} (one result), {@link #RESULTS} (result count, results) or {@link #ERROR} (message).
+ * <pre>
+ * result: eventId, pluginsFired count (u16), pluginId*, alert count (u16),
+ *         (pluginId, ruleId, severity, message, raisedAt (long epoch millis), suppressedCount (int))*
+ * string: byte length (u16, 0xFFFF = null), UTF-8 bytes
+ * </pre>
+ * All integers are big-endian.
+ */
+public final class UnixSocketProtocol {
+
+    public static final byte EVENT = 1;
+    public static final byte BATCH = 2;
+    public static final byte RESULT = 1;
+    public static final byte RESULTS = 2;
+    public static final byte ERROR = 0x7F;
+
+    private static final int NULL_STRING = 0xFFFF;
+
+    private UnixSocketProtocol() {}
+
+    public static void writeResult(ByteBuffer out, AlertRuleEngine.EngineResult result) {
+        writeString(out, result.getEventId());
+        List<String> fired = result.getPluginsFired();
+        out.putShort((short) fired.size());
+        for (String pluginId : fired) writeString(out, pluginId);
+        List<Alert> alerts = result.getAlerts();
+        out.putShort((short) alerts.size());
+        for (Alert alert : alerts) {
+            writeString(out, alert.getPluginId());
+            writeString(out, alert.getRuleId());
+            writeString(out, alert.getSeverity());
+            writeString(out, alert.getMessage());
+            out.putLong(alert.getRaisedAt().toEpochMilli());
+            out.putInt(alert.getSuppressedCount());
+        }
+    }
+
+    public static AlertRuleEngine.EngineResult readResult(ByteBuffer in) {
+        String eventId = readString(in);
+        int firedCount = Short.toUnsignedInt(in.getShort());
+        List<String> fired = new ArrayList<>(firedCount);
+        for (int i = 0; i < firedCount; i++) fired.add(readString(in));
+        int alertCount = Short.toUnsignedInt(in.getShort());
+        List<Alert> alerts = new ArrayList<>(alertCount);
+        for (int i = 0; i < alertCount; i++) {
+            Alert alert = new Alert(readString(in), readString(in), readString(in), readString(in),
+                Instant.ofEpochMilli(in.getLong()));
+            int suppressed = in.getInt();
+            alerts.add(suppressed > 0 ? alert.withSuppressedCount(suppressed) : alert);
+        }
+        return new AlertRuleEngine.EngineResult(eventId, alerts, fired);
+    }
+
+    static void writeString(ByteBuffer out, String s) {
+        if (s == null) {
+            out.putShort((short) NULL_STRING);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        // Alert messages are free text; cut rather than fail the whole response
+        int length = Math.min(bytes.length, NULL_STRING - 1);
+        out.putShort((short) length).put(bytes, 0, length);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == NULL_STRING) return null;
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,199 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.ShardedEvaluator;
+import com.gridops.microkernel.core.event.BinaryEventCodec;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local ingestion transport for producers on the same machine: a Unix domain socket speaking the
+ * length-prefixed {@link UnixSocketProtocol}. Each connection is served by its own virtual thread
+ * with blocking reads; frames are decoded with {@link BinaryEventCodec}, evaluated (on the shards
+ * when sharding is enabled) and answered on the same channel in request order. No HTTP, servlet
+ * dispatch or JSON is involved, so a round trip costs little more than the evaluation itself.
+ *
+ * A frame larger than {@code maxFrameBytes} gets an error response and the connection is closed,
+ * since the stream cannot be resynchronized; a malformed event or a failed evaluation only fails its
+ * own frame.
+ */
+public final class UnixSocketServer implements AutoCloseable {
+
+    private final Path path;
+    private final int maxFrameBytes;
+    private final AlertRuleEngine engine;
+    private final ShardedEvaluator shards;
+    private final int maxBatchEvents;
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private ServerSocketChannel server;
+    private Thread acceptor;
+
+    /**
+     * @param shards evaluator used instead of {@code engine} when non-null
+     */
+    public UnixSocketServer(Path path, int maxFrameBytes, int maxBatchEvents, AlertRuleEngine engine, ShardedEvaluator shards) {
+        this.path = path;
+        this.maxFrameBytes = maxFrameBytes;
+        this.maxBatchEvents = maxBatchEvents;
+        this.engine = engine;
+        this.shards = shards;
+    }
+
+    /** Bind the socket (replacing a stale socket file) and start accepting connections. */
+    public synchronized void start() throws IOException {
+        if (server != null) return;
+        Files.deleteIfExists(path);
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(path));
+        acceptor = Thread.ofPlatform().name("gridops-uds-accept").daemon().start(this::acceptLoop);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /** Stop accepting, close open connections and remove the socket file. */
+    @Override
+    public synchronized void close() throws IOException {
+        if (server == null) return;
+        server.close();
+        for (SocketChannel channel : connections) closeQuietly(channel);
+        try {
+            acceptor.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Files.deleteIfExists(path);
+        server = null;
+    }
+
+    private void acceptLoop() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (IOException e) {
+                // Closed by close(), or the socket is unusable
+                return;
+            }
+            connections.add(channel);
+            Thread.ofVirtual().name("gridops-uds-conn").start(() -> serve(channel));
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        ByteBuffer frame = ByteBuffer.allocate(4096);
+        ByteBuffer out = ByteBuffer.allocate(4096);
+        try (channel) {
+            while (true) {
+                header.clear();
+                if (!readFully(channel, header)) return;
+                int length = header.flip().getInt();
+                if (length < 1 || length > maxFrameBytes) {
+                    out = respondError(channel, out, "Frame length " + length + " outside 1.." + maxFrameBytes);
+                    return;
+                }
+                if (frame.capacity() < length) frame = ByteBuffer.allocate(Math.max(length, frame.capacity() * 2));
+                frame.clear().limit(length);
+                if (!readFully(channel, frame)) throw new EOFException("Connection closed inside a frame");
+                frame.flip();
+                out = handle(channel, frame, out);
+            }
+        } catch (IOException e) {
+            // Client went away or broke framing; the connection is closed either way
+        } finally {
+            connections.remove(channel);
+        }
+    }
+
+    /** Evaluate one request frame and write the response; returns the (possibly grown) output buffer. */
+    private ByteBuffer handle(SocketChannel channel, ByteBuffer frame, ByteBuffer out) throws IOException {
+        byte type = frame.get();
+        String defaultId = "uds-" + System.nanoTime();
+        List<AlertRuleEngine.EngineResult> results;
+        try {
+            if (type == UnixSocketProtocol.EVENT) {
+                GridOpsEvent event = BinaryEventCodec.decode(frame, defaultId);
+                results = List.of(shards != null ? shards.submit(event).join() : engine.evaluate(event));
+            } else if (type == UnixSocketProtocol.BATCH) {
+                List<GridOpsEvent> events = BinaryEventCodec.decodeBatch(frame, defaultId + "-", maxBatchEvents);
+                results = shards != null ? shards.evaluateAll(events) : engine.evaluateBatch(events);
+            } else {
+                return respondError(channel, out, "Unknown frame type " + type);
+            }
+        } catch (RuntimeException e) {
+            // Malformed frame, or evaluation failed outside plugin isolation (e.g. a listener or closed
+            // shards): only this frame fails
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            return respondError(channel, out, cause.getMessage() != null ? cause.getMessage() : cause.toString());
+        }
+        while (true) {
+            try {
+                out.clear().position(4);
+                if (type == UnixSocketProtocol.EVENT) {
+                    out.put(UnixSocketProtocol.RESULT);
+                    UnixSocketProtocol.writeResult(out, results.get(0));
+                } else {
+                    out.put(UnixSocketProtocol.RESULTS).putInt(results.size());
+                    for (AlertRuleEngine.EngineResult result : results) UnixSocketProtocol.writeResult(out, result);
+                }
+                break;
+            } catch (BufferOverflowException e) {
+                out = ByteBuffer.allocate(out.capacity() * 2);
+            }
+        }
+        write(channel, out);
+        return out;
+    }
+
+    private static ByteBuffer respondError(SocketChannel channel, ByteBuffer out, String message) throws IOException {
+        out.clear().position(4);
+        out.put(UnixSocketProtocol.ERROR);
+        UnixSocketProtocol.writeString(out, message.length() > 1000 ? message.substring(0, 1000) : message);
+        write(channel, out);
+        return out;
+    }
+
+    /** Fill in the length prefix of a frame built from position 4 and send it. */
+    private static void write(SocketChannel channel, ByteBuffer out) throws IOException {
+        out.putInt(0, out.position() - 4);
+        out.flip();
+        while (out.hasRemaining()) channel.write(out);
+    }
+
+    /** @return false on a clean end of stream before the first byte */
+    private static boolean readFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        boolean started = false;
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                if (!started && buffer.position() == 0) return false;
+                throw new EOFException("Connection closed inside a frame");
+            }
+            started = true;
+        }
+        return true;
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // closing anyway
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.gridops.microkernel.host;
 
 import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.event.BinaryEventCodec;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,24 +11,126 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "gridops.incidents.enabled=true")
 @AutoConfigureMockMvc
 class EvaluateControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void getPlugins_returnsList() throws Exception {
         mockMvc.perform(get("/api/plugins"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.plugins").isArray())
-            .andExpect(jsonPath("$.plugins.length()").value(3));
+            .andExpect(jsonPath("$.plugins.length()").value(3))
+            .andExpect(jsonPath("$.plugins[0].state").value("CLOSED"));
+    }
+
+    @Test
+    void ingest_acceptsEventAndReportsStats() throws Exception {
+        mockMvc.perform(post("/api/ingest")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventId\":\"ing-1\",\"eventType\":\"price\",\"payload\":{\"price\":200}}"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.eventId").value("ing-1"));
+        mockMvc.perform(get("/api/ingest/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.policy").value("BLOCK"))
+            .andExpect(jsonPath("$.capacity").value(10000));
+    }
+
+    @Test
+    void evaluate_binaryBody_decodesWithoutJson() throws Exception {
+        ByteBuffer body = ByteBuffer.allocate(256);
+        BinaryEventCodec.encode(new GridOpsEvent("bin-1", "price", Instant.now(), Map.of("price", 200.0)), body);
+        mockMvc.perform(post("/api/evaluate")
+                .contentType(BinaryEventCodec.CONTENT_TYPE)
+                .content(Arrays.copyOf(body.array(), body.position())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.eventId").value("bin-1"))
+            .andExpect(jsonPath("$.pluginsFired[0]").value("price-spike"));
+    }
+
+    @Test
+    void evaluateBatch_binaryBody_returnsResultsInOrder() throws Exception {
+        ByteBuffer body = ByteBuffer.allocate(512);
+        BinaryEventCodec.encodeBatch(List.of(
+            new GridOpsEvent("bin-a", "price", Instant.now(), Map.of("price", 200.0)),
+            new GridOpsEvent("bin-b", "price", Instant.now(), Map.of("price", 10.0))), body);
+        mockMvc.perform(post("/api/evaluate/batch")
+                .contentType(BinaryEventCodec.CONTENT_TYPE)
+                .content(Arrays.copyOf(body.array(), body.position())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(2))
+            .andExpect(jsonPath("$.results[1].eventId").value("bin-b"));
+        mockMvc.perform(post("/api/evaluate/batch")
+                .contentType(BinaryEventCodec.CONTENT_TYPE)
+                .content(new byte[] {0, 0, 0, 1, 0}))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shardStats_disabledByDefault() throws Exception {
+        mockMvc.perform(get("/api/engine/shards"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(false))
+            .andExpect(jsonPath("$.shardCount").value(0));
+    }
+
+    @Test
+    void incidents_groupAlertsFromSeveralPluginsForOneZone() throws Exception {
+        mockMvc.perform(post("/api/evaluate").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventType\":\"price\",\"payload\":{\"price\":200,\"zone\":\"INC-ZONE\"}}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(post("/api/evaluate").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventType\":\"outage-risk\",\"payload\":{\"reserveMarginPct\":5,\"zone\":\"INC-ZONE\"}}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/incidents").param("state", "open"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(true))
+            .andExpect(jsonPath("$.incidents[?(@.entityKey == 'INC-ZONE')].eventCount").value(2))
+            .andExpect(jsonPath("$.incidents[?(@.entityKey == 'INC-ZONE')].pluginIds[0]").value("price-spike"))
+            .andExpect(jsonPath("$.incidents[?(@.entityKey == 'INC-ZONE')].pluginIds[1]").value("outage-capacity-risk"));
+        mockMvc.perform(get("/api/incidents").param("state", "recent"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void checkpoints_areOffByDefault() throws Exception {
+        mockMvc.perform(get("/api/engine/checkpoints"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(false))
+            .andExpect(jsonPath("$.restored").value(0));
+    }
+
+    @Test
+    void publish_isOffByDefault() throws Exception {
+        mockMvc.perform(get("/api/publish"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(false));
+        mockMvc.perform(get("/api/publish/recent"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.alerts").isEmpty());
     }
 
     @Test
@@ -44,7 +149,8 @@ class EvaluateControllerTest {
             .andExpect(jsonPath("$.eventId").value("evt-1"))
             .andExpect(jsonPath("$.alerts").isArray())
             .andExpect(jsonPath("$.pluginsFired").isArray())
-            .andExpect(jsonPath("$.pluginsFired[0]").value("price-spike"));
+            .andExpect(jsonPath("$.pluginsFired[0]").value("price-spike"))
+            .andExpect(jsonPath("$.alerts[0].suppressedCount").value(0));
     }
 
     @Test
@@ -79,6 +185,114 @@ class EvaluateControllerTest {
             .andExpect(jsonPath("$.alerts[?(@.pluginId=='outage-capacity-risk')]").isArray());
     }
 
+    @Test
+    void evaluateBatch_returnsResultPerEvent() throws Exception {
+        String body = """
+            {
+              "events": [
+                { "eventId": "b-1", "eventType": "price", "payload": { "price": 200 } },
+                { "eventId": "b-2", "eventType": "outage-risk", "payload": { "reserveMarginPct": 10 } },
+                { "eventId": "b-3", "eventType": "price", "payload": { "price": 20 } }
+              ]
+            }
+            """;
+        mockMvc.perform(post("/api/evaluate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(3))
+            .andExpect(jsonPath("$.results[0].eventId").value("b-1"))
+            .andExpect(jsonPath("$.results[0].pluginsFired[0]").value("price-spike"))
+            .andExpect(jsonPath("$.results[1].pluginsFired[0]").value("outage-capacity-risk"))
+            .andExpect(jsonPath("$.results[2].alerts.length()").value(0));
+    }
+
+    @Test
+    void evaluateBatch_missingEvents_returns400() throws Exception {
+        mockMvc.perform(post("/api/evaluate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("events is required"));
+    }
+
+    @Test
+    void evaluateBatch_nullEvent_returns400NamingTheIndex() throws Exception {
+        mockMvc.perform(post("/api/evaluate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"events\":[{\"eventType\":\"price\",\"payload\":{\"price\":20}},null]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("events[1] is null"));
+    }
+
+    @Test
+    void evaluateStream_ndjson_writesOneResultLinePerEvent() throws Exception {
+        String body = "{\"eventId\":\"s-1\",\"eventType\":\"price\",\"payload\":{\"price\":200}}\n"
+            + "{\"eventId\":\"s-2\",\"eventType\":\"price\",\"payload\":{\"price\":20}}\n";
+        String content = mockMvc.perform(post("/api/evaluate")
+                .contentType(EvaluateController.APPLICATION_NDJSON_VALUE)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(EvaluateController.APPLICATION_NDJSON_VALUE))
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = content.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"eventId\":\"s-1\""));
+        assertTrue(lines[0].contains("\"pluginsFired\":[\"price-spike\"]"));
+        assertTrue(lines[1].contains("\"eventId\":\"s-2\""));
+        assertTrue(lines[1].contains("\"alerts\":[]"));
+    }
+
+    @Test
+    void evaluateStream_malformedLine_endsWithErrorLine() throws Exception {
+        String body = "{\"eventId\":\"s-1\",\"eventType\":\"price\",\"payload\":{\"price\":200}}\n{not json\n";
+        String content = mockMvc.perform(post("/api/evaluate")
+                .contentType(EvaluateController.APPLICATION_NDJSON_VALUE)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = content.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("{\"error\":\"Invalid event at line 2"));
+    }
+
+    @Test
+    void evaluateStream_nullLine_endsWithErrorLine() throws Exception {
+        String body = "{\"eventId\":\"s-1\",\"eventType\":\"price\",\"payload\":{\"price\":20}}\nnull\n"
+            + "{\"eventId\":\"s-3\",\"eventType\":\"price\",\"payload\":{\"price\":20}}\n";
+        String content = mockMvc.perform(post("/api/evaluate")
+                .contentType(EvaluateController.APPLICATION_NDJSON_VALUE)
+                .content(body))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String[] lines = content.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("{\"error\":\"Invalid event at line 2"));
+    }
+
+    @Test
+    void pluginStats_afterEvaluation_reportsCallsAndAlerts() throws Exception {
+        mockMvc.perform(post("/api/evaluate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventType\":\"outage-risk\",\"payload\":{\"reserveMarginPct\":5}}"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/plugins/outage-capacity-risk/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pluginId").value("outage-capacity-risk"))
+            .andExpect(jsonPath("$.calls").isNumber())
+            .andExpect(jsonPath("$.alertsEmitted").isNumber())
+            .andExpect(jsonPath("$.p99Micros").isNumber());
+        mockMvc.perform(get("/actuator/metrics/gridops.plugin.evaluation"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void pluginStats_notRegistered_returns404() throws Exception {
+        mockMvc.perform(get("/api/plugins/nonexistent-plugin/stats"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.error").value("Plugin not registered: nonexistent-plugin"));
+    }
+
     // --- Add/remove plugin at runtime (validation) ---
 
     @Test
@@ -116,6 +330,25 @@ class EvaluateControllerTest {
             .andExpect(jsonPath("$.error").value("Plugin not registered: nonexistent-plugin"));
     }
 
+    @Test
+    void removePlugin_removesItsMeters() throws Exception {
+        mockMvc.perform(post("/api/evaluate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"eventType\":\"outage-risk\",\"payload\":{\"reserveMarginPct\":50}}"))
+            .andExpect(status().isOk());
+        assertNotNull(meterRegistry.find("gridops.plugin.evaluation").tag("plugin", "outage-capacity-risk").timer());
+
+        mockMvc.perform(delete("/api/plugins/outage-capacity-risk"))
+            .andExpect(status().isNoContent());
+        assertNull(meterRegistry.find("gridops.plugin.evaluation").tag("plugin", "outage-capacity-risk").timer());
+        assertNull(meterRegistry.find("gridops.plugin.errors").tag("plugin", "outage-capacity-risk").counter());
+
+        mockMvc.perform(post("/api/plugins")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"pluginId\": \"outage-capacity-risk\"}"))
+            .andExpect(status().isCreated());
+    }
+
     @Test
     void removePlugin_thenAdd_roundTrip() throws Exception {
         // Remove one plugin
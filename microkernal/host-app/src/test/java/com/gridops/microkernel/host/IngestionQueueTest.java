@@ -0,0 +1,115 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionQueueTest {
+
+    private static GridOpsEvent event(String id, String type) {
+        return new GridOpsEvent(id, type, Instant.now(), Map.of());
+    }
+
+    /** Handler that parks the single worker on its first event until released. */
+    private static final class GatedHandler implements Consumer<GridOpsEvent> {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> seen = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void accept(GridOpsEvent event) {
+            seen.add(event.getEventId());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    void rejectPolicyRefusesWhenFull() throws Exception {
+        GatedHandler handler = new GatedHandler();
+        IngestionQueue queue = new IngestionQueue(2, IngestionQueue.Policy.REJECT, Duration.ZERO, List.of(), 1, handler);
+        assertEquals(IngestionQueue.Admission.ACCEPTED, queue.offer(event("busy", "price")));
+        handler.started.await();
+        assertEquals(IngestionQueue.Admission.ACCEPTED, queue.offer(event("a", "price")));
+        assertEquals(IngestionQueue.Admission.ACCEPTED, queue.offer(event("b", "price")));
+        assertEquals(IngestionQueue.Admission.REJECTED, queue.offer(event("c", "price")));
+        assertEquals(2, queue.depth());
+        handler.release.countDown();
+        queue.close();
+        assertEquals(List.of("busy", "a", "b"), handler.seen);
+        assertEquals(1, queue.stats().getRejected());
+        assertEquals(3, queue.stats().getProcessed());
+    }
+
+    @Test
+    void blockPolicyTimesOut() throws Exception {
+        GatedHandler handler = new GatedHandler();
+        IngestionQueue queue = new IngestionQueue(1, IngestionQueue.Policy.BLOCK, Duration.ofMillis(20), List.of(), 1, handler);
+        queue.offer(event("busy", "price"));
+        handler.started.await();
+        assertEquals(IngestionQueue.Admission.ACCEPTED, queue.offer(event("a", "price")));
+        assertEquals(IngestionQueue.Admission.TIMED_OUT, queue.offer(event("b", "price")));
+        handler.release.countDown();
+        queue.close();
+        assertEquals(IngestionQueue.Admission.CLOSED, queue.offer(event("c", "price")));
+        assertEquals(1, queue.stats().getTimedOut());
+    }
+
+    @Test
+    void shedPolicyDropsLowestPriorityFirstAndKeepsArrivalOrder() throws Exception {
+        GatedHandler handler = new GatedHandler();
+        IngestionQueue queue = new IngestionQueue(3, IngestionQueue.Policy.SHED, Duration.ZERO,
+            List.of("price", "forecast-ramp"), 1, handler);
+        queue.offer(event("busy", "price"));
+        handler.started.await();
+        queue.offer(event("p1", "price"));
+        queue.offer(event("o1", "outage-risk"));
+        queue.offer(event("f1", "forecast-ramp"));
+
+        // Full: an outage event evicts the oldest price event, then the forecast event
+        assertEquals(IngestionQueue.Admission.ACCEPTED, queue.offer(event("o2", "outage-risk")));
+        assertEquals(IngestionQueue.Admission.ACCEPTED, queue.offer(event("o3", "outage-risk")));
+        // Only outage events left: nothing ranks below an incoming price event or another outage event
+        assertEquals(IngestionQueue.Admission.REJECTED, queue.offer(event("p2", "price")));
+        assertEquals(IngestionQueue.Admission.REJECTED, queue.offer(event("o4", "outage-risk")));
+
+        handler.release.countDown();
+        queue.close();
+        assertEquals(List.of("busy", "o1", "o2", "o3"), handler.seen);
+        assertEquals(Map.of("price", 1L, "forecast-ramp", 1L), queue.stats().getShed());
+        assertEquals(2, queue.stats().getRejected());
+    }
+
+    @Test
+    void asyncHandler_countsEventsWhenTheirFutureCompletes() throws Exception {
+        List<CompletableFuture<Void>> handedOff = new CopyOnWriteArrayList<>();
+        IngestionQueue queue = IngestionQueue.async(4, IngestionQueue.Policy.REJECT, Duration.ZERO, List.of(), 1, event -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            handedOff.add(future);
+            return future;
+        });
+        queue.offer(event("ok", "price"));
+        queue.offer(event("bad", "price"));
+        queue.close();
+        assertEquals(0, queue.stats().getProcessed() + queue.stats().getFailed(), "not evaluated yet");
+
+        handedOff.get(0).complete(null);
+        handedOff.get(1).completeExceptionally(new IllegalStateException("plugin failed"));
+        assertEquals(1, queue.stats().getProcessed());
+        assertEquals(1, queue.stats().getFailed());
+    }
+}
@@ -0,0 +1,163 @@
+package com.gridops.microkernel.host;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.engine.AlertRuleEngine;
+import com.gridops.microkernel.core.engine.ShardedEvaluator;
+import com.gridops.microkernel.core.event.BinaryEventCodec;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.plugin.pricespike.PriceSpikeRulePlugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnixSocketServerTest {
+
+    @TempDir
+    Path dir;
+
+    private AlertRuleEngine engine;
+    private UnixSocketServer server;
+    private SocketChannel client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        engine = new AlertRuleEngine();
+        engine.registerPlugin(new PriceSpikeRulePlugin());
+        server = new UnixSocketServer(dir.resolve("engine.sock"), 4096, 100, engine, null);
+        server.start();
+        client = SocketChannel.open(StandardProtocolFamily.UNIX);
+        client.connect(UnixDomainSocketAddress.of(server.getPath()));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+        assertFalse(Files.exists(server.getPath()));
+    }
+
+    private static GridOpsEvent price(String id, double price) {
+        return new GridOpsEvent(id, "price", Instant.now(), Map.of("price", price));
+    }
+
+    private void send(byte type, ByteBuffer body) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(5 + body.remaining());
+        frame.putInt(1 + body.remaining()).put(type).put(body).flip();
+        while (frame.hasRemaining()) client.write(frame);
+    }
+
+    private ByteBuffer receive() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        while (header.hasRemaining()) assertTrue(client.read(header) >= 0);
+        ByteBuffer body = ByteBuffer.allocate(header.flip().getInt());
+        while (body.hasRemaining()) assertTrue(client.read(body) >= 0);
+        return body.flip();
+    }
+
+    @Test
+    void evaluatesEventsAndBatchesOnOneConnection() throws IOException {
+        ByteBuffer event = ByteBuffer.allocate(256);
+        BinaryEventCodec.encode(price("u1", 200), event);
+        send(UnixSocketProtocol.EVENT, event.flip());
+        ByteBuffer response = receive();
+        assertEquals(UnixSocketProtocol.RESULT, response.get());
+        AlertRuleEngine.EngineResult result = UnixSocketProtocol.readResult(response);
+        assertEquals("u1", result.getEventId());
+        assertEquals(List.of(PriceSpikeRulePlugin.ID), result.getPluginsFired());
+        assertEquals("price-spike-rule", result.getAlerts().get(0).getRuleId());
+
+        ByteBuffer batch = ByteBuffer.allocate(512);
+        BinaryEventCodec.encodeBatch(List.of(price("u2", 10), price("u3", 300)), batch);
+        send(UnixSocketProtocol.BATCH, batch.flip());
+        response = receive();
+        assertEquals(UnixSocketProtocol.RESULTS, response.get());
+        assertEquals(2, response.getInt());
+        assertTrue(UnixSocketProtocol.readResult(response).getAlerts().isEmpty());
+        assertEquals("u3", UnixSocketProtocol.readResult(response).getEventId());
+    }
+
+    @Test
+    void malformedFrameGetsErrorAndConnectionStaysUsable() throws IOException {
+        send(UnixSocketProtocol.EVENT, ByteBuffer.wrap(new byte[] {0, 5, 'x'}));
+        ByteBuffer response = receive();
+        assertEquals(UnixSocketProtocol.ERROR, response.get());
+        assertTrue(UnixSocketProtocol.readString(response).startsWith("Truncated"));
+
+        ByteBuffer event = ByteBuffer.allocate(256);
+        BinaryEventCodec.encode(price("u4", 50), event);
+        send(UnixSocketProtocol.EVENT, event.flip());
+        response = receive();
+        assertEquals(UnixSocketProtocol.RESULT, response.get());
+        assertEquals("u4", UnixSocketProtocol.readResult(response).getEventId());
+    }
+
+    @Test
+    void failingPluginOnlyFailsItsFrame() throws IOException {
+        engine.registerPlugin(new RulePlugin() {
+            @Override public String id() { return "faulty"; }
+            @Override public String name() { return "Faulty"; }
+            @Override public Set<String> eventTypes() { return Set.of("fault"); }
+            @Override public List<Alert> evaluate(GridOpsEvent ev) { throw new IllegalStateException("plugin broke"); }
+        });
+
+        ByteBuffer event = ByteBuffer.allocate(256);
+        BinaryEventCodec.encode(new GridOpsEvent("f1", "fault", Instant.now(), Map.of()), event);
+        send(UnixSocketProtocol.EVENT, event.flip());
+        ByteBuffer response = receive();
+        assertEquals(UnixSocketProtocol.RESULT, response.get());
+        assertEquals("engine", UnixSocketProtocol.readResult(response).getAlerts().get(0).getRuleId());
+
+        event.clear();
+        BinaryEventCodec.encode(price("u5", 50), event);
+        send(UnixSocketProtocol.EVENT, event.flip());
+        response = receive();
+        assertEquals(UnixSocketProtocol.RESULT, response.get());
+        assertEquals("u5", UnixSocketProtocol.readResult(response).getEventId());
+    }
+
+    @Test
+    void closedShardsGetErrorAndConnectionStaysUsable() throws IOException {
+        client.close();
+        server.close();
+        ShardedEvaluator shards = new ShardedEvaluator(engine, 2, 16, List.of("zone"));
+        shards.close();
+        server = new UnixSocketServer(dir.resolve("engine.sock"), 4096, 100, engine, shards);
+        server.start();
+        client = SocketChannel.open(StandardProtocolFamily.UNIX);
+        client.connect(UnixDomainSocketAddress.of(server.getPath()));
+
+        for (int i = 0; i < 2; i++) {
+            ByteBuffer event = ByteBuffer.allocate(256);
+            BinaryEventCodec.encode(price("s" + i, 50), event);
+            send(UnixSocketProtocol.EVENT, event.flip());
+            ByteBuffer response = receive();
+            assertEquals(UnixSocketProtocol.ERROR, response.get());
+            assertEquals("ShardedEvaluator is closed", UnixSocketProtocol.readString(response));
+        }
+    }
+
+    @Test
+    void oversizedFrameClosesConnection() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4).putInt(1 << 20).flip();
+        client.write(header);
+        ByteBuffer response = receive();
+        assertEquals(UnixSocketProtocol.ERROR, response.get());
+        assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+    }
+}
@@ -0,0 +1,186 @@
+package com.gridops.microkernel.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code RulePluginFactory} for every class annotated with {@code @AutoPluginFactory}
+ * and lists the factories in {@code META-INF/services}, so hosts discover plugins from a
+ * build-time index and create them with a plain constructor call instead of reflection.
+ *
+ * The service file is merged with the one already in the output, so incremental builds that only
+ * recompile some plugins keep the others listed; entries whose factory class no longer resolves
+ * (plugin renamed or deleted) are dropped so {@code ServiceLoader} does not fail on them. Core types are referenced by name; the processor
+ * has no compile dependency on core.
+ * Invalid plugin classes (not public, nested, abstract, not a {@code RulePlugin}, or without a
+ * public no-arg constructor) are reported as compile errors.
+ */
+@SupportedAnnotationTypes(PluginFactoryProcessor.ANNOTATION)
+public final class PluginFactoryProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.gridops.microkernel.core.contract.AutoPluginFactory";
+    static final String PLUGIN = "com.gridops.microkernel.core.contract.RulePlugin";
+    static final String FACTORY = "com.gridops.microkernel.core.contract.RulePluginFactory";
+    static final String SERVICE_FILE = "META-INF/services/" + FACTORY;
+
+    private final List<String> generated = new ArrayList<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type && isValid(type)) {
+                    generateFactory(type, pluginId(type));
+                }
+            }
+        }
+        if (round.processingOver() && !generated.isEmpty()) {
+            writeServiceFile();
+        }
+        return true;
+    }
+
+    private boolean isValid(TypeElement type) {
+        TypeMirror plugin = processingEnv.getElementUtils().getTypeElement(PLUGIN).asType();
+        String problem = null;
+        if (type.getKind() != ElementKind.CLASS) {
+            problem = "must be a class";
+        } else if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+            problem = "must be a top-level class";
+        } else if (!type.getModifiers().contains(Modifier.PUBLIC) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            problem = "must be public and not abstract";
+        } else if (!processingEnv.getTypeUtils().isAssignable(type.asType(), plugin)) {
+            problem = "must implement " + PLUGIN;
+        } else if (!hasPublicNoArgConstructor(type)) {
+            problem = "must have a public no-arg constructor";
+        }
+        if (problem != null) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@AutoPluginFactory class " + problem, type);
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean hasPublicNoArgConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String pluginId(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : mirror.getElementValues().entrySet()) {
+                    if (e.getKey().getSimpleName().contentEquals("id")) {
+                        return (String) e.getValue().getValue();
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No @AutoPluginFactory id on " + type);
+    }
+
+    private void generateFactory(TypeElement type, String id) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = pkg.getQualifiedName().toString();
+        String simpleName = type.getSimpleName() + "Factory";
+        String factoryName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String plugin = type.getQualifiedName().toString();
+        try (Writer out = processingEnv.getFiler().createSourceFile(factoryName, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                out.write("package " + packageName + ";\n\n");
+            }
+            out.write("/** Generated from {@code @AutoPluginFactory} on {@link " + plugin + "}. */\n");
+            out.write("public final class " + simpleName + " implements " + FACTORY + " {\n\n");
+            out.write("    @Override\n");
+            out.write("    public String id() {\n");
+            out.write("        return \"" + escape(id) + "\";\n");
+            out.write("    }\n\n");
+            out.write("    @Override\n");
+            out.write("    public Class<" + plugin + "> type() {\n");
+            out.write("        return " + plugin + ".class;\n");
+            out.write("    }\n\n");
+            out.write("    @Override\n");
+            out.write("    public " + plugin + " create() {\n");
+            out.write("        return new " + plugin + "();\n");
+            out.write("    }\n");
+            out.write("}\n");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + factoryName + ": " + e, type);
+            return;
+        }
+        generated.add(factoryName);
+    }
+
+    private void writeServiceFile() {
+        Set<String> factories = new LinkedHashSet<>(existingServiceEntries());
+        factories.addAll(generated);
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer out = file.openWriter()) {
+                for (String factory : factories) {
+                    out.write(factory);
+                    out.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write " + SERVICE_FILE + ": " + e);
+        }
+    }
+
+    /** Factories listed by a service file from an earlier compilation that still exist, or none. */
+    private List<String> existingServiceEntries() {
+        List<String> entries = new ArrayList<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader in = new BufferedReader(file.openReader(true))) {
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    int comment = line.indexOf('#');
+                    String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!entry.isEmpty() && processingEnv.getElementUtils().getTypeElement(entry) != null) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // No earlier service file (clean build)
+        }
+        return entries;
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,149 @@
+package com.gridops.microkernel.processor;
+
+import com.gridops.microkernel.core.contract.RulePluginFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PluginFactoryProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void generatesFactoryAndServiceFile() throws Exception {
+        Path source = write("demo/DemoPlugin.java", """
+            package demo;
+
+            import com.gridops.microkernel.core.alert.Alert;
+            import com.gridops.microkernel.core.contract.AutoPluginFactory;
+            import com.gridops.microkernel.core.contract.RulePlugin;
+            import com.gridops.microkernel.core.event.GridOpsEvent;
+            import java.util.List;
+
+            @AutoPluginFactory(id = DemoPlugin.ID)
+            public class DemoPlugin implements RulePlugin {
+                public static final String ID = "demo";
+                public String id() { return ID; }
+                public String name() { return "Demo"; }
+                public String contractVersion() { return "1"; }
+                public List<Alert> evaluate(GridOpsEvent event) { return List.of(); }
+            }
+            """);
+        assertTrue(compile(source).isEmpty());
+
+        Path services = dir.resolve("out").resolve(PluginFactoryProcessor.SERVICE_FILE);
+        assertEquals(List.of("demo.DemoPluginFactory"), Files.readAllLines(services));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.resolve("out").toUri().toURL()}, getClass().getClassLoader())) {
+            RulePluginFactory f = (RulePluginFactory) loader.loadClass("demo.DemoPluginFactory")
+                .getDeclaredConstructor().newInstance();
+            assertEquals("demo", f.id());
+            assertEquals("demo", f.create().id());
+            assertEquals("demo.DemoPlugin", f.type().getName());
+        }
+    }
+
+    @Test
+    void incrementalCompile_mergesServiceFile() throws Exception {
+        assertTrue(compile(write("demo/FirstPlugin.java", plugin("FirstPlugin", "first"))).isEmpty());
+        assertTrue(compile(write("demo/SecondPlugin.java", plugin("SecondPlugin", "second"))).isEmpty());
+        assertTrue(compile(write("demo/SecondPlugin.java", plugin("SecondPlugin", "second"))).isEmpty());
+
+        Path services = dir.resolve("out").resolve(PluginFactoryProcessor.SERVICE_FILE);
+        assertEquals(List.of("demo.FirstPluginFactory", "demo.SecondPluginFactory"), Files.readAllLines(services));
+
+        // FirstPlugin deleted: its factory no longer resolves and is dropped from the index
+        Files.delete(dir.resolve("out").resolve("demo").resolve("FirstPluginFactory.class"));
+        Files.delete(dir.resolve("out").resolve("demo").resolve("FirstPluginFactory.java"));
+        assertTrue(compile(write("demo/SecondPlugin.java", plugin("SecondPlugin", "second"))).isEmpty());
+        assertEquals(List.of("demo.SecondPluginFactory"), Files.readAllLines(services));
+    }
+
+    @Test
+    void rejectsPluginWithoutPublicNoArgConstructor() throws Exception {
+        Path source = write("demo/BadPlugin.java", """
+            package demo;
+
+            import com.gridops.microkernel.core.alert.Alert;
+            import com.gridops.microkernel.core.contract.AutoPluginFactory;
+            import com.gridops.microkernel.core.contract.RulePlugin;
+            import com.gridops.microkernel.core.event.GridOpsEvent;
+            import java.util.List;
+
+            @AutoPluginFactory(id = "bad")
+            public class BadPlugin implements RulePlugin {
+                public BadPlugin(int threshold) { }
+                public String id() { return "bad"; }
+                public String name() { return "Bad"; }
+                public String contractVersion() { return "1"; }
+                public List<Alert> evaluate(GridOpsEvent event) { return List.of(); }
+            }
+            """);
+        List<String> errors = compile(source);
+        assertFalse(errors.isEmpty());
+        assertTrue(errors.get(0).contains("public no-arg constructor"), errors.toString());
+    }
+
+    private static String plugin(String className, String id) {
+        return """
+            package demo;
+
+            import com.gridops.microkernel.core.alert.Alert;
+            import com.gridops.microkernel.core.contract.AutoPluginFactory;
+            import com.gridops.microkernel.core.contract.RulePlugin;
+            import com.gridops.microkernel.core.event.GridOpsEvent;
+            import java.util.List;
+
+            @AutoPluginFactory(id = "%2$s")
+            public class %1$s implements RulePlugin {
+                public String id() { return "%2$s"; }
+                public String name() { return "%1$s"; }
+                public String contractVersion() { return "1"; }
+                public List<Alert> evaluate(GridOpsEvent event) { return List.of(); }
+            }
+            """.formatted(className, id);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = dir.resolve("src").resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+
+    /** Compiles with the processor and the test classpath; returns error messages. */
+    private List<String> compile(Path source) throws IOException {
+        Path out = Files.createDirectories(dir.resolve("out"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                List.of("-d", out.toString(), "-s", out.toString(),
+                    "-classpath", out + File.pathSeparator + System.getProperty("java.class.path")),
+                null, files.getJavaFileObjects(source));
+            task.setProcessors(List.of(new PluginFactoryProcessor()));
+            task.call();
+        }
+        return diagnostics.getDiagnostics().stream()
+            .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+            .map(d -> d.getMessage(null))
+            .toList();
+    }
+}
@@ -1,29 +1,54 @@
 package com.gridops.microkernel.plugin.forecastramp;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.contract.AutoPluginFactory;
+import com.gridops.microkernel.core.contract.PluginContext;
 import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.FieldKey;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.DoubleRingBuffer;
+import com.gridops.microkernel.core.state.KeyedWindows;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Fires when forecast load ramp (delta) exceeds a threshold (e.g. rapid load increase).
+ *
+ * The ramp is taken from {@code rampMw} / {@code deltaLoadMw} when the caller supplies it.
+ * Otherwise, when loaded by the engine, the plugin keeps the last {@code rampIntervals + 1}
+ * {@code loadMw} values per node (or zone) and uses newest minus oldest as the ramp.
  */
+@AutoPluginFactory(id = ForecastRampRulePlugin.ID)
 public final class ForecastRampRulePlugin implements RulePlugin {
 
     public static final String ID = "forecast-ramp";
     private static final double DEFAULT_RAMP_THRESHOLD_MW = 500.0;
+    private static final int DEFAULT_RAMP_INTERVALS = 4;
+    private static final Set<String> EVENT_TYPES = Set.of("forecast-ramp", "load-forecast");
+    private static final FieldKey RAMP_MW = FieldKey.of("rampMw");
+    private static final FieldKey DELTA_LOAD_MW = FieldKey.of("deltaLoadMw");
+    private static final FieldKey LOAD_MW = FieldKey.of("loadMw");
+    private static final Set<String> PAYLOAD_KEYS = Set.of(RAMP_MW.name(), DELTA_LOAD_MW.name(), LOAD_MW.name());
 
     private final double rampThresholdMw;
+    private final int rampIntervals;
+    private KeyedWindows<DoubleRingBuffer> loadHistory;
 
     public ForecastRampRulePlugin() {
         this(DEFAULT_RAMP_THRESHOLD_MW);
     }
 
     public ForecastRampRulePlugin(double rampThresholdMw) {
+        this(rampThresholdMw, DEFAULT_RAMP_INTERVALS);
+    }
+
+    public ForecastRampRulePlugin(double rampThresholdMw, int rampIntervals) {
+        if (rampIntervals < 1) throw new IllegalArgumentException("rampIntervals must be positive");
         this.rampThresholdMw = rampThresholdMw;
+        this.rampIntervals = rampIntervals;
     }
 
     @Override
@@ -32,23 +57,52 @@ public final class ForecastRampRulePlugin implements RulePlugin {
     @Override
     public String name() { return "Forecast Ramp Rule"; }
 
+    @Override
+    public String contractVersion() { return CONTRACT_VERSION_V2; }
+
+    @Override
+    public Set<String> eventTypes() { return EVENT_TYPES; }
+
+    @Override
+    public Set<String> payloadKeys() { return PAYLOAD_KEYS; }
+
+    @Override
+    public void onLoad(PluginContext context) {
+        loadHistory = context.doubleWindows("loadMw", rampIntervals + 1);
+    }
+
     @Override
     public List<Alert> evaluate(GridOpsEvent event) {
-        List<Alert> alerts = new ArrayList<>();
-        if (!"forecast-ramp".equals(event.getEventType()) && !"load-forecast".equals(event.getEventType())) {
-            return alerts;
-        }
-        Double rampMw = event.getPayloadValue("rampMw", Double.class);
-        if (rampMw == null) rampMw = event.getPayloadValue("deltaLoadMw", Double.class);
-        if (rampMw == null) return alerts;
-        if (rampMw >= rampThresholdMw) {
-            alerts.add(new Alert(
-                ID,
-                "forecast-ramp-rule",
-                "MEDIUM",
-                "Forecast ramp exceeds threshold: " + rampMw + " MW >= " + rampThresholdMw + " MW",
-                Instant.now()));
+        return AlertSink.collect(event, this::evaluate);
+    }
+
+    /** The engine only routes {@link #eventTypes()} here; the check covers direct callers. */
+    @Override
+    public void evaluate(GridOpsEvent event, AlertSink sink) {
+        if (!EVENT_TYPES.contains(event.getEventType())) return;
+        double historyRampMw = recordLoad(event);
+        double rampMw = event.getDouble(RAMP_MW);
+        if (Double.isNaN(rampMw)) rampMw = event.getDouble(DELTA_LOAD_MW);
+        if (Double.isNaN(rampMw)) rampMw = historyRampMw;
+        if (Double.isNaN(rampMw) || rampMw < rampThresholdMw) return;
+        sink.accept(Alert.templated(
+            ID,
+            "forecast-ramp-rule",
+            "MEDIUM",
+            Instant.now(),
+            "Forecast ramp exceeds threshold: {} MW >= {} MW", rampMw, rampThresholdMw));
+    }
+
+    /** Append loadMw to the entity's history; returns the ramp over the full window, or NaN. */
+    private double recordLoad(GridOpsEvent event) {
+        KeyedWindows<DoubleRingBuffer> history = loadHistory;
+        if (history == null) return Double.NaN;
+        double loadMw = event.getDouble(LOAD_MW);
+        if (Double.isNaN(loadMw)) return Double.NaN;
+        DoubleRingBuffer window = history.get(KeyedWindows.entityKey(event));
+        synchronized (window) {
+            window.add(loadMw);
+            return window.isFull() ? window.last() - window.first() : Double.NaN;
         }
-        return alerts;
     }
 }
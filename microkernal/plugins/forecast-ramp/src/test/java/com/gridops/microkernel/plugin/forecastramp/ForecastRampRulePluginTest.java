@@ -4,6 +4,7 @@ import com.gridops.microkernel.core.alert.Alert;
 import com.gridops.microkernel.core.contract.RulePlugin;
 import com.gridops.microkernel.core.contract.RulePluginContractTest;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.PluginStateStore;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -41,4 +42,34 @@ class ForecastRampRulePluginTest extends RulePluginContractTest {
         assertTrue(alerts.get(0).getMessage().contains("500"));
         assertEquals(ForecastRampRulePlugin.ID, alerts.get(0).getPluginId());
     }
+
+    @Test
+    void evaluate_otherEventType_noAlert() {
+        ForecastRampRulePlugin plugin = new ForecastRampRulePlugin(500.0);
+        GridOpsEvent event = new GridOpsEvent("e1", "price", Instant.now(), Map.of("rampMw", 900.0));
+        assertTrue(plugin.evaluate(event).isEmpty());
+    }
+
+    @Test
+    void evaluate_loadHistory_computesRampOverLastIntervals() {
+        ForecastRampRulePlugin plugin = new ForecastRampRulePlugin(500.0, 4);
+        plugin.onLoad(new PluginStateStore());
+        double[] loads = {1000, 1100, 1200, 1300, 1450, 1400};
+        int fired = 0;
+        for (int i = 0; i < loads.length; i++) {
+            List<Alert> alerts = plugin.evaluate(new GridOpsEvent("e" + i, "load-forecast", Instant.now(),
+                Map.of("nodeId", "n1", "loadMw", loads[i])));
+            // Window of 5 loads: ramps 1000 -> 1450 (450) and 1100 -> 1400 (300) stay below 500
+            fired += alerts.size();
+        }
+        assertEquals(0, fired);
+
+        List<Alert> alerts = plugin.evaluate(new GridOpsEvent("e9", "load-forecast", Instant.now(),
+            Map.of("nodeId", "n1", "loadMw", 1800.0)));
+        assertEquals(1, alerts.size());
+        assertTrue(alerts.get(0).getMessage().contains("600.0 MW"));
+        // Other nodes keep their own history
+        assertTrue(plugin.evaluate(new GridOpsEvent("e10", "load-forecast", Instant.now(),
+            Map.of("nodeId", "n2", "loadMw", 5000.0))).isEmpty());
+    }
 }
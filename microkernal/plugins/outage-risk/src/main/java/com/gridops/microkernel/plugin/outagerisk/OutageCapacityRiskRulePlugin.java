@@ -1,29 +1,54 @@
 package com.gridops.microkernel.plugin.outagerisk;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.contract.AutoPluginFactory;
+import com.gridops.microkernel.core.contract.PluginContext;
 import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.EventBatch;
+import com.gridops.microkernel.core.event.FieldKey;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.event.RowMask;
+import com.gridops.microkernel.core.state.KeyedWindows;
+import com.gridops.microkernel.core.state.SustainedConditions;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Fires when reserve margin or outage-related capacity risk falls below threshold.
+ * Fires when reserve margin or outage-related capacity risk falls below threshold, and again
+ * (rule {@code outage-capacity-risk-sustained-rule}) once a node or zone has stayed below it for
+ * {@code sustainedFor} of event time without a reading back above.
  */
+@AutoPluginFactory(id = OutageCapacityRiskRulePlugin.ID)
 public final class OutageCapacityRiskRulePlugin implements RulePlugin {
 
     public static final String ID = "outage-capacity-risk";
     private static final double DEFAULT_MIN_RESERVE_MARGIN_PCT = 15.0;
+    private static final Duration DEFAULT_SUSTAINED_FOR = Duration.ofMinutes(10);
+    private static final Set<String> EVENT_TYPES = Set.of("outage-risk", "capacity");
+    private static final FieldKey RESERVE_MARGIN_PCT = FieldKey.of("reserveMarginPct");
+    private static final FieldKey RESERVE_MARGIN = FieldKey.of("reserveMargin");
+    private static final Set<String> PAYLOAD_KEYS = Set.of(RESERVE_MARGIN_PCT.name(), RESERVE_MARGIN.name());
 
     private final double minReserveMarginPct;
+    private final Duration sustainedFor;
+    private volatile SustainedConditions lowReserve;
 
     public OutageCapacityRiskRulePlugin() {
         this(DEFAULT_MIN_RESERVE_MARGIN_PCT);
     }
 
     public OutageCapacityRiskRulePlugin(double minReserveMarginPct) {
+        this(minReserveMarginPct, DEFAULT_SUSTAINED_FOR);
+    }
+
+    public OutageCapacityRiskRulePlugin(double minReserveMarginPct, Duration sustainedFor) {
         this.minReserveMarginPct = minReserveMarginPct;
+        this.sustainedFor = sustainedFor;
     }
 
     @Override
@@ -32,23 +57,105 @@ public final class OutageCapacityRiskRulePlugin implements RulePlugin {
     @Override
     public String name() { return "Outage Capacity Risk Rule"; }
 
+    @Override
+    public String contractVersion() { return CONTRACT_VERSION_V2; }
+
+    @Override
+    public Set<String> eventTypes() { return EVENT_TYPES; }
+
+    @Override
+    public Set<String> payloadKeys() { return PAYLOAD_KEYS; }
+
+    @Override
+    public void onLoad(PluginContext context) {
+        lowReserve = context.sustained("low-reserve", sustainedFor);
+    }
+
     @Override
     public List<Alert> evaluate(GridOpsEvent event) {
-        List<Alert> alerts = new ArrayList<>();
-        if (!"outage-risk".equals(event.getEventType()) && !"capacity".equals(event.getEventType())) {
-            return alerts;
+        return AlertSink.collect(event, this::evaluate);
+    }
+
+    /** The engine only routes {@link #eventTypes()} here; the check covers direct callers. */
+    @Override
+    public void evaluate(GridOpsEvent event, AlertSink sink) {
+        if (!EVENT_TYPES.contains(event.getEventType())) return;
+        double reserveMarginPct = event.getDouble(RESERVE_MARGIN_PCT);
+        if (Double.isNaN(reserveMarginPct)) reserveMarginPct = event.getDouble(RESERVE_MARGIN);
+        if (Double.isNaN(reserveMarginPct)) return;
+        boolean low = reserveMarginPct < minReserveMarginPct;
+        if (low) sink.accept(alert(reserveMarginPct));
+        observe(event, low, sink);
+    }
+
+    /**
+     * Columnar scan: mask the rows whose margin is below threshold, consulting the
+     * {@code reserveMargin} column only for rows without {@code reserveMarginPct}. A batch with
+     * other event types (only from direct callers) falls back to per-event evaluation.
+     */
+    @Override
+    public List<List<Alert>> evaluateBatch(EventBatch batch) {
+        for (GridOpsEvent event : batch.events()) {
+            if (!EVENT_TYPES.contains(event.getEventType())) return RulePlugin.super.evaluateBatch(batch);
+        }
+        double[] margin = batch.doubles(RESERVE_MARGIN_PCT);
+        long[] mask = RowMask.below(margin, minReserveMarginPct);
+        long[] missing = RowMask.missing(margin);
+        if (RowMask.count(missing) > 0) {
+            margin = margin.clone();
+            double[] fallback = batch.doubles(RESERVE_MARGIN);
+            for (int row = RowMask.next(missing, 0); row >= 0; row = RowMask.next(missing, row + 1)) {
+                margin[row] = fallback[row];
+            }
+            mask = RowMask.below(margin, minReserveMarginPct);
         }
-        Double reserveMarginPct = event.getPayloadValue("reserveMarginPct", Double.class);
-        if (reserveMarginPct == null) reserveMarginPct = event.getPayloadValue("reserveMargin", Double.class);
-        if (reserveMarginPct == null) return alerts;
-        if (reserveMarginPct < minReserveMarginPct) {
-            alerts.add(new Alert(
+        List<List<Alert>> results = new ArrayList<>(margin.length);
+        List<Alert> confirmed = new ArrayList<>(0);
+        AlertSink confirmedSink = confirmed::add;
+        int next = RowMask.next(mask, 0);
+        for (int row = 0; row < margin.length; row++) {
+            List<Alert> alerts = List.of();
+            boolean low = row == next;
+            if (low) {
+                alerts = List.of(alert(margin[row]));
+                next = RowMask.next(mask, row + 1);
+            }
+            if (!Double.isNaN(margin[row])) {
+                observe(batch.event(row), low, confirmedSink);
+                if (!confirmed.isEmpty()) {
+                    confirmed.addAll(0, alerts);
+                    alerts = List.copyOf(confirmed);
+                    confirmed.clear();
+                }
+            }
+            results.add(alerts);
+        }
+        return results;
+    }
+
+    /** Feeds the reading to the sustained condition and emits whatever it confirmed. */
+    private void observe(GridOpsEvent event, boolean low, AlertSink sink) {
+        SustainedConditions conditions = lowReserve;
+        if (conditions == null) return;
+        List<SustainedConditions.Confirmation> confirmed =
+            conditions.observe(KeyedWindows.entityKey(event), low, event.getTimestamp().toEpochMilli());
+        for (SustainedConditions.Confirmation c : confirmed) {
+            sink.accept(Alert.templated(
                 ID,
-                "outage-capacity-risk-rule",
+                "outage-capacity-risk-sustained-rule",
                 "HIGH",
-                "Reserve margin below threshold: " + reserveMarginPct + "% < " + minReserveMarginPct + "%",
-                Instant.now()));
+                Instant.ofEpochMilli(c.getConfirmedAtMillis()),
+                "Reserve margin below {}% for {} at {} (since {})",
+                minReserveMarginPct, sustainedFor, c.getKey(), Instant.ofEpochMilli(c.getSinceMillis())));
         }
-        return alerts;
+    }
+
+    private Alert alert(double reserveMarginPct) {
+        return Alert.templated(
+            ID,
+            "outage-capacity-risk-rule",
+            "HIGH",
+            Instant.now(),
+            "Reserve margin below threshold: {}% < {}%", reserveMarginPct, minReserveMarginPct);
     }
 }
@@ -3,9 +3,12 @@ package com.gridops.microkernel.plugin.outagerisk;
 import com.gridops.microkernel.core.alert.Alert;
 import com.gridops.microkernel.core.contract.RulePlugin;
 import com.gridops.microkernel.core.contract.RulePluginContractTest;
+import com.gridops.microkernel.core.event.EventBatch;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.PluginStateStore;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -41,4 +44,51 @@ class OutageCapacityRiskRulePluginTest extends RulePluginContractTest {
         assertTrue(alerts.get(0).getMessage().contains("12"));
         assertEquals(OutageCapacityRiskRulePlugin.ID, alerts.get(0).getPluginId());
     }
+
+    @Test
+    void evaluate_otherEventType_noAlert() {
+        OutageCapacityRiskRulePlugin plugin = new OutageCapacityRiskRulePlugin(15.0);
+        GridOpsEvent price = new GridOpsEvent("e1", "price", Instant.now(), Map.of("reserveMarginPct", 5.0));
+        GridOpsEvent outage = new GridOpsEvent("e2", "outage-risk", Instant.now(), Map.of("reserveMarginPct", 5.0));
+        assertTrue(plugin.evaluate(price).isEmpty());
+        List<List<Alert>> results = plugin.evaluateBatch(new EventBatch(List.of(price, outage)));
+        assertEquals(0, results.get(0).size());
+        assertEquals(1, results.get(1).size());
+    }
+
+    @Test
+    void sustainedRule_firesOnceAfterHoldPeriod_andResetsWhenMarginRecovers() {
+        OutageCapacityRiskRulePlugin plugin = new OutageCapacityRiskRulePlugin(15.0, Duration.ofMinutes(10));
+        plugin.onLoad(new PluginStateStore());
+        Instant t0 = Instant.parse("2025-02-21T12:00:00Z");
+
+        assertEquals(List.of(INSTANT), ruleIds(plugin.evaluate(reading("Z1", 10.0, t0))));
+        assertEquals(List.of(INSTANT), ruleIds(plugin.evaluate(reading("Z1", 12.0, t0.plusSeconds(300)))));
+        // Z2 recovers within the window: its timer is cancelled
+        plugin.evaluate(reading("Z2", 9.0, t0.plusSeconds(60)));
+        plugin.evaluate(reading("Z2", 18.0, t0.plusSeconds(120)));
+
+        // Another zone's reading moves event time past Z1's deadline
+        List<Alert> alerts = plugin.evaluate(reading("Z3", 30.0, t0.plusSeconds(605)));
+        assertEquals(List.of(SUSTAINED), ruleIds(alerts));
+        assertTrue(alerts.get(0).getMessage().contains("Z1"), alerts.get(0).getMessage());
+        assertEquals(List.of(INSTANT), ruleIds(plugin.evaluate(reading("Z1", 11.0, t0.plusSeconds(900)))));
+
+        // Recovery clears the condition, so a new dip needs a new full hold period
+        plugin.evaluate(reading("Z1", 20.0, t0.plusSeconds(960)));
+        plugin.evaluate(reading("Z1", 10.0, t0.plusSeconds(1000)));
+        assertEquals(List.of(INSTANT), ruleIds(plugin.evaluate(reading("Z1", 10.0, t0.plusSeconds(1500)))));
+        assertEquals(List.of(INSTANT, SUSTAINED), ruleIds(plugin.evaluate(reading("Z1", 10.0, t0.plusSeconds(1605)))));
+    }
+
+    private static final String INSTANT = "outage-capacity-risk-rule";
+    private static final String SUSTAINED = "outage-capacity-risk-sustained-rule";
+
+    private static GridOpsEvent reading(String zone, double reserveMarginPct, Instant at) {
+        return new GridOpsEvent("e-" + zone, "outage-risk", at, Map.of("zone", zone, "reserveMarginPct", reserveMarginPct));
+    }
+
+    private static List<String> ruleIds(List<Alert> alerts) {
+        return alerts.stream().map(Alert::getRuleId).toList();
+    }
 }
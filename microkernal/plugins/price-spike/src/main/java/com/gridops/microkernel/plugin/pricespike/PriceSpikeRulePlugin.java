@@ -1,29 +1,53 @@
 package com.gridops.microkernel.plugin.pricespike;
 
 import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.contract.AutoPluginFactory;
+import com.gridops.microkernel.core.contract.PluginContext;
 import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.FieldKey;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.DoubleRingBuffer;
+import com.gridops.microkernel.core.state.KeyedWindows;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Fires when price exceeds a threshold (e.g. price spike in energy market).
+ *
+ * When loaded by the engine it also keeps the last {@code averageWindow} prices per node
+ * (or zone) and fires a relative spike when a price reaches {@code relativeFactor} times
+ * their average, e.g. 2x the 15-interval average.
  */
+@AutoPluginFactory(id = PriceSpikeRulePlugin.ID)
 public final class PriceSpikeRulePlugin implements RulePlugin {
 
     public static final String ID = "price-spike";
     private static final double DEFAULT_THRESHOLD = 150.0;
+    private static final double DEFAULT_RELATIVE_FACTOR = 2.0;
+    private static final int DEFAULT_AVERAGE_WINDOW = 15;
+    private static final FieldKey PRICE = FieldKey.of("price");
+    private static final Set<String> PAYLOAD_KEYS = Set.of(PRICE.name());
 
     private final double threshold;
+    private final double relativeFactor;
+    private final int averageWindow;
+    private KeyedWindows<DoubleRingBuffer> priceHistory;
 
     public PriceSpikeRulePlugin() {
         this(DEFAULT_THRESHOLD);
     }
 
     public PriceSpikeRulePlugin(double threshold) {
+        this(threshold, DEFAULT_RELATIVE_FACTOR, DEFAULT_AVERAGE_WINDOW);
+    }
+
+    public PriceSpikeRulePlugin(double threshold, double relativeFactor, int averageWindow) {
         this.threshold = threshold;
+        this.relativeFactor = relativeFactor;
+        this.averageWindow = averageWindow;
     }
 
     @Override
@@ -32,19 +56,50 @@ public final class PriceSpikeRulePlugin implements RulePlugin {
     @Override
     public String name() { return "Price Spike Rule"; }
 
+    @Override
+    public String contractVersion() { return CONTRACT_VERSION_V2; }
+
+    /** Any event type carrying a price. */
+    @Override
+    public Set<String> payloadKeys() { return PAYLOAD_KEYS; }
+
+    @Override
+    public void onLoad(PluginContext context) {
+        priceHistory = context.doubleWindows("price", averageWindow);
+    }
+
     @Override
     public List<Alert> evaluate(GridOpsEvent event) {
-        List<Alert> alerts = new ArrayList<>();
-        Double price = event.getPayloadValue("price", Double.class);
-        if (price == null) return alerts;
+        return AlertSink.collect(event, this::evaluate);
+    }
+
+    @Override
+    public void evaluate(GridOpsEvent event, AlertSink sink) {
+        double price = event.getDouble(PRICE);
+        if (Double.isNaN(price)) return;
         if (price >= threshold) {
-            alerts.add(new Alert(
+            sink.accept(Alert.templated(
                 ID,
                 "price-spike-rule",
                 "HIGH",
-                "Price spike detected: " + price + " >= " + threshold,
-                Instant.now()));
+                Instant.now(),
+                "Price spike detected: {} >= {}", price, threshold));
+        }
+        KeyedWindows<DoubleRingBuffer> history = priceHistory;
+        if (history == null) return;
+        DoubleRingBuffer window = history.get(KeyedWindows.entityKey(event));
+        double average;
+        synchronized (window) {
+            average = window.isFull() ? window.mean() : Double.NaN;
+            window.add(price);
+        }
+        if (average > 0 && price >= relativeFactor * average) {
+            sink.accept(Alert.templated(
+                ID,
+                "price-spike-relative-rule",
+                "HIGH",
+                Instant.now(),
+                "Price spike detected: {} >= {}x the {}-interval average {}", price, relativeFactor, averageWindow, average));
         }
-        return alerts;
     }
 }
@@ -4,6 +4,7 @@ import com.gridops.microkernel.core.alert.Alert;
 import com.gridops.microkernel.core.contract.RulePlugin;
 import com.gridops.microkernel.core.contract.RulePluginContractTest;
 import com.gridops.microkernel.core.event.GridOpsEvent;
+import com.gridops.microkernel.core.state.PluginStateStore;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
@@ -49,4 +50,30 @@ class PriceSpikeRulePluginTest extends RulePluginContractTest {
         assertTrue(alerts.get(0).getMessage().contains("150"));
         assertEquals(PriceSpikeRulePlugin.ID, alerts.get(0).getPluginId());
     }
+
+    @Test
+    void evaluate_priceAboveMultipleOfRecentAverage_firesRelativeAlert() {
+        PriceSpikeRulePlugin plugin = new PriceSpikeRulePlugin(1000.0, 2.0, 3);
+        plugin.onLoad(new PluginStateStore());
+        for (double price : new double[] {40, 50, 60}) {
+            assertTrue(plugin.evaluate(priceAt("n1", price)).isEmpty());
+        }
+        assertTrue(plugin.evaluate(priceAt("n1", 90)).isEmpty(), "90 < 2 x 50");
+        List<Alert> alerts = plugin.evaluate(priceAt("n1", 140));
+        assertEquals(1, alerts.size());
+        assertEquals("price-spike-relative-rule", alerts.get(0).getRuleId());
+        // A node without enough history does not fire
+        assertTrue(plugin.evaluate(priceAt("n2", 500)).isEmpty());
+    }
+
+    @Test
+    void evaluate_withoutEngineState_onlyAbsoluteRuleApplies() {
+        PriceSpikeRulePlugin plugin = new PriceSpikeRulePlugin(1000.0, 2.0, 1);
+        assertTrue(plugin.evaluate(priceAt("n1", 10)).isEmpty());
+        assertTrue(plugin.evaluate(priceAt("n1", 100)).isEmpty());
+    }
+
+    private static GridOpsEvent priceAt(String nodeId, double price) {
+        return new GridOpsEvent("e", "price", Instant.now(), Map.of("nodeId", nodeId, "price", price));
+    }
 }
@@ -0,0 +1,29 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+/** Threshold comparison: a rule is crossed when {@code value <op> threshold} holds. */
+public enum Comparison {
+    GT(">"), GE(">="), LT("<"), LE("<=");
+
+    private final String symbol;
+
+    Comparison(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String symbol() { return symbol; }
+
+    /** True for {@code >} and {@code >=} (rule fires above the threshold). */
+    boolean above() { return this == GT || this == GE; }
+
+    /** True for {@code >=} and {@code <=} (rule fires at the threshold itself). */
+    boolean inclusive() { return this == GE || this == LE; }
+
+    /** Parses {@code > >= < <=} or {@code gt ge lt le}. */
+    public static Comparison parse(String s) {
+        String t = s == null ? "" : s.trim();
+        for (Comparison c : values()) {
+            if (c.symbol.equals(t) || c.name().equalsIgnoreCase(t)) return c;
+        }
+        throw new IllegalArgumentException("Unknown comparator: '" + s + "'. Valid: > >= < <=");
+    }
+}
@@ -0,0 +1,198 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.event.FieldKey;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Threshold rules compiled for lookup instead of a linear walk.
+ *
+ * Rules are grouped by scope. Scopes that constrain the same payload keys (e.g. every
+ * {@code zone=...} rule) form one dimension with a hash map from the event's values to its
+ * group, so an event costs one lookup per dimension regardless of how many zones or nodes
+ * have rules. Within a group, each field holds two threshold arrays sorted ascending: rules
+ * that fire above ({@code > >=}) and below ({@code < <=}) the threshold. One binary search
+ * per array bounds the contiguous range of crossed rules.
+ */
+public final class CompiledRuleSet {
+
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final Dimension[] dimensions;
+    private final Set<String> fields;
+    private final int ruleCount;
+
+    private CompiledRuleSet(Dimension[] dimensions, Set<String> fields, int ruleCount) {
+        this.dimensions = dimensions;
+        this.fields = fields;
+        this.ruleCount = ruleCount;
+    }
+
+    public static CompiledRuleSet compile(List<ThresholdRule> rules) {
+        // scope keys (sorted) -> scope values -> field -> rules
+        Map<List<String>, Map<String, Map<String, List<ThresholdRule>>>> grouped = new LinkedHashMap<>();
+        Set<String> fields = new LinkedHashSet<>();
+        for (ThresholdRule rule : rules) {
+            List<String> keys = new ArrayList<>(rule.getScope().keySet());
+            keys.sort(null);
+            String[] values = new String[keys.size()];
+            for (int i = 0; i < values.length; i++) values[i] = rule.getScope().get(keys.get(i));
+            grouped.computeIfAbsent(List.copyOf(keys), k -> new HashMap<>())
+                .computeIfAbsent(String.join(KEY_SEPARATOR, values), k -> new LinkedHashMap<>())
+                .computeIfAbsent(rule.getField(), k -> new ArrayList<>())
+                .add(rule);
+            fields.add(rule.getField());
+        }
+
+        List<Dimension> dimensions = new ArrayList<>();
+        for (Map.Entry<List<String>, Map<String, Map<String, List<ThresholdRule>>>> dim : grouped.entrySet()) {
+            Map<String, FieldIndex[]> groups = new HashMap<>();
+            for (Map.Entry<String, Map<String, List<ThresholdRule>>> group : dim.getValue().entrySet()) {
+                List<FieldIndex> indexes = new ArrayList<>();
+                for (Map.Entry<String, List<ThresholdRule>> field : group.getValue().entrySet()) {
+                    indexes.add(new FieldIndex(FieldKey.of(field.getKey()), field.getValue()));
+                }
+                groups.put(group.getKey(), indexes.toArray(new FieldIndex[0]));
+            }
+            dimensions.add(new Dimension(dim.getKey().toArray(new String[0]), Map.copyOf(groups)));
+        }
+        // Unscoped rules first, then narrower scopes
+        dimensions.sort((a, b) -> Integer.compare(a.keys.length, b.keys.length));
+        return new CompiledRuleSet(dimensions.toArray(new Dimension[0]), Set.copyOf(fields), rules.size());
+    }
+
+    /** Payload fields referenced by any rule. */
+    public Set<String> fields() {
+        return fields;
+    }
+
+    public int size() {
+        return ruleCount;
+    }
+
+    /** Emit one alert per crossed rule whose scope matches the event. */
+    public void evaluate(GridOpsEvent event, String pluginId, AlertSink sink) {
+        Map<String, Object> payload = event.getPayload();
+        for (Dimension dimension : dimensions) {
+            FieldIndex[] group = dimension.groupFor(payload);
+            if (group == null) continue;
+            for (FieldIndex index : group) {
+                double value = event.getDouble(index.key);
+                if (!Double.isNaN(value)) index.emitCrossed(value, pluginId, sink);
+            }
+        }
+    }
+
+    /** Rules sharing the same set of scope keys; groups keyed by the joined scope values. */
+    private static final class Dimension {
+        final String[] keys;
+        final Map<String, FieldIndex[]> groups;
+
+        Dimension(String[] keys, Map<String, FieldIndex[]> groups) {
+            this.keys = keys;
+            this.groups = groups;
+        }
+
+        FieldIndex[] groupFor(Map<String, Object> payload) {
+            if (keys.length == 0) return groups.get("");
+            if (keys.length == 1) {
+                Object v = payload.get(keys[0]);
+                return v != null ? groups.get(v.toString()) : null;
+            }
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < keys.length; i++) {
+                Object v = payload.get(keys[i]);
+                if (v == null) return null;
+                if (i > 0) sb.append(KEY_SEPARATOR);
+                sb.append(v);
+            }
+            return groups.get(sb.toString());
+        }
+    }
+
+    /** Sorted thresholds for one field within one scope group. */
+    static final class FieldIndex {
+        final FieldKey key;
+        private final double[] aboveValues;
+        private final ThresholdRule[] aboveRules;
+        private final double[] belowValues;
+        private final ThresholdRule[] belowRules;
+
+        FieldIndex(FieldKey key, List<ThresholdRule> rules) {
+            this.key = key;
+            List<ThresholdRule> above = new ArrayList<>();
+            List<ThresholdRule> below = new ArrayList<>();
+            for (ThresholdRule rule : rules) {
+                (rule.getComparison().above() ? above : below).add(rule);
+            }
+            Comparator<ThresholdRule> byValue = Comparator.comparingDouble(ThresholdRule::getValue);
+            above.sort(byValue);
+            below.sort(byValue);
+            this.aboveRules = above.toArray(new ThresholdRule[0]);
+            this.belowRules = below.toArray(new ThresholdRule[0]);
+            this.aboveValues = values(aboveRules);
+            this.belowValues = values(belowRules);
+        }
+
+        void emitCrossed(double value, String pluginId, AlertSink sink) {
+            // Above rules: every threshold < value fires; thresholds == value fire for >=
+            int lo = lowerBound(aboveValues, value);
+            int hi = upperBound(aboveValues, value, lo);
+            for (int i = 0; i < lo; i++) emit(aboveRules[i], value, pluginId, sink);
+            for (int i = lo; i < hi; i++) {
+                if (aboveRules[i].getComparison().inclusive()) emit(aboveRules[i], value, pluginId, sink);
+            }
+            // Below rules: every threshold > value fires; thresholds == value fire for <=
+            lo = lowerBound(belowValues, value);
+            hi = upperBound(belowValues, value, lo);
+            for (int i = lo; i < hi; i++) {
+                if (belowRules[i].getComparison().inclusive()) emit(belowRules[i], value, pluginId, sink);
+            }
+            for (int i = hi; i < belowRules.length; i++) emit(belowRules[i], value, pluginId, sink);
+        }
+
+        private static void emit(ThresholdRule rule, double value, String pluginId, AlertSink sink) {
+            sink.accept(Alert.templated(pluginId, rule.getId(), rule.getSeverity(), Instant.now(),
+                "{} {} {} {}", rule.getField(), value, rule.getComparison().symbol(), rule.getValue()));
+        }
+
+        private static double[] values(ThresholdRule[] rules) {
+            double[] values = new double[rules.length];
+            for (int i = 0; i < rules.length; i++) values[i] = rules[i].getValue();
+            return values;
+        }
+
+        /** First index with a[i] >= x. */
+        private static int lowerBound(double[] a, double x) {
+            int lo = 0;
+            int hi = a.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (a[mid] < x) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+
+        /** First index at or after {@code from} with a[i] > x. */
+        private static int upperBound(double[] a, double x, int from) {
+            int lo = from;
+            int hi = a.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (a[mid] <= x) lo = mid + 1; else hi = mid;
+            }
+            return lo;
+        }
+    }
+}
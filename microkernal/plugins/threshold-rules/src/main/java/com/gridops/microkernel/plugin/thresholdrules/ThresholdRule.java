@@ -0,0 +1,39 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+import java.util.Map;
+
+/**
+ * One declarative threshold: fires when numeric payload {@code field} compares against
+ * {@code value} with {@code comparison}, for events whose payload matches every scope entry
+ * (empty scope = all events).
+ */
+public final class ThresholdRule {
+
+    private final String id;
+    private final String field;
+    private final Comparison comparison;
+    private final double value;
+    private final String severity;
+    private final Map<String, String> scope;
+
+    public ThresholdRule(String id, String field, Comparison comparison, double value, String severity,
+                         Map<String, String> scope) {
+        if (id == null || id.isBlank()) throw new IllegalArgumentException("rule id is required");
+        if (field == null || field.isBlank()) throw new IllegalArgumentException("field is required for rule " + id);
+        if (comparison == null) throw new IllegalArgumentException("comparison is required for rule " + id);
+        if (Double.isNaN(value)) throw new IllegalArgumentException("value must be a number for rule " + id);
+        this.id = id;
+        this.field = field;
+        this.comparison = comparison;
+        this.value = value;
+        this.severity = severity != null && !severity.isBlank() ? severity : "MEDIUM";
+        this.scope = scope != null ? Map.copyOf(scope) : Map.of();
+    }
+
+    public String getId() { return id; }
+    public String getField() { return field; }
+    public Comparison getComparison() { return comparison; }
+    public double getValue() { return value; }
+    public String getSeverity() { return severity; }
+    public Map<String, String> getScope() { return scope; }
+}
@@ -0,0 +1,90 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads threshold rules from CSV: {@code id,field,comparator,value,severity,scope}.
+ * Blank lines, {@code #} comments and an {@code id,...} header are skipped. Scope is {@code *}
+ * (or empty) for all events, or {@code key=value} pairs joined by {@code ;}.
+ */
+public final class ThresholdRuleFile {
+
+    private ThresholdRuleFile() {}
+
+    public static List<ThresholdRule> load(Path path) {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read threshold rules from " + path, e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException with the line number for malformed lines or duplicate rule ids
+     */
+    public static List<ThresholdRule> parse(Reader reader) throws IOException {
+        BufferedReader in = reader instanceof BufferedReader b ? b : new BufferedReader(reader);
+        List<ThresholdRule> rules = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
+        String line;
+        int lineNo = 0;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) continue;
+            if (rules.isEmpty() && trimmed.regionMatches(true, 0, "id,", 0, 3)) continue;
+            ThresholdRule rule;
+            try {
+                rule = parseLine(trimmed);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("line " + lineNo + ": " + e.getMessage(), e);
+            }
+            if (!ids.add(rule.getId())) {
+                throw new IllegalArgumentException("line " + lineNo + ": duplicate rule id " + rule.getId());
+            }
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    private static ThresholdRule parseLine(String line) {
+        String[] cols = line.split(",", -1);
+        if (cols.length < 4 || cols.length > 6) {
+            throw new IllegalArgumentException("expected id,field,comparator,value[,severity[,scope]]");
+        }
+        double value;
+        try {
+            value = Double.parseDouble(cols[3].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("value is not a number: '" + cols[3].trim() + "'");
+        }
+        String severity = cols.length > 4 ? cols[4].trim() : null;
+        Map<String, String> scope = cols.length > 5 ? parseScope(cols[5].trim()) : Map.of();
+        return new ThresholdRule(cols[0].trim(), cols[1].trim(), Comparison.parse(cols[2]), value, severity, scope);
+    }
+
+    private static Map<String, String> parseScope(String s) {
+        if (s.isEmpty() || s.equals("*")) return Map.of();
+        Map<String, String> scope = new LinkedHashMap<>();
+        for (String part : s.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0 || eq == part.length() - 1) {
+                throw new IllegalArgumentException("scope entry must be key=value: '" + part + "'");
+            }
+            scope.put(part.substring(0, eq).trim(), part.substring(eq + 1).trim());
+        }
+        return scope;
+    }
+}
@@ -0,0 +1,87 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.contract.AutoPluginFactory;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Evaluates declarative threshold rules (field, comparator, value, severity, scope) loaded from
+ * a CSV file, compiled into sorted per-field indexes ({@link CompiledRuleSet}). Each crossed rule
+ * emits one alert whose ruleId is the rule id.
+ *
+ * Rules come from the file named by the {@code gridops.threshold-rules.file} system property,
+ * or the {@code threshold-rules.csv} resource bundled with the plugin.
+ */
+@AutoPluginFactory(id = ThresholdRulesPlugin.ID)
+public final class ThresholdRulesPlugin implements RulePlugin {
+
+    public static final String ID = "threshold-rules";
+    public static final String RULES_FILE_PROPERTY = "gridops.threshold-rules.file";
+    private static final String DEFAULT_RULES_RESOURCE = "/threshold-rules.csv";
+
+    private final CompiledRuleSet rules;
+
+    public ThresholdRulesPlugin() {
+        this(loadConfiguredRules());
+    }
+
+    public ThresholdRulesPlugin(List<ThresholdRule> rules) {
+        this(CompiledRuleSet.compile(rules));
+    }
+
+    public ThresholdRulesPlugin(CompiledRuleSet rules) {
+        this.rules = rules;
+    }
+
+    @Override
+    public String id() { return ID; }
+
+    @Override
+    public String name() { return "Threshold Rules"; }
+
+    @Override
+    public String contractVersion() { return CONTRACT_VERSION_V2; }
+
+    /** Any event carrying a field that some rule tests. */
+    @Override
+    public Set<String> payloadKeys() { return rules.fields(); }
+
+    /** Number of compiled rules. */
+    public int ruleCount() {
+        return rules.size();
+    }
+
+    @Override
+    public List<Alert> evaluate(GridOpsEvent event) {
+        return AlertSink.collect(event, this::evaluate);
+    }
+
+    @Override
+    public void evaluate(GridOpsEvent event, AlertSink sink) {
+        rules.evaluate(event, ID, sink);
+    }
+
+    private static List<ThresholdRule> loadConfiguredRules() {
+        String file = System.getProperty(RULES_FILE_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            return ThresholdRuleFile.load(Path.of(file));
+        }
+        try (InputStream in = ThresholdRulesPlugin.class.getResourceAsStream(DEFAULT_RULES_RESOURCE)) {
+            if (in == null) return List.of();
+            return ThresholdRuleFile.parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + DEFAULT_RULES_RESOURCE, e);
+        }
+    }
+}
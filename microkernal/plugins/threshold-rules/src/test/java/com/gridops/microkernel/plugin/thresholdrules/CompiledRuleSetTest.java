@@ -0,0 +1,92 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.AlertSink;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledRuleSetTest {
+
+    @Test
+    void boundaries_respectStrictAndInclusiveComparisons() {
+        CompiledRuleSet set = CompiledRuleSet.compile(List.of(
+            rule("gt", Comparison.GT, 100), rule("ge", Comparison.GE, 100),
+            rule("lt", Comparison.LT, 100), rule("le", Comparison.LE, 100)));
+        assertEquals(Set.of("ge", "le"), fired(set, Map.of("price", 100.0)));
+        assertEquals(Set.of("gt", "ge"), fired(set, Map.of("price", 100.5)));
+        assertEquals(Set.of("lt", "le"), fired(set, Map.of("price", 99)));
+        assertEquals(Set.of(), fired(set, Map.of("other", 1)));
+    }
+
+    @Test
+    void indexedLookup_matchesLinearScanOverManyRules() {
+        Random random = new Random(42);
+        List<ThresholdRule> rules = new ArrayList<>();
+        String[] zones = {"NORTH", "SOUTH", "EAST"};
+        for (int i = 0; i < 3000; i++) {
+            Comparison op = Comparison.values()[random.nextInt(4)];
+            Map<String, String> scope = new HashMap<>();
+            int s = random.nextInt(4);
+            if (s == 1 || s == 3) scope.put("zone", zones[random.nextInt(zones.length)]);
+            if (s >= 2) scope.put("nodeId", "n" + random.nextInt(20));
+            String field = random.nextBoolean() ? "price" : "loadMw";
+            rules.add(new ThresholdRule("r" + i, field, op, random.nextInt(500), "LOW", scope));
+        }
+        CompiledRuleSet set = CompiledRuleSet.compile(rules);
+        assertEquals(Set.of("price", "loadMw"), set.fields());
+
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("price", (double) random.nextInt(520) - 10);
+            if (random.nextBoolean()) payload.put("loadMw", random.nextInt(500));
+            if (random.nextBoolean()) payload.put("zone", zones[random.nextInt(zones.length)]);
+            if (random.nextBoolean()) payload.put("nodeId", "n" + random.nextInt(20));
+            assertEquals(linearScan(rules, payload), fired(set, payload), "payload " + payload);
+        }
+    }
+
+    private static Set<String> linearScan(List<ThresholdRule> rules, Map<String, Object> payload) {
+        Set<String> ids = new TreeSet<>();
+        for (ThresholdRule rule : rules) {
+            if (!(payload.get(rule.getField()) instanceof Number n)) continue;
+            boolean inScope = rule.getScope().entrySet().stream()
+                .allMatch(e -> e.getValue().equals(String.valueOf(payload.get(e.getKey()))));
+            if (inScope && crosses(rule, n.doubleValue())) ids.add(rule.getId());
+        }
+        return ids;
+    }
+
+    /** Reference evaluation of a single rule, independent of the compiled index. */
+    private static boolean crosses(ThresholdRule rule, double value) {
+        switch (rule.getComparison()) {
+            case GT: return value > rule.getValue();
+            case GE: return value >= rule.getValue();
+            case LT: return value < rule.getValue();
+            default: return value <= rule.getValue();
+        }
+    }
+
+    private static Set<String> fired(CompiledRuleSet set, Map<String, Object> payload) {
+        List<Alert> alerts = new ArrayList<>();
+        AlertSink sink = alerts::add;
+        set.evaluate(new GridOpsEvent("e", "x", Instant.now(), payload), "p", sink);
+        Set<String> ids = new TreeSet<>();
+        for (Alert alert : alerts) assertTrue(ids.add(alert.getRuleId()), "rule fired twice: " + alert.getRuleId());
+        return ids;
+    }
+
+    private static ThresholdRule rule(String id, Comparison op, double value) {
+        return new ThresholdRule(id, "price", op, value, "HIGH", Map.of());
+    }
+}
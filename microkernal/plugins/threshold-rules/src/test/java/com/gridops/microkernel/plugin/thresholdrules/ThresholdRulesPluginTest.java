@@ -0,0 +1,63 @@
+package com.gridops.microkernel.plugin.thresholdrules;
+
+import com.gridops.microkernel.core.alert.Alert;
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.contract.RulePluginContractTest;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThresholdRulesPluginTest extends RulePluginContractTest {
+
+    @Override
+    protected RulePlugin createPlugin() {
+        return new ThresholdRulesPlugin();
+    }
+
+    @Override
+    protected GridOpsEvent eventThatMayTrigger(RulePlugin plugin) {
+        return new GridOpsEvent("e1", "price", Instant.now(), Map.of("price", 450.0));
+    }
+
+    @Test
+    void defaultRules_areLoadedFromBundledFile() {
+        ThresholdRulesPlugin plugin = new ThresholdRulesPlugin();
+        assertEquals(4, plugin.ruleCount());
+        List<Alert> alerts = plugin.evaluate(eventThatMayTrigger(plugin));
+        assertEquals(1, alerts.size());
+        assertEquals("price-high", alerts.get(0).getRuleId());
+        assertEquals("price 450.0 >= 300.0", alerts.get(0).getMessage());
+    }
+
+    @Test
+    void scopedRules_onlyFireForMatchingPayload() {
+        ThresholdRulesPlugin plugin = new ThresholdRulesPlugin();
+        assertEquals(List.of("reserve-low-north"), ruleIds(plugin.evaluate(
+            new GridOpsEvent("e1", "capacity", Instant.now(), Map.of("zone", "NORTH", "reserveMarginPct", 15)))));
+        assertTrue(plugin.evaluate(
+            new GridOpsEvent("e2", "capacity", Instant.now(), Map.of("zone", "SOUTH", "reserveMarginPct", 15))).isEmpty());
+        assertTrue(plugin.evaluate(
+            new GridOpsEvent("e3", "capacity", Instant.now(), Map.of("reserveMarginPct", 1))).isEmpty());
+    }
+
+    @Test
+    void parse_rejectsMalformedLinesWithLineNumber() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+            () -> ThresholdRuleFile.parse(new StringReader("id,field,comparator,value,severity,scope\nr1,price,~,5\n")));
+        assertTrue(e.getMessage().startsWith("line 2:"));
+        assertThrows(IllegalArgumentException.class,
+            () -> ThresholdRuleFile.parse(new StringReader("r1,price,>,5\nr1,price,<,1\n")));
+        assertThrows(IllegalArgumentException.class,
+            () -> ThresholdRuleFile.parse(new StringReader("r1,price,>,abc\n")));
+    }
+
+    private static List<String> ruleIds(List<Alert> alerts) {
+        return alerts.stream().map(Alert::getRuleId).toList();
+    }
+}
@@ -0,0 +1,114 @@
+package com.gridops.microkernel.replay;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.gridops.microkernel.core.event.GridOpsEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Turns one recorded line into a {@link GridOpsEvent}. A parser instance is used for one file
+ * by the single reader thread, so implementations may keep per-file state (the CSV header).
+ */
+abstract class EventLineParser {
+
+    /** @return the event, or null if the line carries none (e.g. a CSV header) */
+    abstract GridOpsEvent parse(byte[] line, int length, long lineNumber) throws IOException;
+
+    static EventLineParser forFormat(String format, ObjectMapper mapper) {
+        return switch (format) {
+            case "ndjson" -> new Ndjson(mapper);
+            case "csv" -> new Csv();
+            default -> throw new IllegalArgumentException("Unknown format: '" + format + "'. Valid values: ndjson, csv");
+        };
+    }
+
+    static Instant parseTimestamp(Object value) {
+        if (!(value instanceof String s) || s.isBlank()) return null;
+        try {
+            return Instant.parse(s);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * One JSON object per line, in the {@code POST /api/evaluate} shape:
+     * {@code {"eventId": ..., "eventType": ..., "timestamp": ..., "payload": {...}}}.
+     */
+    static final class Ndjson extends EventLineParser {
+        private final ObjectReader reader;
+
+        Ndjson(ObjectMapper mapper) {
+            this.reader = mapper.readerFor(Map.class);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        GridOpsEvent parse(byte[] line, int length, long lineNumber) throws IOException {
+            Map<String, Object> json = reader.readValue(line, 0, length);
+            Object eventId = json.get("eventId");
+            Object eventType = json.get("eventType");
+            Object payload = json.get("payload");
+            return new GridOpsEvent(
+                eventId != null ? eventId.toString() : "line-" + lineNumber,
+                eventType != null ? eventType.toString() : "unknown",
+                parseTimestamp(json.get("timestamp")),
+                payload instanceof Map ? (Map<String, Object>) payload : Map.of());
+        }
+    }
+
+    /**
+     * Comma-separated values with a header line. The {@code eventId}, {@code eventType} and
+     * {@code timestamp} columns fill the event fields; every other column becomes a payload entry
+     * (integers as Long, decimals as Double, anything else as String; empty cells are omitted).
+     * Quoted fields are not supported.
+     */
+    static final class Csv extends EventLineParser {
+        private String[] header;
+
+        @Override
+        GridOpsEvent parse(byte[] line, int length, long lineNumber) {
+            String[] cells = new String(line, 0, length, StandardCharsets.UTF_8).split(",", -1);
+            if (header == null) {
+                header = cells;
+                for (int i = 0; i < header.length; i++) header[i] = header[i].trim();
+                return null;
+            }
+            String eventId = null;
+            String eventType = null;
+            Instant timestamp = null;
+            Map<String, Object> payload = new HashMap<>();
+            for (int i = 0; i < cells.length && i < header.length; i++) {
+                String cell = cells[i].trim();
+                if (cell.isEmpty()) continue;
+                switch (header[i]) {
+                    case "eventId" -> eventId = cell;
+                    case "eventType" -> eventType = cell;
+                    case "timestamp" -> timestamp = parseTimestamp(cell);
+                    default -> payload.put(header[i], parseValue(cell));
+                }
+            }
+            return new GridOpsEvent(eventId != null ? eventId : "line-" + lineNumber,
+                eventType != null ? eventType : "unknown", timestamp, payload);
+        }
+
+        private static Object parseValue(String cell) {
+            try {
+                return Long.parseLong(cell);
+            } catch (NumberFormatException ignored) {
+                // not an integer
+            }
+            try {
+                return Double.parseDouble(cell);
+            } catch (NumberFormatException ignored) {
+                return cell;
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.gridops.microkernel.replay;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Splits a file into lines through memory-mapped regions instead of a buffered reader: the OS pages
+ * the file in directly and no decoding happens until a parser looks at a line. Files larger than
+ * one mapping (2 GB limit) are mapped region by region; a line crossing a region boundary is
+ * stitched together in the line buffer.
+ */
+final class MappedLines {
+
+    /** Receives each non-blank line; {@code line} is reused, so copy what must outlive the call. */
+    interface LineHandler {
+        void line(byte[] line, int length, long lineNumber);
+    }
+
+    static final long REGION_SIZE = 256L << 20;
+
+    private MappedLines() {}
+
+    static void forEach(Path file, LineHandler handler) throws IOException {
+        forEach(file, REGION_SIZE, handler);
+    }
+
+    static void forEach(Path file, long regionSize, LineHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            byte[] line = new byte[4096];
+            int length = 0;
+            long lineNumber = 0;
+            for (long position = 0; position < size; position += regionSize) {
+                int regionLength = (int) Math.min(regionSize, size - position);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, regionLength);
+                for (int i = 0; i < regionLength; i++) {
+                    byte b = region.get(i);
+                    if (b == '\n') {
+                        emit(handler, line, length, ++lineNumber);
+                        length = 0;
+                    } else {
+                        if (length == line.length) line = Arrays.copyOf(line, line.length * 2);
+                        line[length++] = b;
+                    }
+                }
+            }
+            if (length > 0) emit(handler, line, length, ++lineNumber);
+        }
+    }
+
+    private static void emit(LineHandler handler, byte[] line, int length, long lineNumber) {
+        if (length > 0 && line[length - 1] == '\r') length--;
+        for (int i = 0; i < length; i++) {
+            if (line[i] != ' ' && line[i] != '\t') {
+                handler.line(line, length, lineNumber);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.gridops.microkernel.replay;
+
+import com.gridops.microkernel.core.contract.RulePlugin;
+import com.gridops.microkernel.core.discovery.PluginDiscovery;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Entry point of {@code replay.jar}:
+ * <pre>
+ * java -jar replay.jar [--plugins id,id] [--rules file.csv] [--shards n] [--queue-capacity n]
+ *                      [--partition-keys nodeId,zone] [--format ndjson|csv] file...
+ * </pre>
+ * Plugins are found with ServiceLoader, as in the host; {@code --plugins} selects a subset by id.
+ * {@code --rules} points the threshold-rules plugin at a candidate rule file.
+ */
+public final class ReplayMain {
+
+    private static final String USAGE = "Usage: replay [--plugins id,id] [--rules file.csv] [--shards n] "
+        + "[--queue-capacity n] [--partition-keys nodeId,zone] [--format ndjson|csv] file...";
+
+    private ReplayMain() {}
+
+    public static void main(String[] args) throws IOException {
+        List<String> pluginIds = null;
+        int shards = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        int queueCapacity = 4096;
+        List<String> partitionKeys = List.of("nodeId", "zone");
+        String format = null;
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--plugins" -> pluginIds = split(value(args, ++i, arg));
+                case "--rules" -> System.setProperty("gridops.threshold-rules.file", value(args, ++i, arg));
+                case "--shards" -> shards = Integer.parseInt(value(args, ++i, arg));
+                case "--queue-capacity" -> queueCapacity = Integer.parseInt(value(args, ++i, arg));
+                case "--partition-keys" -> partitionKeys = split(value(args, ++i, arg));
+                case "--format" -> format = value(args, ++i, arg);
+                case "-h", "--help" -> {
+                    System.out.println(USAGE);
+                    return;
+                }
+                default -> {
+                    if (arg.startsWith("--")) fail("Unknown option: " + arg);
+                    files.add(Path.of(arg));
+                }
+            }
+        }
+        if (files.isEmpty()) fail("No event files given");
+        for (Path file : files) {
+            if (!Files.isRegularFile(file)) fail("Not a file: " + file);
+        }
+
+        List<RulePlugin> plugins = PluginDiscovery.discoverFromServiceLoader();
+        if (pluginIds != null) {
+            List<String> selected = pluginIds;
+            List<String> known = plugins.stream().map(RulePlugin::id).collect(Collectors.toList());
+            for (String id : selected) {
+                if (!known.contains(id)) fail("Unknown plugin id: '" + id + "'. Valid ids: " + known);
+            }
+            plugins = plugins.stream().filter(p -> selected.contains(p.id())).collect(Collectors.toList());
+        }
+
+        Replayer replayer = new Replayer(plugins, shards, queueCapacity, partitionKeys);
+        String fixedFormat = format;
+        ReplayReport report = fixedFormat != null
+            ? replayer.replay(files, files.stream().map(f -> fixedFormat).collect(Collectors.toList()))
+            : replayer.replay(files);
+        System.out.print(report.format());
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) fail("Missing value for " + option);
+        return args[index];
+    }
+
+    private static List<String> split(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toList());
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        System.err.println(USAGE);
+        System.exit(2);
+    }
+}
@@ -0,0 +1,76 @@
+package com.gridops.microkernel.replay;
+
+import java.util.List;
+import java.util.Locale;
+
+/** Outcome of a replay: event totals, wall time and per-plugin alert counts and timing. */
+public final class ReplayReport {
+
+    private final long events;
+    private final long malformed;
+    private final String firstError;
+    private final long elapsedNanos;
+    private final List<PluginReport> plugins;
+
+    public ReplayReport(long events, long malformed, String firstError, long elapsedNanos, List<PluginReport> plugins) {
+        this.events = events;
+        this.malformed = malformed;
+        this.firstError = firstError;
+        this.elapsedNanos = elapsedNanos;
+        this.plugins = plugins;
+    }
+
+    public long getEvents() { return events; }
+    /** Lines that could not be parsed into an event (skipped). */
+    public long getMalformed() { return malformed; }
+    /** Description of the first malformed line, or null. */
+    public String getFirstError() { return firstError; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public List<PluginReport> getPlugins() { return plugins; }
+
+    public PluginReport plugin(String pluginId) {
+        return plugins.stream().filter(p -> p.getPluginId().equals(pluginId)).findFirst().orElse(null);
+    }
+
+    /** Plain-text summary table. */
+    public String format() {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "events: %d  malformed: %d  elapsed: %.2f s  throughput: %.0f events/s%n",
+            events, malformed, seconds, seconds > 0 ? events / seconds : 0));
+        if (firstError != null) out.append("first malformed line: ").append(firstError).append('\n');
+        out.append(String.format(Locale.ROOT, "%-24s %12s %10s %8s %10s %10s%n",
+            "plugin", "events", "alerts", "errors", "mean us", "max us"));
+        for (PluginReport p : plugins) {
+            out.append(String.format(Locale.ROOT, "%-24s %12d %10d %8d %10.2f %10.1f%n",
+                p.getPluginId(), p.getEvents(), p.getAlerts(), p.getErrors(), p.getMeanMicros(), p.getMaxNanos() / 1e3));
+        }
+        return out.toString();
+    }
+
+    public static final class PluginReport {
+        private final String pluginId;
+        private final long events;
+        private final long alerts;
+        private final long errors;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        public PluginReport(String pluginId, long events, long alerts, long errors, long totalNanos, long maxNanos) {
+            this.pluginId = pluginId;
+            this.events = events;
+            this.alerts = alerts;
+            this.errors = errors;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+        public String getPluginId() { return pluginId; }
+        /** Events the plugin was called for (events it is not subscribed to are not counted). */
+        public long getEvents() { return events; }
+        public long getAlerts() { return alerts; }
+        public long getErrors() { return errors; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+        public double getMeanMicros() { return events > 0 ? totalNanos / 1e3 / events : 0; }
+    }
+}
@@ -0,0 +1,57 @@
+package com.gridops.microkernel.replay;
+
+import com.gridops.microkernel.core.engine.PluginInstrumentation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Per-plugin call, alert, error and timing totals collected from every shard during a replay. */
+final class ReplayStats implements PluginInstrumentation {
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void onEvaluated(String pluginId, int events, long durationNanos, int alerts) {
+        Counters c = counters(pluginId);
+        c.events.add(events);
+        c.alerts.add(alerts);
+        c.nanos.add(durationNanos);
+        c.maxNanos.accumulate(durationNanos);
+    }
+
+    @Override
+    public void onError(String pluginId, int events, long durationNanos, Throwable error) {
+        Counters c = counters(pluginId);
+        c.events.add(events);
+        c.errors.increment();
+        c.nanos.add(durationNanos);
+        c.maxNanos.accumulate(durationNanos);
+    }
+
+    /** Totals per plugin, in the order given (plugins never called report zeros). */
+    List<ReplayReport.PluginReport> report(List<String> pluginIds) {
+        List<ReplayReport.PluginReport> reports = new ArrayList<>(pluginIds.size());
+        for (String id : pluginIds) {
+            Counters c = counters(id);
+            reports.add(new ReplayReport.PluginReport(id, c.events.sum(), c.alerts.sum(), c.errors.sum(),
+                c.nanos.sum(), c.maxNanos.get()));
+        }
+        return reports;
+    }
+
+    private Counters counters(String pluginId) {
+        return counters.computeIfAbsent(pluginId, id -> new Counters());
+    }
+
+    private static final class Counters {
+        final LongAdder events = new LongAdder();
+        final LongAdder alerts = new LongAdder();
+        final LongAdder errors = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    }
+}
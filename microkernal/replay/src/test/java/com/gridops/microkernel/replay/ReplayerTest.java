@@ -0,0 +1,67 @@
+package com.gridops.microkernel.replay;
+
+import com.gridops.microkernel.plugin.outagerisk.OutageCapacityRiskRulePlugin;
+import com.gridops.microkernel.plugin.pricespike.PriceSpikeRulePlugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysNdjsonAndCsvAndCountsAlertsPerPlugin() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            // Every 10th event is a spike
+            double price = i % 10 == 0 ? 200 : 50;
+            ndjson.append("{\"eventId\":\"p").append(i).append("\",\"eventType\":\"price\",")
+                .append("\"payload\":{\"nodeId\":\"N").append(i % 7).append("\",\"price\":").append(price).append("}}\n");
+        }
+        ndjson.append("{not json\n\n");
+        Path events = Files.writeString(dir.resolve("events.ndjson"), ndjson.toString());
+        Path outages = Files.writeString(dir.resolve("outages.csv"),
+            "eventId,eventType,zone,reserveMarginPct\r\n"
+                + "o1,outage-risk,NORTH,5\r\n"
+                + "o2,outage-risk,SOUTH,50\r\n");
+
+        Replayer replayer = new Replayer(List.of(new PriceSpikeRulePlugin(), new OutageCapacityRiskRulePlugin()),
+            3, 16, List.of("nodeId", "zone"));
+        ReplayReport report = replayer.replay(List.of(events, outages));
+
+        assertEquals(1002, report.getEvents());
+        assertEquals(1, report.getMalformed());
+        assertTrue(report.getFirstError().contains("events.ndjson:1001"));
+        ReplayReport.PluginReport price = report.plugin(PriceSpikeRulePlugin.ID);
+        assertEquals(1000, price.getEvents());
+        assertTrue(price.getAlerts() >= 100, "absolute spikes alone give 100 alerts");
+        assertEquals(0, price.getErrors());
+        ReplayReport.PluginReport outage = report.plugin(OutageCapacityRiskRulePlugin.ID);
+        assertEquals(2, outage.getEvents());
+        assertTrue(outage.getAlerts() >= 1);
+        assertTrue(report.format().contains(PriceSpikeRulePlugin.ID));
+    }
+
+    @Test
+    void mappedLinesStitchesLinesAcrossRegions() throws IOException {
+        Path file = Files.writeString(dir.resolve("lines.txt"), "alpha\nbeta\r\n\ngamma-delta\nlast", StandardCharsets.UTF_8);
+        List<String> lines = new ArrayList<>();
+        List<Long> numbers = new ArrayList<>();
+        MappedLines.forEach(file, 4, (line, length, lineNumber) -> {
+            lines.add(new String(line, 0, length, StandardCharsets.UTF_8));
+            numbers.add(lineNumber);
+        });
+        assertEquals(List.of("alpha", "beta", "gamma-delta", "last"), lines);
+        assertEquals(List.of(1L, 2L, 4L, 5L), numbers);
+    }
+}